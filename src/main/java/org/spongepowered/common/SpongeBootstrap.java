@@ -41,6 +41,7 @@
 import org.spongepowered.common.command.SpongeCommandFactory;
 import org.spongepowered.common.service.ban.SpongeBanService;
 import org.spongepowered.common.service.pagination.SpongePaginationService;
+import org.spongepowered.common.service.permission.SpongeContextCalculator;
 import org.spongepowered.common.service.rcon.MinecraftRconService;
 import org.spongepowered.common.service.sql.SqlServiceImpl;
 import org.spongepowered.common.service.user.SpongeUserStorageService;
@@ -67,6 +68,7 @@ public static void initializeServices() {
         registerService(BanService.class, new SpongeBanService());
         registerService(WhitelistService.class, new SpongeWhitelistService());
         SpongeInternalListeners.getInstance().registerServiceCallback(PermissionService.class, input -> {
+            input.registerContextCalculator(new SpongeContextCalculator());
             if (Sponge.isServerAvailable()) {
                 Sponge.getServer().getConsole().getContainingCollection();
             }
@@ -267,6 +267,8 @@ public static void postShutdownEvents() {
         check(game);
         postState(GameState.GAME_STOPPING, SpongeEventFactory.createGameStoppingEvent(Sponge.getCauseStackManager().getCurrentCause()));
         postState(GameState.GAME_STOPPED, SpongeEventFactory.createGameStoppedEvent(Sponge.getCauseStackManager().getCurrentCause()));
+        // Configs changed while running are written behind, make sure they all hit the disk
+        getConfigSaveManager().shutdown();
     }
 
     // TODO this code is used a BUNCH of times
@@ -58,10 +58,12 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.asm.util.PrettyPrinter;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.bridge.block.BlockBridge;
 import org.spongepowered.common.bridge.world.WorldServerBridge;
 import org.spongepowered.common.data.persistence.NbtTranslator;
 import org.spongepowered.common.data.util.DataUtil;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.block.BlockPhase;
@@ -96,7 +98,9 @@ public class SpongeBlockSnapshot implements BlockSnapshot {
     private ImmutableList<ImmutableDataManipulator<?, ?>> blockData;
     private ImmutableMap<Key<?>, ImmutableValue<?>> blockKeyValueMap;
     private ImmutableSet<ImmutableValue<?>> blockValueSet;
-    @Nullable final NBTTagCompound compound;
+    @Nullable private NBTTagCompound compound;
+    // The tile entity to capture the data from once it's requested, see SpongeBlockSnapshotBuilder#deferredTileData
+    @Nullable private TileEntity deferredTileEntity;
     @Nullable final UUID creatorUniqueId;
     @Nullable final UUID notifierUniqueId;
     // Internal use only
@@ -126,9 +130,71 @@ public class SpongeBlockSnapshot implements BlockSnapshot {
         this.keyValueMap = tileBuilder.build();
         this.valueSet = this.keyValueMap.isEmpty() ? ImmutableSet.of() : ImmutableSet.copyOf(this.keyValueMap.values());
         this.compound = builder.compound;
+        if (builder.compound == null && builder.deferredTileEntity != null) {
+            final PhaseContext<?> context = SpongeImplHooks.isMainThread() ? PhaseTracker.getInstance().getCurrentContext() : null;
+            if (context != null && !context.isEmpty()) {
+                // The capturing context releases the tile entity once it closes
+                this.deferredTileEntity = builder.deferredTileEntity;
+                context.deferTileData(this);
+            } else {
+                this.compound = writeTileData(builder.deferredTileEntity);
+            }
+        }
         this.changeFlag = builder.flag;
     }
 
+    /**
+     * Gets the tile entity data of this snapshot, capturing it first if its
+     * capture was deferred. The data is not copied and must not be modified.
+     *
+     * @return The tile entity data, if a tile entity was present
+     */
+    @Nullable
+    synchronized NBTTagCompound getTileData() {
+        // Snapshots which may be observed by others are captured on the main thread
+        // before they escape, so this only writes off the main thread as a last resort
+        this.captureDeferredTileData();
+        return this.compound;
+    }
+
+    /**
+     * Captures the data of the tile entity whose capture was deferred, as
+     * this snapshot is about to be observed by an event.
+     */
+    public synchronized void captureDeferredTileData() {
+        final TileEntity deferredTileEntity = this.deferredTileEntity;
+        if (deferredTileEntity != null) {
+            this.compound = writeTileData(deferredTileEntity);
+            this.deferredTileEntity = null;
+        }
+    }
+
+    /**
+     * Drops the reference to the tile entity whose data capture was
+     * deferred, once the phase that captured this snapshot has completed.
+     * The data is captured instead if a listener for the block events was
+     * registered in the meantime, as the snapshot may have been passed to it.
+     */
+    public synchronized void releaseDeferredTileData() {
+        if (ShouldFire.CHANGE_BLOCK_EVENT || ShouldFire.MOVE_ENTITY_EVENT) {
+            this.captureDeferredTileData();
+        } else {
+            this.deferredTileEntity = null;
+        }
+    }
+
+    @Nullable
+    private static NBTTagCompound writeTileData(final TileEntity tileEntity) {
+        final NBTTagCompound compound = new NBTTagCompound();
+        // Some mods like OpenComputers assert if attempting to save robot while moving
+        try {
+            tileEntity.writeToNBT(compound);
+            return compound;
+        } catch (Throwable t) {
+            return null;
+        }
+    }
+
     @Override
     public BlockState getState() {
         return this.blockState;
@@ -194,18 +260,20 @@ public boolean restore(final boolean force, final BlockChangeFlag flag) {
 //            if (current.getBlock().getClass() == BlockShulkerBox.class) {
 //                world.bridge$removeTileEntity(pos);
 //            }
+            // Capture deferred tile data before the tile entity is removed
+            final NBTTagCompound compound = getTileData();
             world.removeTileEntity(pos);
             PhaseTracker.getInstance().setBlockState(mixinWorldServer, pos, replaced, BlockChangeFlagRegistryModule.andNotifyClients(flag));
-            if (this.compound != null) {
+            if (compound != null) {
                 TileEntity te = world.getTileEntity(pos);
                 if (te != null) {
-                    te.readFromNBT(this.compound);
+                    te.readFromNBT(compound);
                 }
                 if (te == null) {
                     // Because, some mods will "unintentionally" only obey some of the rules but not all.
                     // In cases like this, we need to directly just say "fuck it" and deserialize from the compound directly.
                     try {
-                        te = TileEntity.create(world, this.compound);
+                        te = TileEntity.create(world, compound);
                         if (te != null) {
                             world.getChunk(pos).addTileEntity(te);
                         }
@@ -219,7 +287,7 @@ public boolean restore(final boolean force, final BlockChangeFlag flag) {
                             .add("Here's the provided compound:");
                         printer.add();
                         try {
-                            printer.addWrapped(80, "%s : %s", "This compound", this.compound);
+                            printer.addWrapped(80, "%s : %s", "This compound", compound);
                         } catch (Throwable error) {
                             printer.addWrapped(80, "Unable to get the string of this compound. Printing out some of the entries to better assist");
 
@@ -297,8 +365,9 @@ public DataContainer toContainer() {
         if (this.blockState != this.extendedState) {
             container.set(Constants.Block.BLOCK_EXTENDED_STATE, this.extendedState);
         }
-        if (this.compound != null) {
-            container.set(Constants.Sponge.UNSAFE_NBT, NbtTranslator.getInstance().translateFrom(this.compound));
+        final NBTTagCompound compound = getTileData();
+        if (compound != null) {
+            container.set(Constants.Sponge.UNSAFE_NBT, NbtTranslator.getInstance().translateFrom(compound));
         }
         final List<DataView> dataList = DataUtil.getSerializedImmutableManipulatorList(this.extraData);
         if (!dataList.isEmpty()) {
@@ -509,7 +578,8 @@ public Set<ImmutableValue<?>> getValues() {
     }
 
     public Optional<NBTTagCompound> getCompound() {
-        return this.compound == null ? Optional.<NBTTagCompound>empty() : Optional.of(this.compound.copy());
+        final NBTTagCompound compound = getTileData();
+        return compound == null ? Optional.<NBTTagCompound>empty() : Optional.of(compound.copy());
     }
 
     public SpongeBlockSnapshotBuilder createBuilder() {
@@ -521,8 +591,9 @@ public SpongeBlockSnapshotBuilder createBuilder() {
         for (final ImmutableDataManipulator<?, ?> manipulator : this.extraData) {
             builder.add(manipulator);
         }
-        if (this.compound != null) {
-            builder.unsafeNbt(this.compound);
+        final NBTTagCompound compound = getTileData();
+        if (compound != null) {
+            builder.unsafeNbt(compound);
         }
         return builder;
     }
@@ -563,10 +634,11 @@ public Optional<TileEntityArchetype> createArchetype() {
         if (!(type instanceof ITileEntityProvider)) {
             return Optional.empty();
         }
-        if (this.compound == null) { // We can't retrieve the TileEntityType
+        final NBTTagCompound compound = getTileData();
+        if (compound == null) { // We can't retrieve the TileEntityType
             return Optional.empty();
         }
-        final String tileId = this.compound.getString(Constants.Item.BLOCK_ENTITY_ID);
+        final String tileId = compound.getString(Constants.Item.BLOCK_ENTITY_ID);
         final Class<? extends TileEntity> tileClass = (Class<? extends TileEntity>) TileEntityTypeRegistryModule.getInstance().getById(tileId)
             .map(TileEntityType::getTileEntityType)
             .orElse(null);
@@ -578,7 +650,7 @@ public Optional<TileEntityArchetype> createArchetype() {
         final TileEntityArchetype archetype = TileEntityArchetype.builder()
                 .tile(tileType)
                 .state(this.blockState)
-                .tileData(NbtTranslator.getInstance().translate(this.compound))
+                .tileData(NbtTranslator.getInstance().translate(compound))
                 .build();
         return Optional.of(archetype);
     }
@@ -597,7 +669,7 @@ public boolean equals(final Object o) {
                Objects.equal(this.worldUniqueId, that.worldUniqueId) &&
                Objects.equal(this.pos, that.pos) &&
                Objects.equal(this.extraData, that.extraData) &&
-               Objects.equal(this.compound, that.compound);
+               Objects.equal(getTileData(), that.getTileData());
     }
 
     @Override
@@ -608,6 +680,6 @@ public int hashCode() {
                 this.pos,
                 this.extraData,
                 this.changeFlag,
-                this.compound);
+                getTileData());
     }
 }
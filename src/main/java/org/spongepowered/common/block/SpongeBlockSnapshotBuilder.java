@@ -90,6 +90,7 @@ public static SpongeBlockSnapshotBuilder pooled() {
     Vector3i coords;
     @Nullable List<ImmutableDataManipulator<?, ?>> manipulators;
     @Nullable NBTTagCompound compound;
+    @Nullable TileEntity deferredTileEntity;
     SpongeBlockChangeFlag flag = (SpongeBlockChangeFlag) BlockChangeFlags.ALL;
     private final boolean pooled;
 
@@ -175,6 +176,22 @@ public SpongeBlockSnapshotBuilder notifier(final UUID uuid) {
 
     public SpongeBlockSnapshotBuilder unsafeNbt(final NBTTagCompound compound) {
         this.compound = compound.copy();
+        this.deferredTileEntity = null;
+        return this;
+    }
+
+    /**
+     * Defers capturing the data of the given tile entity until the data of the
+     * built snapshot is requested. Only use this if nothing can request the
+     * data before the tile entity is modified, otherwise the snapshot won't
+     * reflect the original state.
+     *
+     * @param tileEntity The tile entity to capture the data of
+     * @return This builder, for chaining
+     */
+    public SpongeBlockSnapshotBuilder deferredTileData(final TileEntity tileEntity) {
+        this.deferredTileEntity = checkNotNull(tileEntity, "tileEntity");
+        this.compound = null;
         return this;
     }
 
@@ -228,7 +245,7 @@ public SpongeBlockSnapshotBuilder from(final BlockSnapshot holder) {
         this.coords = holder.getPosition();
         this.manipulators = Lists.newArrayList(holder.getManipulators());
         if (holder instanceof SpongeBlockSnapshot) {
-            final NBTTagCompound compound = ((SpongeBlockSnapshot) holder).compound;
+            final NBTTagCompound compound = ((SpongeBlockSnapshot) holder).getTileData();
             if (compound != null) {
                 this.compound = compound.copy();
             }
@@ -246,6 +263,7 @@ public SpongeBlockSnapshotBuilder reset() {
         this.coords = null;
         this.manipulators = null;
         this.compound = null;
+        this.deferredTileEntity = null;
         this.flag = null;
         return this;
     }
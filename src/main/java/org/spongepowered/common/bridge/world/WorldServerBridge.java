@@ -30,6 +30,7 @@
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
@@ -45,10 +46,14 @@
 import org.spongepowered.common.event.tracking.context.MultiBlockCaptureSupplier;
 import org.spongepowered.common.event.tracking.context.SpongeProxyBlockAccess;
 import org.spongepowered.common.relocate.co.aikar.timings.WorldTimingsHandler;
+import org.spongepowered.common.world.ChunkGCBudget;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import javax.annotation.Nullable;
 
@@ -133,6 +138,45 @@ public interface WorldServerBridge {
 
     void bridge$doChunkGC();
 
+    ChunkGCBudget bridge$getChunkGCBudget();
+
+    /**
+     * Counts the entities of the given class within the given bounding box
+     * which pass the filter. Sees the same entities as
+     * {@link WorldServer#getEntitiesWithinAABB(Class, AxisAlignedBB, com.google.common.base.Predicate)}
+     * without collecting them into a list.
+     *
+     * @param clazz The entity class
+     * @param aabb The bounding box
+     * @param filter The filter, or null to accept every entity
+     * @param <T> The entity type
+     * @return The number of matching entities
+     */
+    <T extends Entity> int bridge$countEntitiesWithinAABB(Class<? extends T> clazz, AxisAlignedBB aabb, @Nullable Predicate<? super T> filter);
+
+    /**
+     * Passes the entities of the given class within the given bounding box
+     * to the consumer. The consumer must not add entities to or remove
+     * entities from the world.
+     *
+     * @param clazz The entity class
+     * @param aabb The bounding box
+     * @param consumer The consumer
+     * @param <T> The entity type
+     */
+    <T extends Entity> void bridge$forEachEntityWithinAABB(Class<? extends T> clazz, AxisAlignedBB aabb, Consumer<? super T> consumer);
+
+    /**
+     * Loads the chunk at the given position without reading it from disk on
+     * the server thread, see {@link org.spongepowered.common.bridge.world.chunk.ChunkProviderServerBridge#bridge$loadChunkAsync(int, int)}.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The future completed on the server thread with the loaded
+     *     chunk, or null if the chunk does not exist
+     */
+    CompletableFuture<Chunk> bridge$loadChunkAsync(int x, int z);
+
     void bridge$incrementChunkLoadCount();
 
     void bridge$updateConfigCache();
@@ -69,4 +69,19 @@ public interface ChunkProviderServerBridge {
      * look at ChunkProviderServerMixin#impl$ProvideChunkForced(Chunk, int, int)
      */
     Chunk bridge$loadChunkForce(final int x, final int z);
+
+    /**
+     * Loads the chunk at the given position without blocking the server
+     * thread on disk access. Reading, inflating and parsing the stored data
+     * happens off-thread, only attaching the chunk to the world runs on the
+     * server thread. Chunks that were never saved are not generated.
+     *
+     * <p>Must be called from the server thread.</p>
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The future completed on the server thread with the loaded
+     *     chunk, or null if the chunk does not exist
+     */
+    CompletableFuture<Chunk> bridge$loadChunkAsync(int x, int z);
 }
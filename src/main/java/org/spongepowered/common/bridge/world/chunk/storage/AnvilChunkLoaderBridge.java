@@ -24,14 +24,67 @@
  */
 package org.spongepowered.common.bridge.world.chunk.storage;
 
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
+import javax.annotation.Nullable;
+
 public interface AnvilChunkLoaderBridge {
 
     // Forge method
     boolean bridge$chunkExists(World world, int x, int z);
 
     Path bridge$getWorldDir();
+
+    /**
+     * Writes the latest pending data of the chunk at the given position,
+     * called by the {@link org.spongepowered.common.world.storage.ChunkSavePipeline}.
+     *
+     * @param pos The position of the chunk
+     */
+    void bridge$writeQueuedChunk(ChunkPos pos);
+
+    boolean bridge$isSaveBacklogged();
+
+    /**
+     * Reads, inflates and upgrades the stored data of a chunk. Safe to call
+     * from any thread.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The chunk data, or null if the chunk has not been saved yet
+     * @throws IOException If the region file could not be read
+     */
+    @Nullable
+    NBTTagCompound bridge$readChunkData(int x, int z) throws IOException;
+
+    /**
+     * Starts tracking saves of the chunk at the given position, to detect
+     * whether data read through {@link #bridge$readChunkData(int, int)} may
+     * be outdated.
+     *
+     * @param pos The chunk position
+     */
+    void bridge$trackChunkRead(ChunkPos pos);
+
+    /**
+     * Stops tracking saves of the chunk at the given position.
+     *
+     * @param pos The chunk position
+     * @return True if the chunk was saved since tracking started
+     */
+    boolean bridge$finishChunkRead(ChunkPos pos);
+
+    /**
+     * Sets chunk data read through {@link #bridge$readChunkData(int, int)}
+     * to be used by the next load of the chunk at the given position.
+     *
+     * @param pos The chunk position, or null to clear
+     * @param compound The chunk data, or null to clear
+     */
+    void bridge$setPrefetchedChunkData(@Nullable ChunkPos pos, @Nullable NBTTagCompound compound);
 }
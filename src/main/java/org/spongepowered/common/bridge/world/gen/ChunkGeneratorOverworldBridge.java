@@ -25,11 +25,26 @@
 package org.spongepowered.common.bridge.world.gen;
 
 import net.minecraft.world.biome.Biome;
+import net.minecraft.world.gen.ChunkGeneratorOverworld;
 import org.spongepowered.api.world.gen.BiomeGenerator;
 
+import javax.annotation.Nullable;
+
 public interface ChunkGeneratorOverworldBridge {
 
     void bridge$setBiomeGenerator(BiomeGenerator biomes);
 
     Biome[] bridge$getBiomesForGeneration(final int x, final int z);
+
+    /**
+     * Creates a generator with the same seed and settings as this one, which
+     * may generate base terrain on another thread. Biomes are not generated
+     * by the copy, they have to be provided through
+     * {@link #bridge$setPresetBiomesForGeneration(Biome[])}.
+     *
+     * @return The new generator
+     */
+    ChunkGeneratorOverworld bridge$createTerrainWorker();
+
+    void bridge$setPresetBiomesForGeneration(@Nullable Biome[] biomes);
 }
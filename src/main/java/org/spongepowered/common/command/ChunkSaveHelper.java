@@ -89,8 +89,8 @@ public static void writeChunks(final File file, final boolean logAll) {
                                     new BlockPos(GenericMath.floor(entity.posX), GenericMath.floor(entity.posY), GenericMath.floor(entity.posZ));
                             if (!collidingCoords.contains(coords)) {
                                 collidingCoords.add(coords);
-                                final int size = entity.world.getEntitiesWithinAABBExcludingEntity(entity, entity.getCollisionBoundingBox().grow(1, 1, 1))
-                                        .size();
+                                final int size = ((WorldServerBridge) world).bridge$countEntitiesWithinAABB(Entity.class,
+                                        entity.getCollisionBoundingBox().grow(1, 1, 1), other -> other != entity);
                                 if (size < 5) {
                                     continue;
                                 }
@@ -0,0 +1,73 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command;
+
+import com.google.gson.stream.JsonWriter;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.event.ListenerMetrics;
+import org.spongepowered.common.event.RegisteredListener;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.List;
+
+class ListenerMetricsHelper {
+
+    public static void writeListenerMetrics(final File file, final List<RegisteredListener<?>> listeners, final int sampleRate) {
+        try {
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+
+            try (final JsonWriter writer = new JsonWriter(new FileWriter(file))) {
+                writer.setIndent("  ");
+                writer.beginObject();
+                writer.name("sampleRate").value(sampleRate);
+                writer.name("listeners").beginArray();
+                for (final RegisteredListener<?> listener : listeners) {
+                    final ListenerMetrics metrics = listener.getMetrics();
+                    writer.beginObject();
+                    writer.name("plugin").value(listener.getPlugin().getId());
+                    writer.name("listener").value(listener.getHandle().getClass().getName());
+                    writer.name("event").value(listener.getEventType().toString());
+                    writer.name("order").value(listener.getOrder().name());
+                    writer.name("invocations").value(metrics.getInvocations());
+                    writer.name("cancellations").value(metrics.getCancellations());
+                    writer.name("sampledInvocations").value(metrics.getSampledInvocations());
+                    writer.name("meanTimeNanos").value(metrics.getMeanTime());
+                    writer.name("maxTimeNanos").value(metrics.getMaxTime());
+                    writer.name("estimatedTotalTimeNanos").value(metrics.getEstimatedTotalTime());
+                    writer.endObject();
+                }
+                writer.endArray();
+                writer.endObject();
+            }
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Could not save listener metrics to {}", file, e);
+        }
+    }
+
+}
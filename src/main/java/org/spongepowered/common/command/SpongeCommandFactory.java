@@ -44,6 +44,8 @@
 import org.spongepowered.api.text.format.TextColor;
 import org.spongepowered.common.command.args.FilteredPluginsCommandElement;
 import org.spongepowered.common.relocate.co.aikar.timings.SpongeTimingsFactory;
+import org.spongepowered.common.relocate.co.aikar.timings.TickLatencyHistogram;
+import org.spongepowered.common.relocate.co.aikar.timings.TickProfiler;
 import co.aikar.timings.Timings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -75,6 +77,7 @@
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.service.pagination.PaginationList;
+import org.spongepowered.api.service.permission.PermissionService;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.action.ClickAction;
 import org.spongepowered.api.text.action.TextActions;
@@ -105,9 +108,15 @@
 import org.spongepowered.common.config.type.TrackerConfig;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.event.ListenerMetrics;
+import org.spongepowered.common.event.RegisteredListener;
 import org.spongepowered.common.event.SpongeEventManager;
 import org.spongepowered.common.mixin.core.world.WorldAccessor;
+import org.spongepowered.common.scheduler.AsyncTaskExecutor;
+import org.spongepowered.common.service.permission.SpongePermissionService;
 import org.spongepowered.common.util.SpongeHooks;
+import org.spongepowered.common.world.ChunkGCBudget;
+import org.spongepowered.common.world.storage.ChunkSavePipeline;
 
 import java.io.File;
 import java.net.MalformedURLException;
@@ -120,6 +129,7 @@
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -224,6 +234,10 @@ public static CommandSpec createSpongeCommand() {
         nonFlagChildren.register(createSpongeTimingsCommand(), "timings");
         nonFlagChildren.register(createSpongeWhichCommand(), "which");
         nonFlagChildren.register(createSpongeMetricsCommand(), "metrics");
+        nonFlagChildren.register(createSpongeSchedulerCommand(), "scheduler");
+        nonFlagChildren.register(createSpongePermissionsCommand(), "permissions");
+        nonFlagChildren.register(createSpongeListenersCommand(), "listeners");
+        nonFlagChildren.register(createSpongeMsptCommand(), "mspt");
         flagChildren.register(createSpongeChunksCommand(), "chunks");
         flagChildren.register(createSpongeTPSCommand(), "tps");
         trackerFlagChildren.register(createSpongeConfigCommand(), "config");
@@ -246,6 +260,10 @@ INDENT, title("plugins"), LONG_INDENT, "List currently installed plugins\n",
                 INDENT, title("which"), LONG_INDENT, "List plugins that own a specific command\n",
                 INDENT, title("tps"), LONG_INDENT, "Provides TPS (ticks per second) data for loaded worlds\n",
                 INDENT, title("metrics"), LONG_INDENT, "Gets or sets permission for metric plugins to operate\n",
+                INDENT, title("scheduler"), LONG_INDENT, "Provides asynchronous task data for each plugin\n",
+                INDENT, title("permissions"), LONG_INDENT, "Provides cache data of the built-in permission service\n",
+                INDENT, title("listeners"), LONG_INDENT, "Provides dispatch data of the busiest event listeners, optionally reset or export\n",
+                INDENT, title("mspt"), LONG_INDENT, "Provides tick time percentiles of the server, its phases and loaded worlds\n",
                 SpongeImplHooks.getAdditionalCommandDescriptions()))
             .arguments(firstParsing(nonFlagChildren,
                 flags().flag("-global", "g")
@@ -372,6 +390,19 @@ protected Text processGlobal(final SpongeConfig<GlobalConfig> config, final Comm
                         source.sendMessage(Text.of("World ", Text.of(TextStyles.BOLD, world.getName()),
                             getChunksInfo(((WorldServer) world))));
                     }
+                    final ChunkSavePipeline savePipeline = ChunkSavePipeline.getInstance();
+                    if (savePipeline != null) {
+                        final long chunksWritten = Math.max(savePipeline.getChunksWritten(), 1);
+                        source.sendMessage(Text.of("Chunk saving", NEWLINE_TEXT,
+                            key("Pending chunks: "), value(savePipeline.getPendingChunks()), NEWLINE_TEXT,
+                            key("Written chunks: "), value(savePipeline.getChunksWritten()), NEWLINE_TEXT,
+                            key("Merged saves: "), value(savePipeline.getCoalescedSaves()), NEWLINE_TEXT,
+                            key("Written bytes (uncompressed): "), value(savePipeline.getBytesWritten()), NEWLINE_TEXT,
+                            key("Mean write time: "), value(THREE_DECIMAL_DIGITS_FORMATTER.format(
+                                savePipeline.getTotalWriteTime() / chunksWritten * 1.0e-6d) + "ms"), NEWLINE_TEXT,
+                            key("Max write time: "), value(THREE_DECIMAL_DIGITS_FORMATTER.format(savePipeline.getMaxWriteTime() * 1.0e-6d) + "ms")
+                        ));
+                    }
                     return Text.of("Printed chunk info for all worlds ");
                 }
 
@@ -404,13 +435,20 @@ protected Text getChunksInfo(final WorldServer worldserver) {
                     if (((WorldBridge) worldserver).bridge$isFake() || worldserver.getWorldInfo() == null) {
                         return Text.of(NEWLINE_TEXT, "Fake world");
                     }
+                    final ChunkGCBudget gcBudget = ((WorldServerBridge) worldserver).bridge$getChunkGCBudget();
                     return Text.of(NEWLINE_TEXT, key("DimensionId: "), value(((WorldServerBridge) worldserver).bridge$getDimensionId()), NEWLINE_TEXT,
                         key("Loaded chunks: "), value(worldserver.getChunkProvider().getLoadedChunkCount()), NEWLINE_TEXT,
                         key("Active chunks: "), value(worldserver.getChunkProvider().getLoadedChunks().size()), NEWLINE_TEXT,
                         key("Entities: "), value(worldserver.loadedEntityList.size()), NEWLINE_TEXT,
                         key("Tile Entities: "), value(worldserver.loadedTileEntityList.size()), NEWLINE_TEXT,
                         key("Removed Entities:"), value(((WorldAccessor) worldserver).accessor$getUnloadedEntityList().size()), NEWLINE_TEXT,
-                        key("Removed Tile Entities: "), value(((WorldAccessor) worldserver).accessor$getTileEntitiesToBeRemoved()), NEWLINE_TEXT
+                        key("Removed Tile Entities: "), value(((WorldAccessor) worldserver).accessor$getTileEntitiesToBeRemoved()), NEWLINE_TEXT,
+                        key("Chunk GC scanned: "), value(gcBudget.getChunksScanned()), NEWLINE_TEXT,
+                        key("Chunk GC queued: "), value(gcBudget.getChunksQueued()), NEWLINE_TEXT,
+                        key("Chunks unloaded: "), value(gcBudget.getChunksUnloaded()), NEWLINE_TEXT,
+                        key("Chunk GC deferrals: "), value(gcBudget.getDeferrals()), NEWLINE_TEXT,
+                        key("Chunk GC time: "), value(THREE_DECIMAL_DIGITS_FORMATTER.format(gcBudget.getNanosSpent() * 1.0e-6d) + "ms"), NEWLINE_TEXT,
+                        key("Chunk GC budget: "), value(THREE_DECIMAL_DIGITS_FORMATTER.format(gcBudget.getTickBudgetNanos() * 1.0e-6d) + "ms/tick"), NEWLINE_TEXT
                     );
                 }
             })
@@ -750,6 +788,24 @@ private static CommandCallable createSpongeTimingsCommand() {
                     return CommandResult.success();
                 })
                 .build(), "report", "paste")
+            .child(CommandSpec.builder()
+                .executor((src, args) -> {
+                    if (!Timings.isTimingsEnabled()) {
+                        src.sendMessage(Text.of("Please enable timings by typing /sponge timings on"));
+                        return CommandResult.empty();
+                    }
+                    SpongeTimingsFactory.generateLocalExport(src);
+                    return CommandResult.success();
+                })
+                .build(), "export")
+            .child(CommandSpec.builder()
+                .arguments(choices(Text.of("before"), SpongeTimingsFactory::getLocalExports, Function.identity()),
+                    choices(Text.of("after"), SpongeTimingsFactory::getLocalExports, Function.identity()))
+                .executor((src, args) -> {
+                    SpongeTimingsFactory.diffLocalExports(src, args.<String>getOne("before").get(), args.<String>getOne("after").get());
+                    return CommandResult.success();
+                })
+                .build(), "diff")
             .child(CommandSpec.builder()
                 .executor((src, args) -> {
                     Timings.setTimingsEnabled(true);
@@ -856,6 +912,137 @@ private static CommandSpec createSpongeTPSCommand() {
             .build();
     }
 
+    private static CommandSpec createSpongeSchedulerCommand() {
+        return CommandSpec.builder()
+            .permission("sponge.command.scheduler")
+            .description(Text.of("Provides asynchronous task data for each plugin."))
+            .executor((src, args) -> {
+                final List<AsyncTaskExecutor.PluginMetrics> metrics = new ArrayList<>(SpongeImpl.getScheduler().getAsyncExecutor().getMetrics());
+                if (metrics.isEmpty()) {
+                    src.sendMessage(Text.of("No asynchronous tasks have been submitted yet."));
+                    return CommandResult.success();
+                }
+                metrics.sort(Comparator.comparing(AsyncTaskExecutor.PluginMetrics::getPluginId));
+                for (final AsyncTaskExecutor.PluginMetrics pluginMetrics : metrics) {
+                    final long completed = Math.max(pluginMetrics.getCompletedTasks(), 1);
+                    src.sendMessage(Text.of("Plugin [", TextColors.DARK_GREEN, pluginMetrics.getPluginId(), TextColors.RESET, "] Running: ",
+                        pluginMetrics.getRunningTasks(), ", Queued: ", pluginMetrics.getQueuedTasks(),
+                        ", Submitted: ", pluginMetrics.getSubmittedTasks(), ", Rejected: ", TextColors.RED, pluginMetrics.getRejectedTasks(),
+                        TextColors.RESET, ", Mean wait: ", TextColors.LIGHT_PURPLE,
+                        THREE_DECIMAL_DIGITS_FORMATTER.format(pluginMetrics.getTotalWaitTime() / completed * 1.0e-6d), "ms",
+                        TextColors.RESET, ", Mean run: ", TextColors.LIGHT_PURPLE,
+                        THREE_DECIMAL_DIGITS_FORMATTER.format(pluginMetrics.getTotalRunTime() / completed * 1.0e-6d), "ms",
+                        TextColors.RESET, ", Max run: ", TextColors.RED,
+                        THREE_DECIMAL_DIGITS_FORMATTER.format(pluginMetrics.getMaxRunTime() * 1.0e-6d), "ms"));
+                }
+                return CommandResult.success();
+            })
+            .build();
+    }
+
+    private static CommandSpec createSpongePermissionsCommand() {
+        return CommandSpec.builder()
+            .permission("sponge.command.permissions")
+            .description(Text.of("Provides cache data of the built-in permission service."))
+            .executor((src, args) -> {
+                final PermissionService service = Sponge.getServiceManager().provideUnchecked(PermissionService.class);
+                if (!(service instanceof SpongePermissionService)) {
+                    throw new CommandException(Text.of("The built-in permission service is not in use."));
+                }
+                final long hits = ((SpongePermissionService) service).getPermissionCacheHits();
+                final long misses = ((SpongePermissionService) service).getPermissionCacheMisses();
+                final double hitRate = hits + misses == 0 ? 0 : 100.0 * hits / (hits + misses);
+                src.sendMessage(Text.of("Resolved permission cache hits: ", TextColors.DARK_GREEN, hits,
+                    TextColors.RESET, ", Misses: ", TextColors.RED, misses,
+                    TextColors.RESET, ", Hit rate: ", TextColors.LIGHT_PURPLE, THREE_DECIMAL_DIGITS_FORMATTER.format(hitRate), "%"));
+                return CommandResult.success();
+            })
+            .build();
+    }
+
+    private static CommandSpec createSpongeListenersCommand() {
+        return CommandSpec.builder()
+            .permission("sponge.command.listeners")
+            .description(Text.of("Provides dispatch data of the busiest event listeners."))
+            .arguments(optional(firstParsing(literal(Text.of("reset"), "reset"), literal(Text.of("export"), "export"))))
+            .executor((src, args) -> {
+                final SpongeEventManager eventManager = (SpongeEventManager) Sponge.getEventManager();
+                if (!eventManager.isListenerMetricsEnabled()) {
+                    throw new CommandException(Text.of("Listener metrics are disabled in the timings config."));
+                }
+                final List<RegisteredListener<?>> listeners = eventManager.getRegisteredListeners();
+                if (args.hasAny("reset")) {
+                    listeners.forEach(listener -> listener.getMetrics().reset());
+                    src.sendMessage(Text.of("Listener metrics have been reset."));
+                    return CommandResult.success();
+                }
+                if (args.hasAny("export")) {
+                    final File file = new File(new File(new File("."), "dumps"),
+                        "listener-metrics-" + DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss").format(LocalDateTime.now()) + ".json");
+                    src.sendMessage(Text.of("Writing listener metrics to: ", file));
+                    ListenerMetricsHelper.writeListenerMetrics(file, listeners, eventManager.getListenerMetricsSampleRate());
+                    src.sendMessage(Text.of("Listener metrics export complete"));
+                    return CommandResult.success();
+                }
+                // Take a snapshot, the metrics keep changing while sorting
+                final Map<RegisteredListener<?>, Long> totalTimes = new IdentityHashMap<>();
+                listeners.forEach(listener -> totalTimes.put(listener, listener.getMetrics().getEstimatedTotalTime()));
+                listeners.sort(Comparator.comparing((Function<RegisteredListener<?>, Long>) totalTimes::get).reversed());
+                for (final RegisteredListener<?> listener : listeners.subList(0, Math.min(listeners.size(), 10))) {
+                    final ListenerMetrics metrics = listener.getMetrics();
+                    src.sendMessage(Text.of("Plugin [", TextColors.DARK_GREEN, listener.getPlugin().getId(), TextColors.RESET, "] ",
+                        listener.getHandle().getClass().getSimpleName(), " on ", listener.getEventType().getType().getSimpleName(),
+                        " Calls: ", metrics.getInvocations(), ", Cancelled: ", metrics.getCancellations(),
+                        ", Total: ", TextColors.LIGHT_PURPLE,
+                        THREE_DECIMAL_DIGITS_FORMATTER.format(metrics.getEstimatedTotalTime() * 1.0e-6d), "ms",
+                        TextColors.RESET, ", Mean: ", TextColors.LIGHT_PURPLE,
+                        THREE_DECIMAL_DIGITS_FORMATTER.format(metrics.getMeanTime() * 1.0e-6d), "ms",
+                        TextColors.RESET, ", Max: ", TextColors.RED,
+                        THREE_DECIMAL_DIGITS_FORMATTER.format(metrics.getMaxTime() * 1.0e-6d), "ms"));
+                }
+                return CommandResult.success();
+            })
+            .build();
+    }
+
+    private static CommandSpec createSpongeMsptCommand() {
+        return CommandSpec.builder()
+            .permission("sponge.command.mspt")
+            .description(Text.of("Provides tick time percentiles of the server, its phases and loaded worlds."))
+            .executor((src, args) -> {
+                if (!TickProfiler.isEnabled()) {
+                    throw new CommandException(Text.of("The tick profiler is disabled in the timings config."));
+                }
+                src.sendMessage(Text.of("Tick times over the last ", TickProfiler.getWindowMinutes(), " minutes:"));
+                printTickProfile(src, "Server", TickProfiler.SERVER);
+                printTickProfile(src, "Scheduler", TickProfiler.SCHEDULER);
+                printTickProfile(src, "Events", TickProfiler.EVENTS);
+                for (final Map.Entry<String, Map<String, TickProfiler.Phase>> entry : TickProfiler.getWorldPhases().entrySet()) {
+                    if (!Sponge.getServer().getWorld(entry.getKey()).isPresent()) {
+                        continue;
+                    }
+                    for (final TickProfiler.Phase phase : entry.getValue().values()) {
+                        printTickProfile(src, entry.getKey() + " " + phase.getName(), phase);
+                    }
+                }
+                return CommandResult.success();
+            })
+            .build();
+    }
+
+    private static void printTickProfile(final CommandSource src, final String name, final TickProfiler.Phase phase) {
+        final TickLatencyHistogram.Snapshot snapshot = TickProfiler.snapshot(phase);
+        if (snapshot.getSamples() == 0) {
+            return;
+        }
+        src.sendMessage(Text.of("[", TextColors.DARK_GREEN, name, TextColors.RESET, "] Ticks: ", snapshot.getSamples(),
+            ", Mean: ", TextColors.LIGHT_PURPLE, THREE_DECIMAL_DIGITS_FORMATTER.format(snapshot.getMean() * 1.0e-6d), "ms",
+            TextColors.RESET, ", P50: ", TextColors.LIGHT_PURPLE, THREE_DECIMAL_DIGITS_FORMATTER.format(snapshot.getPercentile(50) * 1.0e-6d), "ms",
+            TextColors.RESET, ", P95: ", TextColors.LIGHT_PURPLE, THREE_DECIMAL_DIGITS_FORMATTER.format(snapshot.getPercentile(95) * 1.0e-6d), "ms",
+            TextColors.RESET, ", P99: ", TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(snapshot.getPercentile(99) * 1.0e-6d), "ms",
+            TextColors.RESET, ", Max: ", TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(snapshot.getMax() * 1.0e-6d), "ms"));
+    }
+
     private static void printWorldTickTime(final CommandSource src, final World world) {
         final long[] worldTickTimes = ((MinecraftServerBridge) SpongeImpl.getServer()).bridge$getWorldTickTimes(((WorldServerBridge) world).bridge$getDimensionId());
         final double worldMeanTickTime = mean(worldTickTimes) * 1.0e-6d;
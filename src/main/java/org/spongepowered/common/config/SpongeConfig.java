@@ -31,6 +31,7 @@
 import ninja.leaping.configurate.commented.CommentedConfigurationNode;
 import ninja.leaping.configurate.commented.SimpleCommentedConfigurationNode;
 import ninja.leaping.configurate.hocon.HoconConfigurationLoader;
+import ninja.leaping.configurate.loader.AtomicFiles;
 import ninja.leaping.configurate.objectmapping.ObjectMapper;
 import ninja.leaping.configurate.objectmapping.ObjectMappingException;
 import ninja.leaping.configurate.objectmapping.serialize.TypeSerializers;
@@ -45,7 +46,7 @@
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.util.IpSet;
 
-import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Iterator;
@@ -53,6 +54,7 @@
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.Nullable;
 
@@ -86,6 +88,9 @@ public enum Type {
                     .registerType(TypeToken.of(IpSet.class), new IpSet.IpSetSerializer())
             );
 
+    // Held while writing, so a config is never written by two threads at once
+    private static final Object WRITE_LOCK = new Object();
+
     /**
      * The type of this config instance
      */
@@ -111,6 +116,13 @@ public enum Type {
      */
     private CommentedConfigurationNode data = SimpleCommentedConfigurationNode.root(LOADER_OPTIONS);
 
+    /**
+     * The sequence number of the latest snapshot, and of the latest written
+     * snapshot. The latter is guarded by {@link #WRITE_LOCK}
+     */
+    private final AtomicLong snapshotSequence = new AtomicLong();
+    private long writtenSequence;
+
     /**
      * The mapper instance used to populate the config instance
      */
@@ -150,7 +162,11 @@ public SpongeConfig(Type type, Path path, String modId, SpongeConfig<?> parent,
                 Files.createFile(path);
             }
 
-            this.loader = HoconConfigurationLoader.builder().setPath(path).build();
+            // Saves go to a temporary file first, which then replaces the config file
+            this.loader = HoconConfigurationLoader.builder()
+                    .setPath(path)
+                    .setSink(AtomicFiles.createAtomicWriterFactory(path, StandardCharsets.UTF_8))
+                    .build();
             this.configMapper = (ObjectMapper.BoundInstance) ObjectMapper.forClass(this.type.type).bindToNew();
 
             // If load fails, avoid saving as this can mess up world configs.
@@ -184,8 +200,22 @@ public void save() {
     }
 
     public boolean saveNow() {
+        final Snapshot snapshot = snapshot();
+        return snapshot != null && write(snapshot);
+    }
+
+    /**
+     * Serializes the current state of this config, and of its parents, into
+     * nodes detached from the config instance. Must be called by the thread
+     * modifying the config.
+     *
+     * @return The snapshot, or null if this is a dummy config or it failed
+     *     to serialize
+     */
+    @Nullable
+    Snapshot snapshot() {
         if (this.isDummy) {
-            return false;
+            return null;
         }
         try {
             // save from the mapped object --> node
@@ -196,22 +226,61 @@ public boolean saveNow() {
             if (this.parent != null) {
                 removeDuplicates(saveNode);
             }
+            return new Snapshot(this, saveNode, this.parent == null ? null : this.parent.snapshot());
+        } catch (Exception e) {
+            SpongeImpl.getLogger().error("Failed to serialize configuration", e);
+            return null;
+        }
+    }
 
-            // save the data to disk
-            this.loader.save(saveNode);
-
+    /**
+     * Writes a snapshot to disk, may be called from any thread.
+     *
+     * @param snapshot The snapshot to write
+     * @return Whether the config of the snapshot was written successfully
+     */
+    static boolean write(Snapshot snapshot) {
+        synchronized (WRITE_LOCK) {
             // In order for the removeDuplicates method to function properly, it is extremely
             // important to avoid running save on parent BEFORE children save. Doing so will
             // cause duplicate nodes to not be removed as parent would have cleaned up
             // all duplicates prior.
             // To handle the above issue, we save AFTER saving child config.
-            if (this.parent != null) {
-                this.parent.saveNow();
+            boolean success = true;
+            for (Snapshot next = snapshot; next != null; next = next.parent) {
+                if (next.sequence <= next.config.writtenSequence) {
+                    // A newer snapshot has already been written
+                    continue;
+                }
+                try {
+                    next.config.loader.save(next.node);
+                    next.config.writtenSequence = next.sequence;
+                } catch (Throwable t) {
+                    SpongeImpl.getLogger().error("Failed to save configuration", t);
+                    if (next == snapshot) {
+                        success = false;
+                    }
+                }
             }
-            return true;
-        } catch (IOException | ObjectMappingException e) {
-            SpongeImpl.getLogger().error("Failed to save configuration", e);
-            return false;
+            return success;
+        }
+    }
+
+    /**
+     * The serialized state of a config at a point in time.
+     */
+    static final class Snapshot {
+
+        final SpongeConfig<?> config;
+        final long sequence;
+        final CommentedConfigurationNode node;
+        @Nullable final Snapshot parent;
+
+        Snapshot(SpongeConfig<?> config, CommentedConfigurationNode node, @Nullable Snapshot parent) {
+            this.config = config;
+            this.sequence = config.snapshotSequence.incrementAndGet();
+            this.node = node;
+            this.parent = parent;
         }
     }
 
@@ -24,41 +24,63 @@
  */
 package org.spongepowered.common.config;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.spongepowered.api.GameState;
-import org.spongepowered.api.Sponge;
-import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.common.SpongeImpl;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
 /**
- * To avoid file saving issues with Windows and to allow some async file saving,
- * this manager acts as a staging ground for file saves so that we can do them
- * in batches.
+ * To avoid file saving issues with Windows and to keep disk I/O off the main
+ * thread, this manager acts as a staging ground for file saves.
+ *
+ * <p>Before the server has started, configs are staged and saved in a batch
+ * by the next save afterwards. While the server is running, saves are written
+ * behind on a background thread: repeated saves of the same config within
+ * {@link #SAVE_DELAY_MILLIS} are coalesced into a single write, which is
+ * postponed by at most {@link #MAX_SAVE_DELAY_MILLIS}. The config is always
+ * serialized by the thread requesting the save, the background thread only
+ * writes the serialized copy. Once the game has stopped, saves are blocking
+ * again.</p>
  *
  * <p>This class is intended to be thread safe through the use of
  * synchronisation.</p>
  */
 public class SpongeConfigSaveManager {
 
-    private final Set<SpongeConfig<?>> stagedConfigs = new HashSet<>();
+    static final long SAVE_DELAY_MILLIS = 1000;
+    static final long MAX_SAVE_DELAY_MILLIS = 10000;
+
+    private final Set<SpongeConfig<?>> stagedConfigs = new LinkedHashSet<>();
+    private final Map<SpongeConfig<?>, PendingSave> pendingSaves = new HashMap<>();
+    @Nullable private ScheduledExecutorService saveExecutor;
 
     public void save(SpongeConfig<?> spongeConfig) {
         synchronized (this) {
-            if (!SpongeImpl.isInitialized() || // if we're not initialised, then we're likely testing and should just pass on through.
-                    SpongeImpl.getGame().getState() == GameState.SERVER_STARTED || SpongeImpl.getGame().getState() == GameState.GAME_STOPPED) {
-                if (!this.stagedConfigs.isEmpty()) {
-                    // We want to save and flush now, but add this into the set in case it is already present.
-                    this.stagedConfigs.add(spongeConfig);
-                    flush();
-                } else {
-                    // just save
-                    spongeConfig.saveNow();
+            if (!SpongeImpl.isInitialized()) {
+                // if we're not initialised, then we're likely testing and should just pass on through.
+                writeNow(spongeConfig);
+            } else if (SpongeImpl.getGame().getState() == GameState.GAME_STOPPED) {
+                // We want to save and flush now, but add this into the set in case it is already present.
+                this.stagedConfigs.add(spongeConfig);
+                flush();
+            } else if (SpongeImpl.getGame().getState() == GameState.SERVER_STARTED) {
+                for (SpongeConfig<?> stagedConfig : this.stagedConfigs) {
+                    scheduleSave(stagedConfig);
                 }
+                this.stagedConfigs.clear();
+                scheduleSave(spongeConfig);
             } else {
                 this.stagedConfigs.add(spongeConfig);
             }
@@ -73,24 +95,114 @@ public void save(SpongeConfig<?> spongeConfig) {
      * @return {@code true} if successful or unneeded, false otherwise.
      */
     public boolean flush(SpongeConfig<?> config) {
+        final boolean needsSave;
         synchronized (this) {
-            if (this.stagedConfigs.remove(config)) {
-                return config.saveNow();
+            final PendingSave pendingSave = this.pendingSaves.remove(config);
+            if (pendingSave != null) {
+                pendingSave.future.cancel(false);
             }
+            needsSave = this.stagedConfigs.remove(config) || pendingSave != null;
         }
 
-        return true;
+        return !needsSave || writeNow(config);
     }
 
+    /**
+     * Writes all staged and pending configs, blocking until they are saved.
+     */
     public void flush() {
-        if (!this.stagedConfigs.isEmpty()) {
+        final List<SpongeConfig<?>> configs;
+        synchronized (this) {
+            if (this.stagedConfigs.isEmpty() && this.pendingSaves.isEmpty()) {
+                return;
+            }
+            configs = new ArrayList<>(this.stagedConfigs);
+            for (Map.Entry<SpongeConfig<?>, PendingSave> entry : this.pendingSaves.entrySet()) {
+                entry.getValue().future.cancel(false);
+                configs.add(entry.getKey());
+            }
+            this.stagedConfigs.clear();
+            this.pendingSaves.clear();
+        }
+
+        for (SpongeConfig<?> spongeConfig : configs) {
+            writeNow(spongeConfig);
+        }
+    }
+
+    /**
+     * Writes all outstanding saves and stops the background writer.
+     */
+    public void shutdown() {
+        flush();
+        synchronized (this) {
+            if (this.saveExecutor != null) {
+                this.saveExecutor.shutdown();
+                this.saveExecutor = null;
+            }
+        }
+    }
+
+    private void scheduleSave(SpongeConfig<?> config) {
+        // The config is serialized by the thread saving it, only the file is
+        // written in the background
+        final SpongeConfig.Snapshot snapshot = config.snapshot();
+        if (snapshot == null) {
+            return;
+        }
+        final long now = System.currentTimeMillis();
+        PendingSave pendingSave = this.pendingSaves.get(config);
+        if (pendingSave == null) {
+            pendingSave = new PendingSave(now, snapshot);
+            this.pendingSaves.put(config, pendingSave);
+        } else {
+            pendingSave.snapshot = snapshot;
+            if (now - pendingSave.firstRequested >= MAX_SAVE_DELAY_MILLIS || !pendingSave.future.cancel(false)) {
+                // Either the write was postponed long enough or it's about to
+                // run, in both cases it will write the latest snapshot
+                return;
+            }
+        }
+        final PendingSave save = pendingSave;
+        pendingSave.future = getSaveExecutor().schedule(() -> {
+            final SpongeConfig.Snapshot latest;
             synchronized (this) {
-                for (SpongeConfig<?> spongeConfig : this.stagedConfigs) {
-                    spongeConfig.saveNow();
+                if (!this.pendingSaves.remove(config, save)) {
+                    // Flushed in the meantime
+                    return;
                 }
-
-                this.stagedConfigs.clear();
+                latest = save.snapshot;
+            }
+            try {
+                SpongeConfig.write(latest);
+            } catch (Throwable t) {
+                SpongeImpl.getLogger().error("Failed to save configuration", t);
             }
+        }, SAVE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    private boolean writeNow(SpongeConfig<?> config) {
+        return config.saveNow();
+    }
+
+    private ScheduledExecutorService getSaveExecutor() {
+        if (this.saveExecutor == null) {
+            this.saveExecutor = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("Sponge - Config Save Thread").setDaemon(true).build());
+        }
+        return this.saveExecutor;
+    }
+
+    static final class PendingSave {
+
+        final long firstRequested;
+        // Guarded by the save manager
+        SpongeConfig.Snapshot snapshot;
+        ScheduledFuture<?> future;
+
+        PendingSave(long firstRequested, SpongeConfig.Snapshot snapshot) {
+            this.firstRequested = firstRequested;
+            this.snapshot = snapshot;
         }
     }
 
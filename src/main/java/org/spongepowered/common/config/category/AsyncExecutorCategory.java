@@ -0,0 +1,85 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigSerializable
+public class AsyncExecutorCategory extends ConfigCategory {
+
+    @Setting(value = "max-threads", comment = ""
+            + "The maximum amount of threads used to run asynchronous plugin tasks.\n"
+            + "If '0', the amount of available processors is used.")
+    private int maxThreads = 0;
+
+    @Setting(value = "max-internal-threads", comment = ""
+            + "The maximum amount of threads used to run asynchronous tasks of Sponge itself,\n"
+            + "such as profile lookups. These run separately from plugin tasks.\n"
+            + "If '0', half of 'max-threads' is used, but at least 2.")
+    private int maxInternalThreads = 0;
+
+    @Setting(value = "max-concurrent-tasks-per-plugin", comment = ""
+            + "The maximum amount of asynchronous tasks of a single plugin that may run at\n"
+            + "the same time. Additional tasks wait in the plugin's queue until one of its\n"
+            + "running tasks completes. This is always kept below 'max-threads' so that a\n"
+            + "single blocking plugin can't starve all others.\n"
+            + "If '0', a plugin may use half of the threads of the pool.")
+    private int maxConcurrentTasksPerPlugin = 0;
+
+    @Setting(value = "max-queued-tasks-per-plugin", comment = ""
+            + "The maximum amount of asynchronous tasks of a single plugin that may wait\n"
+            + "for a free thread. Tasks submitted beyond this limit are rejected.\n"
+            + "If '0', the queue is unbounded.")
+    private int maxQueuedTasksPerPlugin = 0;
+
+    @Setting(value = "plugin-concurrency", comment = ""
+            + "Overrides 'max-concurrent-tasks-per-plugin' for specific plugin ids,\n"
+            + "for example: myplugin=2. These are kept below 'max-threads' as well.")
+    private Map<String, Integer> pluginConcurrency = new HashMap<>();
+
+    public int getMaxThreads() {
+        return this.maxThreads;
+    }
+
+    public int getMaxInternalThreads() {
+        return this.maxInternalThreads;
+    }
+
+    public int getMaxConcurrentTasksPerPlugin() {
+        return this.maxConcurrentTasksPerPlugin;
+    }
+
+    public int getMaxQueuedTasksPerPlugin() {
+        return this.maxQueuedTasksPerPlugin;
+    }
+
+    public Map<String, Integer> getPluginConcurrency() {
+        return this.pluginConcurrency;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class ChunkSaveCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = ""
+            + "If 'true', chunks are written to disk by a pool of save threads, each of which\n"
+            + "owns a distinct set of region files. Repeated saves of a chunk that is still\n"
+            + "waiting to be written are merged into a single write.\n"
+            + "If 'false', all chunks are written by the single vanilla file IO thread.")
+    private boolean enabled = true;
+
+    @Setting(value = "num-threads", comment = "The amount of threads to dedicate for writing chunks. (Default: 2)")
+    private int numThreads = 2;
+
+    @Setting(value = "max-pending-chunks", comment = ""
+            + "The amount of chunks waiting to be written above which worlds stop unloading\n"
+            + "chunks until the save threads have caught up. If '0', unloading is never held back.")
+    private int maxPendingChunks = 4096;
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getNumThreads() {
+        return this.numThreads;
+    }
+
+    public int getMaxPendingChunks() {
+        return this.maxPendingChunks;
+    }
+}
@@ -57,6 +57,12 @@ public class OptimizationCategory extends ConfigCategory {
     @Setting(value = "async-lighting", comment = "Runs lighting updates asynchronously.")
     private AsyncLightingCategory asyncLightingCategory = new AsyncLightingCategory();
 
+    @Setting(value = "chunk-save", comment = "Writes chunks to disk on multiple threads, sharded by region file.")
+    private ChunkSaveCategory chunkSaveCategory = new ChunkSaveCategory();
+
+    @Setting(value = "chunk-pregeneration", comment = "Generates the terrain of pre-generated chunks on multiple threads.")
+    private PreGenerationCategory preGenerationCategory = new PreGenerationCategory();
+
     @Setting(value = "eigen-redstone",
             comment = "Uses theosib's redstone algorithms to completely overhaul the way redstone works.")
     private EigenRedstoneCategory eigenRedstonCategory = new EigenRedstoneCategory();
@@ -186,6 +192,14 @@ public boolean useAsyncLighting() {
         return this.asyncLightingCategory.isEnabled();
     }
 
+    public ChunkSaveCategory getChunkSaveCategory() {
+        return this.chunkSaveCategory;
+    }
+
+    public PreGenerationCategory getPreGenerationCategory() {
+        return this.preGenerationCategory;
+    }
+
     public EigenRedstoneCategory getEigenRedstoneCategory() {
         return this.eigenRedstonCategory;
     }
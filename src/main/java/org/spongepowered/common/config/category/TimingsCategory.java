@@ -57,6 +57,29 @@ public class TimingsCategory extends ConfigCategory {
     @Setting(value = "history-length", comment = "How long the list of said history can get")
     private int historyLength = 3600;
 
+    @Setting(value = "listener-metrics", comment = ""
+            + "Enables collecting invocation counts, cancellations and sampled timings\n"
+            + "of event listeners, see '/sponge listeners'.")
+    private boolean listenerMetrics = true;
+
+    @Setting(value = "listener-metrics-sample-rate", comment = ""
+            + "Every n-th invocation of an event listener is timed, rounded up to a power of two.\n"
+            + "Lower values give more accurate timings at a higher cost.")
+    private int listenerMetricsSampleRate = 16;
+
+    @Setting(value = "tick-profiler", comment = ""
+            + "Enables recording the percentiles of the tick times of the server, the scheduler,\n"
+            + "events and the entity, tile entity and block ticks of each world, see '/sponge mspt'.\n"
+            + "This works independently of timings.")
+    private boolean tickProfiler = true;
+
+    @Setting(value = "tick-profiler-window", comment = "How many minutes of ticks the tick profiler keeps.")
+    private int tickProfilerWindow = 5;
+
+    @Setting(value = "tick-profiler-log-interval", comment = ""
+            + "How often, in minutes, the tick profiler logs its percentiles. 0 disables logging.")
+    private int tickProfilerLogInterval = 0;
+
     public boolean isVerbose() {
         return this.verbose;
     }
@@ -97,4 +120,24 @@ public void setHistoryLength(int historyLength) {
         this.historyLength = historyLength;
     }
 
+    public boolean isListenerMetricsEnabled() {
+        return this.listenerMetrics;
+    }
+
+    public int getListenerMetricsSampleRate() {
+        return this.listenerMetricsSampleRate;
+    }
+
+    public boolean isTickProfilerEnabled() {
+        return this.tickProfiler;
+    }
+
+    public int getTickProfilerWindow() {
+        return this.tickProfilerWindow;
+    }
+
+    public int getTickProfilerLogInterval() {
+        return this.tickProfilerLogInterval;
+    }
+
 }
@@ -99,6 +99,23 @@ public class WorldCategory extends ConfigCategory {
             + "Note: This gets reset if the chunk becomes active again.")
     private int chunkUnloadDelay = 15;
 
+    @Setting(value = "chunk-gc-max-time-per-tick", comment = ""
+            + "The maximum number of milliseconds the chunk gc and chunk unloading may spend in a single tick.\n"
+            + "Work that does not fit is continued in the next ticks. The time is lowered while the average\n"
+            + "tick time approaches 'chunk-gc-target-tick-time', down to a tenth of this value.\n"
+            + "Set to 0 to disable the limit. (Default: 5.0)")
+    private double chunkGCMaxTimePerTick = 5.0;
+
+    @Setting(value = "chunk-gc-target-tick-time", comment = ""
+            + "The average tick time, in milliseconds, the chunk gc tries to stay below. (Default: 45.0)")
+    private double chunkGCTargetTickTime = 45.0;
+
+    @Setting(value = "entity-spatial-index", comment = ""
+            + "If 'true', keeps the entities of the world in a grid of 8 block cells, used to look up\n"
+            + "entities within an area, such as items above hoppers or nearby mobs, with far fewer checks.\n"
+            + "Note: Entities in the same area may be returned in a different order than in vanilla.")
+    private boolean entitySpatialIndex = false;
+
     @Setting(value = "item-merge-radius", comment = ""
             + "The defined merge radius for Item entities such that when two items are\n"
             + "within the defined radius of each other, they will attempt to merge.\n"
@@ -218,6 +235,18 @@ public int getMaxChunkUnloads() {
         return this.maxChunkUnloads;
     }
 
+    public double getChunkGCMaxTimePerTick() {
+        return this.chunkGCMaxTimePerTick;
+    }
+
+    public double getChunkGCTargetTickTime() {
+        return this.chunkGCTargetTickTime;
+    }
+
+    public boolean useEntitySpatialIndex() {
+        return this.entitySpatialIndex;
+    }
+
     public double getItemMergeRadius() {
         return this.itemMergeRadius;
     }
@@ -42,6 +42,7 @@
 import org.spongepowered.common.config.category.OptimizationCategory;
 import org.spongepowered.common.config.category.PermissionCategory;
 import org.spongepowered.common.config.category.PhaseTrackerCategory;
+import org.spongepowered.common.config.category.SchedulerCategory;
 import org.spongepowered.common.config.category.SqlCategory;
 import org.spongepowered.common.config.category.TeleportHelperCategory;
 import org.spongepowered.common.util.IpSet;
@@ -110,6 +111,9 @@ public class GlobalConfig extends GeneralConfigBase {
     @Setting(value = "metrics", comment = "Configuration options related to metric collection.")
     private MetricsCategory metricsCategory = new MetricsCategory();
 
+    @Setting(value = "scheduler", comment = "Configuration options related to the plugin task scheduler.")
+    private SchedulerCategory scheduler = new SchedulerCategory();
+
     public GlobalConfig() {
         super();
     }
@@ -186,4 +190,8 @@ public MetricsCategory getMetricsCategory() {
         return this.metricsCategory;
     }
 
+    public SchedulerCategory getScheduler() {
+        return this.scheduler;
+    }
+
 }
@@ -55,6 +55,19 @@
 
     boolean supports(DataHolder dataHolder);
 
+    /**
+     * Checks if data holders of the provided class may be compatible with
+     * this {@link DataProcessor}, used to skip it for holders that can never
+     * be supported. If true, {@link #supports(DataHolder)} is still checked
+     * for each holder, so it may depend on the holder state.
+     *
+     * @param holderClass The class of the data holder
+     * @return False if no holder of the class is ever supported
+     */
+    default boolean mayApplyTo(Class<?> holderClass) {
+        return true;
+    }
+
     boolean supports(EntityType entityType);
 
     /**
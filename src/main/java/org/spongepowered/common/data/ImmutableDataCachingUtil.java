@@ -28,41 +28,59 @@
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import org.spongepowered.api.CatalogType;
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.relocate.co.aikar.timings.SpongeTimings;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
 
 public final class ImmutableDataCachingUtil {
 
     private ImmutableDataCachingUtil() {}
 
     public static final int CACHE_LIMIT_FOR_INDIVIDUAL_TYPE = 100;
-    public static final int MANIPULATOR_CACHE_LIMIT = 100000;
-    public static final int VALUE_CACHE_LIMIT = 100000;
 
-    private static final Cache<String, ImmutableDataManipulator<?, ?>> manipulatorCache = CacheBuilder.newBuilder()
-        .maximumSize(MANIPULATOR_CACHE_LIMIT)
-        .concurrencyLevel(4)
-        .build();
+    // Integers in the range [0, SMALL_INT_LIMIT) are interned in a flat table instead of the hashed map
+    private static final int SMALL_INT_LIMIT = 256;
+    // The amount of hashed instances kept per type, least recently used instances are evicted first. Bounding
+    // each type on its own keeps values with many distinct arguments from pushing out the hot values of others.
+    private static final int MANIPULATOR_LIMIT_PER_TYPE = 1000;
+    private static final int VALUE_LIMIT_PER_TYPE = 1000;
+
+    private static final ClassValue<TypeCache<ImmutableDataManipulator<?, ?>>> manipulatorCache =
+        new ClassValue<TypeCache<ImmutableDataManipulator<?, ?>>>() {
+            @Override
+            protected TypeCache<ImmutableDataManipulator<?, ?>> computeValue(Class<?> type) {
+                return new TypeCache<>(MANIPULATOR_LIMIT_PER_TYPE);
+            }
+        };
+
+    private static final ClassValue<KeyedTypeCache> valueCache = new ClassValue<KeyedTypeCache>() {
+        @Override
+        protected KeyedTypeCache computeValue(Class<?> type) {
+            return new KeyedTypeCache();
+        }
+    };
 
-    private static final Cache<String, ImmutableValue<?>> valueCache = CacheBuilder.newBuilder()
-        .concurrencyLevel(4)
-        .maximumSize(VALUE_CACHE_LIMIT)
-        .build();
+    private static final LongAdder manipulatorHits = new LongAdder();
+    private static final LongAdder manipulatorMisses = new LongAdder();
+    private static final LongAdder valueHits = new LongAdder();
+    private static final LongAdder valueMisses = new LongAdder();
 
     /**
-     * Retrieves a basic manipulator from {@link Cache}. If the {@link Cache}
-     * does not have the desired {@link ImmutableDataManipulator} with relative
-     * values, a new one is created and submitted to the cache for future
-     * retrieval.
+     * Retrieves a basic manipulator from the cache. If the cache does not
+     * have the desired {@link ImmutableDataManipulator} with relative values,
+     * a new one is created and submitted to the cache for future retrieval.
      *
      * <p>Note that two instances of an {@link ImmutableDataManipulator} may be
      * equal to each other, but they may not be the same instance, this is due
@@ -75,55 +93,219 @@ private ImmutableDataCachingUtil() {}
      */
     @SuppressWarnings("unchecked")
     public static <T extends ImmutableDataManipulator<?, ?>> T getManipulator(final Class<T> immutableClass, final Object... args) {
-        final String key = getKey(immutableClass, args);
+        final TypeCache<ImmutableDataManipulator<?, ?>> cache = ImmutableDataCachingUtil.manipulatorCache.get(immutableClass);
         // We can't really use the generic typing here because it's complicated...
+        T manipulator = (T) cache.get(args);
+        if (manipulator != null) {
+            ImmutableDataCachingUtil.manipulatorHits.increment();
+            return manipulator;
+        }
+        ImmutableDataCachingUtil.manipulatorMisses.increment();
+        SpongeTimings.dataImmutableCacheMiss.startTimingIfSync();
         try {
-            // Let's get the key
-            return (T) ImmutableDataCachingUtil.manipulatorCache.get(key, (Callable<ImmutableDataManipulator<?, ?>>) () -> {
-                    try {
-                        return createUnsafeInstance(immutableClass, args);
-                    } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                        SpongeImpl.getLogger().error("Could not construct an ImmutableDataManipulator: " + immutableClass.getCanonicalName() + " with the args: "
-                                                     + Arrays.toString(args), e);
-                    }
-                    throw new UnsupportedOperationException("Could not construct the ImmutableDataManipulator: " + immutableClass.getName() + " with the args: "
-                                                            + Arrays.toString(args));
-            });
-        } catch (Throwable e) {
-            throw new UnsupportedOperationException("Could not construct the ImmutableDataManipulator: " + immutableClass.getName(), e);
+            manipulator = createUnsafeInstance(immutableClass, args);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            SpongeImpl.getLogger().error("Could not construct an ImmutableDataManipulator: " + immutableClass.getCanonicalName() + " with the args: "
+                                         + Arrays.toString(args), e);
+            throw new UnsupportedOperationException("Could not construct the ImmutableDataManipulator: " + immutableClass.getName() + " with the args: "
+                                                    + Arrays.toString(args), e);
+        } finally {
+            SpongeTimings.dataImmutableCacheMiss.stopTimingIfSync();
         }
+        return (T) cache.putIfAbsent(args, manipulator);
     }
 
     @SuppressWarnings("unchecked")
     public static <E, V extends ImmutableValue<?>, T extends ImmutableValue<E>> T getValue(final Class<V> valueClass,
             final Key<? extends BaseValue<E>> usedKey, final E defaultArg, final E arg, final Object... extraArgs) {
-        final String key = getKey(valueClass, usedKey.getQuery().asString('.'), arg.getClass(), arg);
+        final TypeCache<ImmutableValue<?>> cache = ImmutableDataCachingUtil.valueCache.get(valueClass).get(usedKey);
+        T value = (T) cache.get(arg);
+        if (value != null) {
+            ImmutableDataCachingUtil.valueHits.increment();
+            return value;
+        }
+        ImmutableDataCachingUtil.valueMisses.increment();
+        SpongeTimings.dataImmutableCacheMiss.startTimingIfSync();
         try {
-            return (T) ImmutableDataCachingUtil.valueCache.get(key, (Callable<ImmutableValue<?>>) () -> {
-                    try {
-                        if (extraArgs == null || extraArgs.length == 0) {
-                            return createUnsafeInstance(valueClass, usedKey, defaultArg, arg);
-                        }
-                        return createUnsafeInstance(valueClass, usedKey, defaultArg, arg, extraArgs);
-                    } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                        SpongeImpl.getLogger().error("Could not construct an ImmutableValue: " + valueClass.getCanonicalName(), e);
-                    }
-                    throw new UnsupportedOperationException("Could not construct the ImmutableValue: " + valueClass.getName());
-            });
-        } catch (ExecutionException e) {
+            if (extraArgs == null || extraArgs.length == 0) {
+                value = (T) createUnsafeInstance(valueClass, usedKey, defaultArg, arg);
+            } else {
+                value = (T) createUnsafeInstance(valueClass, usedKey, defaultArg, arg, extraArgs);
+            }
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            SpongeImpl.getLogger().error("Could not construct an ImmutableValue: " + valueClass.getCanonicalName(), e);
             throw new UnsupportedOperationException("Could not construct the ImmutableValue: " + valueClass.getName(), e);
+        } finally {
+            SpongeTimings.dataImmutableCacheMiss.stopTimingIfSync();
         }
+        return (T) cache.putIfAbsent(arg, value);
     }
 
-    private static String getKey(final Class<?> immutableClass, final Object... args) {
-        final StringBuilder builder = new StringBuilder(immutableClass.getCanonicalName() + ":");
-        for (Object object : args) {
-            if (object instanceof CatalogType) {
-                builder.append("{").append(((CatalogType) object).getId()).append("}");
-            } else {
-                builder.append("{").append(object.toString()).append("}");
+    public static long getManipulatorCacheHits() {
+        return ImmutableDataCachingUtil.manipulatorHits.sum();
+    }
+
+    public static long getManipulatorCacheMisses() {
+        return ImmutableDataCachingUtil.manipulatorMisses.sum();
+    }
+
+    public static long getValueCacheHits() {
+        return ImmutableDataCachingUtil.valueHits.sum();
+    }
+
+    public static long getValueCacheMisses() {
+        return ImmutableDataCachingUtil.valueMisses.sum();
+    }
+
+    /**
+     * The values cached for a single value class, looked up by the
+     * identity of the {@link Key} they were created for.
+     */
+    private static final class KeyedTypeCache {
+
+        // Copy on write, keys are only ever added once per key
+        private volatile Map<Key<?>, TypeCache<ImmutableValue<?>>> byKey = new IdentityHashMap<>();
+
+        TypeCache<ImmutableValue<?>> get(Key<?> key) {
+            final TypeCache<ImmutableValue<?>> cache = this.byKey.get(key);
+            if (cache != null) {
+                return cache;
+            }
+            synchronized (this) {
+                TypeCache<ImmutableValue<?>> existing = this.byKey.get(key);
+                if (existing == null) {
+                    existing = new TypeCache<>(VALUE_LIMIT_PER_TYPE);
+                    final Map<Key<?>, TypeCache<ImmutableValue<?>>> byKey = new IdentityHashMap<>(this.byKey);
+                    byKey.put(key, existing);
+                    this.byKey = byKey;
+                }
+                return existing;
+            }
+        }
+    }
+
+    /**
+     * The instances cached for a single type. Booleans, enum constants and
+     * small integers are interned in flat tables, everything else goes
+     * through a size bounded cache keyed by the constructor argument(s)
+     * themselves.
+     */
+    static final class TypeCache<T> {
+
+        private static final Object NO_ARGS = new Object();
+
+        private final AtomicReferenceArray<T> booleans = new AtomicReferenceArray<>(2);
+        private final AtomicReferenceArray<T> smallInts = new AtomicReferenceArray<>(SMALL_INT_LIMIT);
+        @Nullable private volatile Class<?> enumType;
+        @Nullable private volatile AtomicReferenceArray<T> enumConstants;
+        private final Cache<Object, T> map;
+
+        TypeCache(int limit) {
+            this.map = CacheBuilder.newBuilder()
+                .concurrencyLevel(4)
+                .maximumSize(limit)
+                .build();
+        }
+
+        @Nullable
+        T get(Object[] args) {
+            if (args.length == 1) {
+                return get(args[0]);
+            }
+            return this.map.getIfPresent(toKey(args));
+        }
+
+        @Nullable
+        T get(Object arg) {
+            if (arg instanceof Boolean) {
+                return this.booleans.get((Boolean) arg ? 1 : 0);
+            }
+            if (arg instanceof Integer) {
+                final int value = (Integer) arg;
+                if (value >= 0 && value < SMALL_INT_LIMIT) {
+                    return this.smallInts.get(value);
+                }
+            } else if (arg instanceof Enum<?>) {
+                final AtomicReferenceArray<T> constants = this.enumConstants;
+                if (constants != null && this.enumType == ((Enum<?>) arg).getDeclaringClass()) {
+                    return constants.get(((Enum<?>) arg).ordinal());
+                }
+            }
+            return this.map.getIfPresent(arg);
+        }
+
+        T putIfAbsent(Object[] args, T instance) {
+            if (args.length == 1) {
+                return putIfAbsent(args[0], instance);
+            }
+            // The varargs array belongs to the caller, don't keep it around
+            return putInMap(args.length == 0 ? NO_ARGS : new ArgumentsKey(args.clone()), instance);
+        }
+
+        T putIfAbsent(Object arg, T instance) {
+            if (arg instanceof Boolean) {
+                return putInTable(this.booleans, (Boolean) arg ? 1 : 0, instance);
+            }
+            if (arg instanceof Integer) {
+                final int value = (Integer) arg;
+                if (value >= 0 && value < SMALL_INT_LIMIT) {
+                    return putInTable(this.smallInts, value, instance);
+                }
+            } else if (arg instanceof Enum<?>) {
+                final Class<?> enumType = ((Enum<?>) arg).getDeclaringClass();
+                AtomicReferenceArray<T> constants = this.enumConstants;
+                if (constants == null) {
+                    synchronized (this) {
+                        constants = this.enumConstants;
+                        if (constants == null) {
+                            this.enumType = enumType;
+                            constants = new AtomicReferenceArray<>(enumType.getEnumConstants().length);
+                            this.enumConstants = constants;
+                        }
+                    }
+                }
+                if (this.enumType == enumType) {
+                    return putInTable(constants, ((Enum<?>) arg).ordinal(), instance);
+                }
             }
+            return putInMap(arg, instance);
+        }
+
+        private static <T> T putInTable(AtomicReferenceArray<T> table, int index, T instance) {
+            if (table.compareAndSet(index, null, instance)) {
+                return instance;
+            }
+            return table.get(index);
+        }
+
+        private T putInMap(Object key, T instance) {
+            final T existing = this.map.asMap().putIfAbsent(key, instance);
+            return existing != null ? existing : instance;
+        }
+
+        private static Object toKey(Object[] args) {
+            return args.length == 0 ? NO_ARGS : new ArgumentsKey(args);
+        }
+    }
+
+    private static final class ArgumentsKey {
+
+        private final Object[] args;
+        private final int hash;
+
+        ArgumentsKey(Object[] args) {
+            this.args = args;
+            this.hash = Arrays.hashCode(args);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof ArgumentsKey && Arrays.equals(this.args, ((ArgumentsKey) o).args);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
         }
-        return builder.toString();
     }
 }
@@ -139,6 +139,19 @@
      */
     boolean supports(ValueContainer<?> container);
 
+    /**
+     * Checks if containers of the provided class may be compatible with this
+     * {@link ValueProcessor}, used to skip it for containers that can never
+     * be supported. If true, {@link #supports(ValueContainer)} is still
+     * checked for each container, so it may depend on the container state.
+     *
+     * @param containerClass The class of the value container
+     * @return False if no container of the class is ever supported
+     */
+    default boolean mayApplyTo(Class<?> containerClass) {
+        return true;
+    }
+
     /**
      * Offers the provided {@link BaseValue} containing a value of the
      * appropriate value type of this {@link ValueProcessor} to offer
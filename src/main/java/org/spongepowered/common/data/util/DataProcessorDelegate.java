@@ -41,11 +41,15 @@
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.data.DataProcessor;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class DataProcessorDelegate<M extends DataManipulator<M, I>, I extends ImmutableDataManipulator<I, M>> implements DataProcessor<M, I> {
 
     private final ImmutableList<Tuple<DataProcessor<M, I>, Timing>> processors;
+    // The processors that may support each holder class, in priority order
+    private final Map<Class<?>, ImmutableList<Tuple<DataProcessor<M, I>, Timing>>> processorsByClass = new ConcurrentHashMap<>();
 
     public DataProcessorDelegate(final ImmutableList<DataProcessor<M, I>> processors) {
         final ImmutableList.Builder<Tuple<DataProcessor<M, I>, Timing>> builder = ImmutableList.builder();
@@ -55,6 +59,21 @@ public DataProcessorDelegate(final ImmutableList<DataProcessor<M, I>> processors
         this.processors = builder.build();
     }
 
+    private ImmutableList<Tuple<DataProcessor<M, I>, Timing>> getProcessors(final Class<?> holderClass) {
+        ImmutableList<Tuple<DataProcessor<M, I>, Timing>> processors = this.processorsByClass.get(holderClass);
+        if (processors == null) {
+            final ImmutableList.Builder<Tuple<DataProcessor<M, I>, Timing>> builder = ImmutableList.builder();
+            for (final Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+                if (tuple.getFirst().mayApplyTo(holderClass)) {
+                    builder.add(tuple);
+                }
+            }
+            processors = builder.build();
+            this.processorsByClass.put(holderClass, processors);
+        }
+        return processors;
+    }
+
     @Override
     public int getPriority() {
         return Integer.MAX_VALUE;
@@ -64,7 +83,7 @@ public int getPriority() {
     public boolean supports(final DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = SpongeImplHooks.isMainThread();
 
-        for (final Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (final Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder.getClass())) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -81,6 +100,11 @@ public boolean supports(final DataHolder dataHolder) {
         return false;
     }
 
+    @Override
+    public boolean mayApplyTo(final Class<?> holderClass) {
+        return !getProcessors(holderClass).isEmpty();
+    }
+
     @SuppressWarnings("unused")
     @Override
     public boolean supports(final EntityType entityType) {
@@ -102,7 +126,7 @@ public boolean supports(final EntityType entityType) {
     public Optional<M> from(final DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = SpongeImplHooks.isMainThread();
 
-        for (final Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (final Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder.getClass())) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -127,7 +151,7 @@ public Optional<M> from(final DataHolder dataHolder) {
     public Optional<M> fill(final DataHolder dataHolder, final M manipulator, final MergeFunction overlap) {
         final boolean callingFromMinecraftThread = SpongeImplHooks.isMainThread();
 
-        for (final Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (final Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder.getClass())) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -171,7 +195,7 @@ public Optional<M> fill(final DataContainer container, final M m) {
     public DataTransactionResult set(final DataHolder dataHolder, final M manipulator, final MergeFunction function) {
         final boolean callingFromMinecraftThread = SpongeImplHooks.isMainThread();
 
-        for (final Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (final Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder.getClass())) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -215,7 +239,7 @@ public Optional<I> with(final Key<? extends BaseValue<?>> key, final Object valu
     public DataTransactionResult remove(final DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = SpongeImplHooks.isMainThread();
 
-        for (final Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (final Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder.getClass())) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
@@ -240,7 +264,7 @@ public DataTransactionResult remove(final DataHolder dataHolder) {
     public Optional<M> createFrom(final DataHolder dataHolder) {
         final boolean callingFromMinecraftThread = SpongeImplHooks.isMainThread();
 
-        for (final Tuple<DataProcessor<M, I>, Timing> tuple : this.processors) {
+        for (final Tuple<DataProcessor<M, I>, Timing> tuple : getProcessors(dataHolder.getClass())) {
             if (callingFromMinecraftThread) {
                 tuple.getSecond().startTiming();
             }
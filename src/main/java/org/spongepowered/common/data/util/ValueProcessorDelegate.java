@@ -33,7 +33,9 @@
 import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.common.data.ValueProcessor;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * This is really just a lazy class to handle processing on multiple
@@ -46,12 +48,29 @@
 
     private final Key<V> key;
     private final ImmutableList<ValueProcessor<E, V>> processors;
+    // The processors that may support each container class, in priority order
+    private final Map<Class<?>, ImmutableList<ValueProcessor<E, V>>> processorsByClass = new ConcurrentHashMap<>();
 
     public ValueProcessorDelegate(Key<V> key, ImmutableList<ValueProcessor<E, V>> processors) {
         this.key = key;
         this.processors = processors;
     }
 
+    private ImmutableList<ValueProcessor<E, V>> getProcessors(Class<?> containerClass) {
+        ImmutableList<ValueProcessor<E, V>> processors = this.processorsByClass.get(containerClass);
+        if (processors == null) {
+            final ImmutableList.Builder<ValueProcessor<E, V>> builder = ImmutableList.builder();
+            for (ValueProcessor<E, V> processor : this.processors) {
+                if (processor.mayApplyTo(containerClass)) {
+                    builder.add(processor);
+                }
+            }
+            processors = builder.build();
+            this.processorsByClass.put(containerClass, processors);
+        }
+        return processors;
+    }
+
     @Override
     public Key<? extends BaseValue<E>> getKey() {
         return this.key;
@@ -64,7 +83,7 @@ public int getPriority() {
 
     @Override
     public Optional<E> getValueFromContainer(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container.getClass())) {
             if (processor.supports(container)) {
                 final Optional<E> optional = processor.getValueFromContainer(container);
                 if (optional.isPresent()) {
@@ -77,7 +96,7 @@ public Optional<E> getValueFromContainer(ValueContainer<?> container) {
 
     @Override
     public Optional<V> getApiValueFromContainer(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container.getClass())) {
             if (processor.supports(container)) {
                 final Optional<V> optional = processor.getApiValueFromContainer(container);
                 if (optional.isPresent()) {
@@ -90,7 +109,7 @@ public Optional<V> getApiValueFromContainer(ValueContainer<?> container) {
 
     @Override
     public boolean supports(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container.getClass())) {
             if (processor.supports(container)) {
                 return true;
             }
@@ -98,10 +117,15 @@ public boolean supports(ValueContainer<?> container) {
         return false;
     }
 
+    @Override
+    public boolean mayApplyTo(Class<?> containerClass) {
+        return !getProcessors(containerClass).isEmpty();
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public DataTransactionResult offerToStore(ValueContainer<?> container, E value) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container.getClass())) {
             if (processor.supports(container)) {
                 final DataTransactionResult result = processor.offerToStore(container, value);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
@@ -109,7 +133,7 @@ public DataTransactionResult offerToStore(ValueContainer<?> container, E value)
                 }
             }
         }
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container.getClass())) {
             if (processor.supports(container)) {
                 final Optional<V> currentValueOptional = processor.getApiValueFromContainer(container);
                 if (currentValueOptional.isPresent()) {
@@ -132,7 +156,7 @@ public DataTransactionResult offerToStore(ValueContainer<?> container, E value)
 
     @Override
     public DataTransactionResult removeFrom(ValueContainer<?> container) {
-        for (ValueProcessor<E, V> processor : this.processors) {
+        for (ValueProcessor<E, V> processor : getProcessors(container.getClass())) {
             if (processor.supports(container)) {
                 final DataTransactionResult result = processor.removeFrom(container);
                 if (!result.getType().equals(DataTransactionResult.Type.FAILURE)) {
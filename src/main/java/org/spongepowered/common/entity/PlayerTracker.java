@@ -24,9 +24,17 @@
  */
 package org.spongepowered.common.entity;
 
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongOpenHashMap;
 import org.spongepowered.common.util.Constants;
 
-public class PlayerTracker {
+/**
+ * Tracked block positions store the owner and notifier indices of a position
+ * packed into a single long, see {@link #pack(int, int)}.
+ */
+public final class PlayerTracker {
 
     public enum Type {
         OWNER(Constants.Sponge.SPONGE_ENTITY_CREATOR),
@@ -39,25 +47,68 @@ public enum Type {
         }
     }
 
-    public int ownerIndex;
-    public int notifierIndex;
+    /**
+     * The value tracked position tables return for untracked positions. It
+     * can't collide with a packed entry since indices are never below -1.
+     */
+    public static final long NONE = Long.MIN_VALUE;
 
-    public PlayerTracker() {
-        this.ownerIndex = -1;
-        this.notifierIndex = -1;
+    private PlayerTracker() {
     }
 
-    public PlayerTracker(int index, Type type) {
-        if (type == Type.OWNER) {
-            this.ownerIndex = index;
-            this.notifierIndex = -1;
-        } else {
-            this.notifierIndex = index;
-            this.ownerIndex = -1;
-        }
+    public static Short2LongMap newShortPositionTable() {
+        final Short2LongMap table = new Short2LongOpenHashMap();
+        table.defaultReturnValue(NONE);
+        return table;
+    }
+
+    public static Int2LongMap newIntPositionTable() {
+        final Int2LongMap table = new Int2LongOpenHashMap();
+        table.defaultReturnValue(NONE);
+        return table;
+    }
+
+    /**
+     * Packs the owner and notifier index of a tracked position into a
+     * single value, -1 means no owner or notifier.
+     *
+     * @param ownerIndex The owner index
+     * @param notifierIndex The notifier index
+     * @return The packed entry
+     */
+    public static long pack(int ownerIndex, int notifierIndex) {
+        return ((long) ownerIndex << 32) | (notifierIndex & 0xFFFFFFFFL);
+    }
+
+    public static int getOwnerIndex(long entry) {
+        return entry == NONE ? -1 : (int) (entry >> 32);
     }
 
-    public void setNotifier(int notifierIndex) {
-        this.notifierIndex = notifierIndex;
+    public static int getNotifierIndex(long entry) {
+        return entry == NONE ? -1 : (int) entry;
+    }
+
+    public static long withOwner(long entry, int ownerIndex) {
+        return pack(ownerIndex, getNotifierIndex(entry));
+    }
+
+    public static long withNotifier(long entry, int notifierIndex) {
+        return pack(getOwnerIndex(entry), notifierIndex);
+    }
+
+    /**
+     * Applies a tracked user to an entry. New entries only get the given
+     * type set, an owner of an existing entry also becomes its notifier.
+     *
+     * @param entry The current entry, or {@link #NONE}
+     * @param index The index of the user
+     * @param type The type of tracking
+     * @return The new entry
+     */
+    public static long track(long entry, int index, Type type) {
+        if (type == Type.OWNER) {
+            return entry == NONE ? pack(index, -1) : pack(index, index);
+        }
+        return withNotifier(entry, index);
     }
 }
@@ -59,6 +59,7 @@
 import org.spongepowered.common.data.util.DataUtil;
 import org.spongepowered.common.item.inventory.util.ItemStackUtil;
 import org.spongepowered.common.mixin.core.world.storage.SaveHandlerAccessor;
+import org.spongepowered.common.relocate.co.aikar.timings.SpongeTimings;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.world.WorldManager;
 
@@ -70,7 +71,10 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -111,6 +115,10 @@ public class SpongeUser implements ArmorEquipable, Tamer, DataSerializable, Carr
     @Nullable private SpongeUserInventory inventory; // lazy load when accessing inventory
     @Nullable private InventoryEnderChest enderChest; // lazy load when accessing inventory
     @Nullable private NBTTagCompound nbt;
+    @Nullable private CompletableFuture<SpongeUser> pendingInitialization; // only accessed from the main thread
+    // Bumped whenever the data of this user is dropped or replaced, so that data read
+    // asynchronously before that is discarded
+    private volatile int dataGeneration;
     private boolean isConstructing;
 
     public SpongeUser(final GameProfile profile) {
@@ -139,6 +147,8 @@ public DataHolder getDataHolder(boolean markDirty) {
     }
 
     public void invalidate() {
+        this.dataGeneration++;
+        this.pendingInitialization = null;
         this.nbt = null;
         this.inventory = null;
         this.enderChest = null;
@@ -152,26 +162,102 @@ public void invalidate() {
     }
 
     public void initialize() {
-        initializedUsers.add(this);
-        this.nbt = new NBTTagCompound();
+        SpongeTimings.userLoadTimer.startTimingIfSync();
+        try {
+            this.dataGeneration++;
+            this.pendingInitialization = null;
+            initializedUsers.add(this);
+            this.nbt = new NBTTagCompound();
+            final File file = getDataFile();
+            if (file == null) {
+                return;
+            }
+            final NBTTagCompound compound = readDataFile(file);
+            if (compound != null) {
+                readFromNbt(compound);
+            }
+        } finally {
+            SpongeTimings.userLoadTimer.stopTimingIfSync();
+        }
+    }
+
+    /**
+     * Initializes this user without blocking the main thread on disk I/O.
+     * The player data file is read and decompressed on a separate thread,
+     * the data itself is applied on the main thread, which is also where
+     * the returned future completes.
+     *
+     * <p>This must be called from the main thread. If the user is
+     * invalidated or initialized synchronously while its data is read, the
+     * read data is discarded and the future completes without applying
+     * it.</p>
+     *
+     * @return The future which completes once the user is initialized
+     */
+    public CompletableFuture<SpongeUser> initializeAsync() {
+        if (isInitialized()) {
+            return CompletableFuture.completedFuture(this);
+        }
+        if (this.pendingInitialization != null) {
+            return this.pendingInitialization;
+        }
+        final File file = getDataFile();
+        if (file == null) {
+            initialize();
+            return CompletableFuture.completedFuture(this);
+        }
+        final Executor mainThread = SpongeImpl.getScheduler().createSyncExecutor(SpongeImpl.getPlugin());
+        final int generation = this.dataGeneration;
+        // The player data file is read and decompressed on the internal async pool
+        final CompletableFuture<SpongeUser> future = SpongeImpl.getScheduler()
+                .submitAsyncTask(() -> Optional.ofNullable(readDataFile(file)))
+                .handleAsync((compound, throwable) -> {
+                    if (generation != this.dataGeneration) {
+                        // Invalidated or initialized in the meantime, the read data may be outdated
+                        return this;
+                    }
+                    this.pendingInitialization = null;
+                    if (throwable != null) {
+                        throw new CompletionException(throwable);
+                    }
+                    if (!isInitialized()) {
+                        SpongeTimings.userLoadAsyncTimer.startTiming();
+                        initializedUsers.add(this);
+                        this.nbt = new NBTTagCompound();
+                        compound.ifPresent(this::readFromNbt);
+                        SpongeTimings.userLoadAsyncTimer.stopTiming();
+                    }
+                    return this;
+                }, mainThread);
+        this.pendingInitialization = future;
+        return future;
+    }
+
+    @Nullable
+    private File getDataFile() {
         Optional<WorldServer> worldServer = WorldManager.getWorldByDimensionId(0);
         if (!worldServer.isPresent()) {
-            return;
+            return null;
         }
 
         // Note: Uses the overworld's player data
         final SaveHandlerAccessor saveHandler = (SaveHandlerAccessor) worldServer.get().getSaveHandler();
         final File file = new File(saveHandler.accessor$getPlayersDirectory(), this.profile.getId().toString() + ".dat");
         if (!file.exists()) {
-            return;
+            return null;
         }
+        return file;
+    }
 
+    @Nullable
+    private static NBTTagCompound readDataFile(File file) {
         try {
             try (FileInputStream in = new FileInputStream(file)) {
-                readFromNbt(CompressedStreamTools.readCompressed(in));
+                return CompressedStreamTools.readCompressed(in);
             }
         } catch (IOException e) {
             SpongeImpl.getLogger().warn("Corrupt user file {}", file, e);
+            return null;
         }
     }
 
@@ -0,0 +1,115 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dispatch metrics of a {@link RegisteredListener}. Every invocation is
+ * counted, but only every n-th invocation is timed to keep the overhead low.
+ */
+public final class ListenerMetrics {
+
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder cancellations = new LongAdder();
+    private final LongAdder sampledInvocations = new LongAdder();
+    private final LongAdder sampledTime = new LongAdder();
+    private final LongAccumulator maxTime = new LongAccumulator(Math::max, 0);
+    // Deliberately not thread safe, it's only used to pick the invocations to time
+    private int sampleCounter;
+
+    boolean shouldSample(int sampleMask) {
+        return (++this.sampleCounter & sampleMask) == 0;
+    }
+
+    void recordInvocation() {
+        this.invocations.increment();
+    }
+
+    void recordCancellation() {
+        this.cancellations.increment();
+    }
+
+    void recordSample(long time) {
+        this.sampledInvocations.increment();
+        this.sampledTime.add(time);
+        this.maxTime.accumulate(time);
+    }
+
+    public void reset() {
+        this.invocations.reset();
+        this.cancellations.reset();
+        this.sampledInvocations.reset();
+        this.sampledTime.reset();
+        this.maxTime.reset();
+    }
+
+    public long getInvocations() {
+        return this.invocations.sum();
+    }
+
+    /**
+     * Gets the number of invocations which cancelled the event.
+     *
+     * @return The cancellations
+     */
+    public long getCancellations() {
+        return this.cancellations.sum();
+    }
+
+    public long getSampledInvocations() {
+        return this.sampledInvocations.sum();
+    }
+
+    /**
+     * Gets the mean time of the timed invocations, in nanoseconds.
+     *
+     * @return The mean time
+     */
+    public double getMeanTime() {
+        final long sampledInvocations = this.sampledInvocations.sum();
+        return sampledInvocations == 0 ? 0 : (double) this.sampledTime.sum() / sampledInvocations;
+    }
+
+    /**
+     * Gets the estimated total time spent in the listener, in nanoseconds,
+     * extrapolated from the timed invocations.
+     *
+     * @return The estimated total time
+     */
+    public long getEstimatedTotalTime() {
+        return (long) (getMeanTime() * this.invocations.sum());
+    }
+
+    /**
+     * Gets the maximum time of the timed invocations, in nanoseconds.
+     *
+     * @return The maximum time
+     */
+    public long getMaxTime() {
+        return this.maxTime.get();
+    }
+}
@@ -28,6 +28,7 @@
 
 import org.spongepowered.common.relocate.co.aikar.timings.SpongeTimings;
 import co.aikar.timings.Timing;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.spongepowered.api.event.Event;
@@ -35,7 +36,6 @@
 import org.spongepowered.api.event.Order;
 import org.spongepowered.api.plugin.PluginContainer;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
@@ -50,6 +50,7 @@
     private final EventListener<? super T> listener;
 
     private final boolean beforeModifications;
+    private final ListenerMetrics metrics = new ListenerMetrics();
     private Timing listenerTimer;
 
     RegisteredListener(PluginContainer plugin, EventType<T> eventType, Order order, EventListener<? super T> listener, boolean beforeModifications) {
@@ -76,6 +77,10 @@ public boolean isBeforeModifications() {
         return this.beforeModifications;
     }
 
+    public ListenerMetrics getMetrics() {
+        return this.metrics;
+    }
+
     public Timing getTimingsHandler() {
         if (this.listenerTimer == null) {
             this.listenerTimer = SpongeTimings.getPluginTimings(this.plugin, getHandle().getClass().getSimpleName());
@@ -102,19 +107,23 @@ public int compareTo(RegisteredListener<?> handler) {
         return this.order.compareTo(handler.order);
     }
 
+    /**
+     * An immutable, sorted snapshot of the listeners of an event type.
+     */
     public static final class Cache {
 
         private final List<RegisteredListener<?>> listeners;
         private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
 
         Cache(List<RegisteredListener<?>> listeners) {
-            this.listeners = listeners;
+            this.listeners = ImmutableList.copyOf(listeners);
 
-            this.listenersByOrder = new EnumMap<>(Order.class);
+            final EnumMap<Order, ImmutableList.Builder<RegisteredListener<?>>> builders = new EnumMap<>(Order.class);
             for (RegisteredListener<?> handler : listeners) {
-                final List<RegisteredListener<?>> list = this.listenersByOrder.computeIfAbsent(handler.getOrder(), order -> new ArrayList<>());
-                list.add(handler);
+                builders.computeIfAbsent(handler.getOrder(), order -> ImmutableList.builder()).add(handler);
             }
+            this.listenersByOrder = new EnumMap<>(Order.class);
+            builders.forEach((order, builder) -> this.listenersByOrder.put(order, builder.build()));
         }
 
         public List<RegisteredListener<?>> getListeners() {
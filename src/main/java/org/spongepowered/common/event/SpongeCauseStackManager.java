@@ -39,6 +39,7 @@
 import org.spongepowered.asm.util.PrettyPrinter;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.mixin.core.server.MinecraftServerAccessor;
 import org.spongepowered.common.util.ThreadUtil;
@@ -179,7 +180,10 @@ public EventContext getCurrentContext() {
     public CauseStackManager pushCause(final Object obj) {
         enforceMainThread();
         checkNotNull(obj, "obj");
-        this.cached_cause = null;
+        if (obj instanceof SpongeBlockSnapshot) {
+            // Anything in the cause may be kept by listeners past the capturing phase
+            ((SpongeBlockSnapshot) obj).captureDeferredTileData();
+        }
         if (this.cause.peek() == obj) {
             // We don't want to be pushing duplicate objects
             // to the root and secondary entry of the cause.
@@ -197,6 +201,7 @@ public CauseStackManager pushCause(final Object obj) {
             this.duplicateCauses[dupedIndex] = this.duplicateCauses[dupedIndex] + 1;
             return this;
         }
+        this.cached_cause = null;
         this.cause.push(obj);
         return this;
     }
@@ -256,6 +261,9 @@ public StackFrame pushCauseFrame() {
             frame.old_min_depth = min_depth;
             frame.lastCauseSize = this.duplicateCauses[size];
         }
+        // Popping the frame restores the current cause and context, so do the snapshots of them
+        frame.cachedCause = this.cached_cause;
+        frame.cachedContext = this.cached_ctx;
 
         this.frames.push(frame);
         this.min_depth = size;
@@ -363,6 +371,14 @@ public void popCauseFrame(final StackFrame oldFrame) {
             // Then set the last cause index to whatever the size of the entry was at the time.
             this.duplicateCauses[size] = frame.lastCauseSize;
         }
+        // The cause and context are now back to what they were when the frame was pushed,
+        // if they were built back then there is no need to build them again.
+        if (frame.cachedContext != null) {
+            this.cached_ctx = frame.cachedContext;
+            if (frame.cachedCause != null) {
+                this.cached_cause = frame.cachedCause;
+            }
+        }
 
         // finally, return the frame to the pool
         if (this.framePool.size() < MAX_POOL_SIZE) {
@@ -378,8 +394,13 @@ public <T> CauseStackManager addContext(final EventContextKey<T> key, final T va
         enforceMainThread();
         checkNotNull(key, "key");
         checkNotNull(value, "value");
-        this.cached_ctx = null;
+        if (value instanceof SpongeBlockSnapshot) {
+            ((SpongeBlockSnapshot) value).captureDeferredTileData();
+        }
         final Object existing = this.ctx.put(key, value);
+        if (existing != value) {
+            this.cached_ctx = null;
+        }
         if (!this.frames.isEmpty()) {
             this.frames.peek().storeOriginalContext(key, existing);
         }
@@ -443,6 +464,8 @@ public static class CauseStackFrameImpl implements StackFrame {
         int old_min_depth;
         int lastCauseSize;
         private final Map<EventContextKey<?>, Object> storedContext = new HashMap<>();
+        @Nullable Cause cachedCause;
+        @Nullable EventContext cachedContext;
 
         @Nullable Exception stack_debug = null;
 
@@ -455,6 +478,8 @@ public void clear() {
             this.lastCauseSize = -1;
             this.old_min_depth = -1;
             this.stack_debug = null;
+            this.cachedCause = null;
+            this.cachedContext = null;
         }
 
         // used in chaining.
@@ -30,15 +30,14 @@
 import co.aikar.timings.Timing;
 import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import org.spongepowered.common.event.tracking.phase.plugin.EventListenerPhaseContext;
+import org.spongepowered.common.relocate.co.aikar.timings.TickProfiler;
 import org.spongepowered.common.relocate.co.aikar.timings.TimingsManager;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
-import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
 import com.google.common.reflect.TypeToken;
+import net.minecraft.util.math.MathHelper;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.logging.log4j.Logger;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.event.Cancellable;
@@ -55,6 +54,8 @@
 import org.spongepowered.api.plugin.PluginManager;
 import org.spongepowered.asm.util.PrettyPrinter;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.config.category.TimingsCategory;
 import org.spongepowered.common.event.filter.FilterFactory;
 import org.spongepowered.common.event.gen.DefineableClassLoader;
 import org.spongepowered.common.event.tracking.PhaseContext;
@@ -65,21 +66,20 @@
 import org.spongepowered.common.item.inventory.custom.CustomInventoryListener;
 import org.spongepowered.common.util.TypeTokenHelper;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -91,82 +91,89 @@
 public class SpongeEventManager implements EventManager {
 
     private static final TypeVariable<?> GENERIC_EVENT_TYPE = GenericEvent.class.getTypeParameters()[0];
+    private static final int LISTENER_METRICS_DISABLED = -1;
+    private static final int LISTENER_METRICS_UNCONFIGURED = -2;
 
+    // Only guards modifications, posting events never takes this lock
     private final Object lock = new Object();
     protected final Logger logger;
     private final PluginManager pluginManager;
-    private final Multimap<Class<?>, RegisteredListener<?>> handlersByEvent = HashMultimap.create();
+    /**
+     * The registered listeners by raw event type. The arrays are never
+     * modified, registrations replace them instead.
+     */
+    private final Map<Class<?>, RegisteredListener<?>[]> handlersByEvent = new ConcurrentHashMap<>();
     private final Map<ClassLoader, AnnotatedEventListener.Factory> classLoaders = new IdentityHashMap<>();
     private final Set<Object> registeredListeners = new ReferenceOpenHashSet<>();
+    // Bumped after every change to the registered listeners, see getHandlerCache
+    private volatile int handlersVersion;
+    private int listenerMetricsSampleMask = LISTENER_METRICS_UNCONFIGURED;
 
     public final ListenerChecker checker = new ListenerChecker(ShouldFire.class);
 
     /**
      * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
-     * removed.</p>
+     * <p>Registering or unregistering handlers rebakes only the cached event
+     * types which are subtypes of the changed handlers' event types.</p>
      */
-    protected final LoadingCache<EventType<?>, RegisteredListener.Cache> handlersCache =
-            Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
+    protected final ConcurrentMap<EventType<?>, RegisteredListener.Cache> handlersCache = new ConcurrentHashMap<>(150);
 
     @Inject
     public SpongeEventManager(Logger logger, PluginManager pluginManager) {
         this.logger = logger;
         this.pluginManager = checkNotNull(pluginManager, "pluginManager");
-
-        // Caffeine offers no control over the concurrency level of the
-        // ConcurrentHashMap which backs the cache. By default this concurrency
-        // level is 16. We replace the backing map before any use can occur
-        // a new ConcurrentHashMap with a concurrency level of 1
-        try {
-            // Cache impl class is UnboundedLocalLoadingCache which extends
-            // UnboundedLocalManualCache
-
-            // UnboundedLocalManualCache has a field 'cache' with an
-            // UnboundedLocalCache which contains the actual backing map
-            Field innerCache = this.handlersCache.getClass().getSuperclass().getDeclaredField("cache");
-            innerCache.setAccessible(true);
-            Object innerCacheValue = innerCache.get(this.handlersCache);
-            Class<?> innerCacheClass = innerCacheValue.getClass(); // UnboundedLocalCache
-            Field cacheData = innerCacheClass.getDeclaredField("data");
-            cacheData.setAccessible(true);
-            ConcurrentHashMap<Class<? extends Event>, RegisteredListener.Cache> newBackingData = new ConcurrentHashMap<>(150, 0.75f, 1);
-            cacheData.set(innerCacheValue, newBackingData);
-        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-            this.logger.warn("Failed to set event cache backing array, type was " + this.handlersCache.getClass().getName());
-            this.logger.warn("  Caused by: " + e.getClass().getName() + ": " + e.getMessage());
-        }
     }
 
     <T extends Event> RegisteredListener.Cache bakeHandlers(EventType<T> eventType) {
         final List<RegisteredListener<?>> handlers = new ArrayList<>();
         final Set<Class<? super T>> types = TypeToken.of(eventType.getType()).getTypes().rawTypes();
 
-        synchronized (this.lock) {
-            for (Class<? super T> type : types) {
-                if (Event.class.isAssignableFrom(type)) {
-                    final Collection<RegisteredListener<?>> listeners = this.handlersByEvent.get(type);
-                    if (GenericEvent.class.isAssignableFrom(type)) {
-                        final TypeToken<?> genericType = eventType.getGenericType();
-                        checkNotNull(genericType);
-                        for (RegisteredListener<?> listener : listeners) {
-                            final TypeToken<?> genericType1 = listener.getEventType().getGenericType();
-                            checkNotNull(genericType1);
-                            if (TypeTokenHelper.isAssignable(genericType, genericType1)) {
-                                handlers.add(listener);
-                            }
+        for (Class<? super T> type : types) {
+            if (Event.class.isAssignableFrom(type)) {
+                final RegisteredListener<?>[] listeners = this.handlersByEvent.get(type);
+                if (listeners == null) {
+                    continue;
+                }
+                if (GenericEvent.class.isAssignableFrom(type)) {
+                    final TypeToken<?> genericType = eventType.getGenericType();
+                    checkNotNull(genericType);
+                    for (RegisteredListener<?> listener : listeners) {
+                        final TypeToken<?> genericType1 = listener.getEventType().getGenericType();
+                        checkNotNull(genericType1);
+                        if (TypeTokenHelper.isAssignable(genericType, genericType1)) {
+                            handlers.add(listener);
                         }
-                    } else {
-                        handlers.addAll(listeners);
                     }
+                } else {
+                    Collections.addAll(handlers, listeners);
                 }
             }
         }
 
+        // Stable sort, listeners with the same order are called in registration order
         Collections.sort(handlers);
         return new RegisteredListener.Cache(handlers);
     }
 
+    /**
+     * Rebakes the cached handlers of all event types affected by changes to
+     * the listeners of the given raw event types. Must be called while holding
+     * the lock, after the changes were published.
+     *
+     * @param changedTypes The changed raw event types
+     */
+    private void rebakeHandlers(Set<Class<?>> changedTypes) {
+        this.handlersVersion++;
+        for (EventType<?> eventType : this.handlersCache.keySet()) {
+            for (Class<?> changedType : changedTypes) {
+                if (changedType.isAssignableFrom(eventType.getType())) {
+                    this.handlersCache.put(eventType, bakeHandlers(eventType));
+                    break;
+                }
+            }
+        }
+    }
+
     @Nullable
     private static String getHandlerErrorOrNull(Method method) {
         int modifiers = method.getModifiers();
@@ -202,20 +209,24 @@ private void register(RegisteredListener<? extends Event> handler) {
     }
 
     private void register(List<RegisteredListener<? extends Event>> handlers) {
-        boolean changed = false;
-
         synchronized (this.lock) {
+            final Set<Class<?>> changedTypes = new HashSet<>();
             for (RegisteredListener<?> handler : handlers) {
                 final Class<?> raw = handler.getEventType().getType();
-                if (this.handlersByEvent.put(raw, handler)) {
-                    changed = true;
-                    this.checker.registerListenerFor(raw);
+                final RegisteredListener<?>[] listeners = this.handlersByEvent.get(raw);
+                if (listeners == null) {
+                    this.handlersByEvent.put(raw, new RegisteredListener<?>[] {handler});
+                } else if (!ArrayUtils.contains(listeners, handler)) {
+                    this.handlersByEvent.put(raw, ArrayUtils.add(listeners, handler));
+                } else {
+                    continue;
                 }
+                changedTypes.add(raw);
+                this.checker.registerListenerFor(raw);
+            }
+            if (!changedTypes.isEmpty()) {
+                rebakeHandlers(changedTypes);
             }
-        }
-
-        if (changed) {
-            this.handlersCache.invalidateAll();
         }
     }
 
@@ -224,25 +235,28 @@ private void registerListener(PluginContainer plugin, Object listenerObject) {
         checkNotNull(plugin, "plugin");
         checkNotNull(listenerObject, "listener");
 
-        if (this.registeredListeners.contains(listenerObject)) {
-            this.logger.warn("Plugin {} attempted to register an already registered listener ({})", plugin.getId(),
-                    listenerObject.getClass().getName());
-            Thread.dumpStack();
-            return;
-        }
-
         List<RegisteredListener<? extends Event>> handlers = Lists.newArrayList();
         Map<Method, String> methodErrors = new HashMap<>();
 
         Class<?> handle = listenerObject.getClass();
         ClassLoader handleLoader = handle.getClassLoader();
 
-        AnnotatedEventListener.Factory handlerFactory = classLoaders.get(handleLoader);
-        if (handlerFactory == null) {
-            final DefineableClassLoader classLoader = new DefineableClassLoader(handleLoader);
-            handlerFactory = new ClassEventListenerFactory("org.spongepowered.common.event.listener",
-                    new FilterFactory("org.spongepowered.common.event.filters", classLoader), classLoader);
-            classLoaders.put(handleLoader, handlerFactory);
+        AnnotatedEventListener.Factory handlerFactory;
+        synchronized (this.lock) {
+            if (this.registeredListeners.contains(listenerObject)) {
+                this.logger.warn("Plugin {} attempted to register an already registered listener ({})", plugin.getId(),
+                        listenerObject.getClass().getName());
+                Thread.dumpStack();
+                return;
+            }
+
+            handlerFactory = this.classLoaders.get(handleLoader);
+            if (handlerFactory == null) {
+                final DefineableClassLoader classLoader = new DefineableClassLoader(handleLoader);
+                handlerFactory = new ClassEventListenerFactory("org.spongepowered.common.event.listener",
+                        new FilterFactory("org.spongepowered.common.event.filters", classLoader), classLoader);
+                this.classLoaders.put(handleLoader, handlerFactory);
+            }
         }
 
         for (Method method : handle.getMethods()) {
@@ -285,8 +299,10 @@ private void registerListener(PluginContainer plugin, Object listenerObject) {
                     method.getKey().getDeclaringClass().getName(), method.getValue());
         }
 
-        this.registeredListeners.add(listenerObject);
-        register(handlers);
+        synchronized (this.lock) {
+            this.registeredListeners.add(listenerObject);
+            register(handlers);
+        }
     }
 
     private static <T extends Event> RegisteredListener<T> createRegistration(PluginContainer plugin, TypeToken<T> eventClass, Listener listener,
@@ -348,24 +364,31 @@ public <T extends Event> void registerListener(Object plugin, TypeToken<T> event
     }
 
     private void unregister(Predicate<RegisteredListener<?>> unregister) {
-        boolean changed = false;
-
         synchronized (this.lock) {
-            Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
-            while (itr.hasNext()) {
-                RegisteredListener<?> handler = itr.next();
-                if (unregister.test(handler)) {
-                    itr.remove();
-                    changed = true;
-                    // TODO: This doesn't seem right, even as it was before
-                    this.checker.unregisterListenerFor(handler.getEventType().getType());
-                    this.registeredListeners.remove(handler.getHandle());
+            final Set<Class<?>> changedTypes = new HashSet<>();
+            for (Map.Entry<Class<?>, RegisteredListener<?>[]> entry : this.handlersByEvent.entrySet()) {
+                final List<RegisteredListener<?>> remaining = new ArrayList<>(entry.getValue().length);
+                for (RegisteredListener<?> handler : entry.getValue()) {
+                    if (unregister.test(handler)) {
+                        // TODO: This doesn't seem right, even as it was before
+                        this.checker.unregisterListenerFor(handler.getEventType().getType());
+                        this.registeredListeners.remove(handler.getHandle());
+                    } else {
+                        remaining.add(handler);
+                    }
+                }
+                if (remaining.size() != entry.getValue().length) {
+                    changedTypes.add(entry.getKey());
+                    if (remaining.isEmpty()) {
+                        this.handlersByEvent.remove(entry.getKey());
+                    } else {
+                        entry.setValue(remaining.toArray(new RegisteredListener<?>[0]));
+                    }
                 }
             }
-        }
-
-        if (changed) {
-            this.handlersCache.invalidateAll();
+            if (!changedTypes.isEmpty()) {
+                rebakeHandlers(changedTypes);
+            }
         }
     }
 
@@ -396,20 +419,38 @@ protected RegisteredListener.Cache getHandlerCache(Event event) {
         } else {
             eventType = new EventType(eventClass, null);
         }
-        return this.handlersCache.get(eventType);
+        RegisteredListener.Cache cache = this.handlersCache.get(eventType);
+        while (cache == null) {
+            final int version = this.handlersVersion;
+            final RegisteredListener.Cache baked = bakeHandlers(eventType);
+            final RegisteredListener.Cache existing = this.handlersCache.putIfAbsent(eventType, baked);
+            if (existing != null) {
+                cache = existing;
+            } else if (version == this.handlersVersion) {
+                cache = baked;
+            } else {
+                // The handlers changed while baking, the rebake may have missed the
+                // new entry so it has to be baked again
+                this.handlersCache.remove(eventType, baked);
+                cache = this.handlersCache.get(eventType);
+            }
+        }
+        return cache;
     }
 
     @SuppressWarnings("unchecked")
     private boolean post(Event event, List<RegisteredListener<?>> handlers) {
+        final int sampleMask = getListenerMetricsSampleMask();
         if (!Sponge.getServer().isMainThread()) {
             // If this event is being posted asynchronously then we don't want
             // to do any timing or cause stack changes
-            for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
+            for (int i = 0; i < handlers.size(); i++) {
+                @SuppressWarnings("rawtypes") final RegisteredListener handler = handlers.get(i);
                 try {
                     if (event instanceof AbstractEvent) {
                         ((AbstractEvent) event).currentOrder = handler.getOrder();
                     }
-                    handler.handle(event);
+                    handle(handler, event, sampleMask);
                 } catch (Throwable e) {
                     SpongeImpl.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
                 }
@@ -420,7 +461,14 @@ private boolean post(Event event, List<RegisteredListener<?>> handlers) {
             return event instanceof Cancellable && ((Cancellable) event).isCancelled();
         }
         TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
-        for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
+        // Exceptions of the listeners are caught below, so the phase is always stopped.
+        // The tick profiler is only used from the main thread, like the timings above
+        final boolean profileTick = SpongeImplHooks.isMainThread();
+        if (profileTick) {
+            TickProfiler.EVENTS.start();
+        }
+        for (int i = 0; i < handlers.size(); i++) {
+            @SuppressWarnings("rawtypes") final RegisteredListener handler = handlers.get(i);
             try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame();
                  final PhaseContext<?> context = createPluginContext(handler);
                  final Timing timings = handler.getTimingsHandler()) {
@@ -432,7 +480,7 @@ private boolean post(Event event, List<RegisteredListener<?>> handlers) {
                 if (event instanceof AbstractEvent) {
                     ((AbstractEvent) event).currentOrder = handler.getOrder();
                 }
-                handler.handle(event);
+                handle(handler, event, sampleMask);
             } catch (Throwable e) {
                 // TODO - add some better handling, especially since we have the stakc frame and phase context to boot
                 final PrettyPrinter printer = new PrettyPrinter(60).add("Error with event listener handling").centre().hr();
@@ -440,12 +488,88 @@ private boolean post(Event event, List<RegisteredListener<?>> handlers) {
                 this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
             }
         }
+        if (profileTick) {
+            TickProfiler.EVENTS.stop();
+        }
         if (event instanceof AbstractEvent) {
             ((AbstractEvent) event).currentOrder = null;
         }
         return event instanceof Cancellable && ((Cancellable) event).isCancelled();
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void handle(RegisteredListener handler, Event event, int sampleMask) throws Exception {
+        if (sampleMask == LISTENER_METRICS_DISABLED) {
+            handler.handle(event);
+            return;
+        }
+        final ListenerMetrics metrics = handler.getMetrics();
+        final boolean wasCancelled = event instanceof Cancellable && ((Cancellable) event).isCancelled();
+        try {
+            if (metrics.shouldSample(sampleMask)) {
+                final long start = System.nanoTime();
+                try {
+                    handler.handle(event);
+                } finally {
+                    metrics.recordSample(System.nanoTime() - start);
+                }
+            } else {
+                handler.handle(event);
+            }
+        } finally {
+            metrics.recordInvocation();
+        }
+        if (!wasCancelled && event instanceof Cancellable && ((Cancellable) event).isCancelled()) {
+            metrics.recordCancellation();
+        }
+    }
+
+    private int getListenerMetricsSampleMask() {
+        int sampleMask = this.listenerMetricsSampleMask;
+        if (sampleMask == LISTENER_METRICS_UNCONFIGURED) {
+            if (!SpongeImpl.isInitialized()) {
+                return LISTENER_METRICS_DISABLED;
+            }
+            final TimingsCategory category = SpongeImpl.getGlobalConfigAdapter().getConfig().getTimings();
+            sampleMask = category.isListenerMetricsEnabled()
+                    ? MathHelper.smallestEncompassingPowerOfTwo(Math.max(category.getListenerMetricsSampleRate(), 1)) - 1
+                    : LISTENER_METRICS_DISABLED;
+            this.listenerMetricsSampleMask = sampleMask;
+        }
+        return sampleMask;
+    }
+
+    /**
+     * Gets whether dispatch metrics are collected for registered listeners.
+     *
+     * @return Whether listener metrics are enabled
+     */
+    public boolean isListenerMetricsEnabled() {
+        return getListenerMetricsSampleMask() != LISTENER_METRICS_DISABLED;
+    }
+
+    /**
+     * Gets the rate at which listener invocations are timed.
+     *
+     * @return Every how many invocations one is timed
+     */
+    public int getListenerMetricsSampleRate() {
+        return getListenerMetricsSampleMask() + 1;
+    }
+
+    /**
+     * Gets all currently registered listeners.
+     *
+     * @return The registered listeners
+     */
+    public List<RegisteredListener<?>> getRegisteredListeners() {
+        final List<RegisteredListener<?>> listeners = new ArrayList<>();
+        for (RegisteredListener<?>[] handlers : this.handlersByEvent.values()) {
+            Collections.addAll(listeners, handlers);
+        }
+        return listeners;
+    }
+
     @Nullable
     private EventListenerPhaseContext createPluginContext(RegisteredListener<?> handler) {
         if (PhaseTracker.getInstance().getCurrentState().allowsEventListener()) {
@@ -64,6 +64,7 @@
 import org.spongepowered.common.event.tracking.phase.general.GeneralPhase;
 import org.spongepowered.common.world.BlockChange;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
@@ -132,6 +133,8 @@ public static PhaseContext<?> empty() {
     @Nullable Deque<CauseStackManager.StackFrame> usedFrame;
 
     @Nullable private Object source;
+    // Snapshots captured by this context that still reference their tile entity, see #deferTileData
+    @Nullable private List<SpongeBlockSnapshot> deferredTileSnapshots;
 
     public P source(final Object owner) {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
@@ -616,6 +619,7 @@ public void close() { // Should never throw an exception
             return;
         }
         PhaseTracker.getInstance().completePhase(this.state);
+        this.releaseDeferredTileData();
         if (!((IPhaseState) this.state).shouldProvideModifiers(this)) {
             if (this.usedFrame != null) {
                 this.usedFrame.iterator().forEachRemaining(Sponge.getCauseStackManager()::popCauseFrame);
@@ -640,6 +644,30 @@ public void close() { // Should never throw an exception
         }
     }
 
+    /**
+     * Registers a snapshot captured by this context whose tile entity data
+     * is only serialized once it's requested. The deferral does not outlive
+     * this context: once it closes, the snapshot drops its reference to the
+     * tile entity.
+     *
+     * @param snapshot The snapshot
+     */
+    public void deferTileData(final SpongeBlockSnapshot snapshot) {
+        if (this.deferredTileSnapshots == null) {
+            this.deferredTileSnapshots = new ArrayList<>();
+        }
+        this.deferredTileSnapshots.add(snapshot);
+    }
+
+    private void releaseDeferredTileData() {
+        if (this.deferredTileSnapshots != null && !this.deferredTileSnapshots.isEmpty()) {
+            for (final SpongeBlockSnapshot snapshot : this.deferredTileSnapshots) {
+                snapshot.releaseDeferredTileData();
+            }
+            this.deferredTileSnapshots.clear();
+        }
+    }
+
     protected void reset() {
         this.source = null;
         this.neighborNotificationSource = null;
@@ -887,6 +887,28 @@ public static void addTileEntityToBuilder(@Nullable final net.minecraft.tileenti
         }
     }
 
+    /**
+     * Adds the tile entity about to be changed by a tracked block change to
+     * the snapshot builder. Without block change listeners the original
+     * snapshot can't be observed or restored, so serializing the tile entity
+     * is deferred until its data is actually requested or the snapshot is
+     * added to the cause of an event.
+     *
+     * @param existing The tile entity
+     * @param builder The snapshot builder
+     */
+    public static void addTrackedTileEntityToBuilder(final net.minecraft.tileentity.TileEntity existing, final SpongeBlockSnapshotBuilder builder) {
+        // Portal teleports restore the captured blocks if they get cancelled
+        if (ShouldFire.CHANGE_BLOCK_EVENT || ShouldFire.MOVE_ENTITY_EVENT) {
+            addTileEntityToBuilder(existing, builder);
+            return;
+        }
+        for (final DataManipulator<?, ?> manipulator : ((CustomDataHolderBridge) existing).bridge$getCustomManipulators()) {
+            builder.add(manipulator);
+        }
+        builder.deferredTileData(existing);
+    }
+
     public static String phaseStateToString(final String type, final IPhaseState<?> state) {
         return phaseStateToString(type, null, state);
     }
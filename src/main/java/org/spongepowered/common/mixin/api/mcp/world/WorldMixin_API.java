@@ -126,6 +126,7 @@
 import org.spongepowered.common.bridge.data.CustomDataHolderBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.WorldInfoBridge;
+import org.spongepowered.common.bridge.world.WorldServerBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.mixin.core.network.play.server.SPacketBlockChangeAccessor;
 import org.spongepowered.common.registry.provider.DirectionFacingProvider;
@@ -698,6 +699,15 @@ public Optional<AABB> getBlockSelectionBox(int x, int y, int z) {
     public Set<Entity> getIntersectingEntities(AABB box, Predicate<Entity> filter) {
         checkNotNull(box, "box");
         checkNotNull(filter, "filter");
+        if (this instanceof WorldServerBridge) {
+            final Set<Entity> entities = new HashSet<>();
+            ((WorldServerBridge) this).bridge$forEachEntityWithinAABB(net.minecraft.entity.Entity.class, VecHelper.toMinecraftAABB(box), entity -> {
+                if (filter.test((Entity) entity)) {
+                    entities.add((Entity) entity);
+                }
+            });
+            return entities;
+        }
         return getEntitiesWithinAABB(net.minecraft.entity.Entity.class, VecHelper.toMinecraftAABB(box), entity -> filter.test((Entity) entity))
                 .stream()
                 .map(entity -> (Entity) entity)
@@ -31,15 +31,19 @@
 import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.bridge.server.management.PlayerChunkMapEntryBridge;
+import org.spongepowered.common.bridge.world.chunk.ChunkProviderServerBridge;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.Nullable;
 
@@ -50,11 +54,13 @@ public abstract class PlayerChunkMapEntryMixin implements PlayerChunkMapEntryBri
     @Shadow @Final private ChunkPos pos;
     @Shadow private int changes;
     @Shadow private int changedSectionFilter;
+    @Shadow @Final private List<EntityPlayerMP> players;
     @Shadow @Nullable private Chunk chunk;
 
     @Shadow public abstract void sendPacket(Packet<?> packetIn);
 
     private boolean impl$updateBiomes;
+    @Nullable private CompletableFuture<Chunk> impl$loadFuture;
 
     @Inject(method = "update", at = @At("HEAD"), cancellable = true)
     private void impl$updateBiomes(final CallbackInfo ci) {
@@ -69,6 +75,76 @@ public abstract class PlayerChunkMapEntryMixin implements PlayerChunkMapEntryBri
         }
     }
 
+    @Redirect(method = "<init>",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/world/gen/ChunkProviderServer;loadChunk(II)Lnet/minecraft/world/chunk/Chunk;"),
+        require = 0, expect = 0)
+    @Nullable
+    private Chunk impl$loadChunkAsyncOnCreation(final ChunkProviderServer provider, final int x, final int z) {
+        return this.impl$provideChunkAsync(provider, x, z, false);
+    }
+
+    @Redirect(method = "providePlayerChunk",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/world/gen/ChunkProviderServer;loadChunk(II)Lnet/minecraft/world/chunk/Chunk;"),
+        require = 0, expect = 0)
+    @Nullable
+    private Chunk impl$loadChunkAsync(final ChunkProviderServer provider, final int x, final int z) {
+        return this.impl$provideChunkAsync(provider, x, z, false);
+    }
+
+    @Redirect(method = "providePlayerChunk",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/world/gen/ChunkProviderServer;provideChunk(II)Lnet/minecraft/world/chunk/Chunk;"),
+        require = 0, expect = 0)
+    @Nullable
+    private Chunk impl$loadChunkAsyncOrGenerate(final ChunkProviderServer provider, final int x, final int z) {
+        return this.impl$provideChunkAsync(provider, x, z, true);
+    }
+
+    /**
+     * Reads the chunk off the server thread, returning {@code null} while the
+     * read is in flight. The player chunk map keeps polling entries without a
+     * chunk every tick, so the chunk is picked up once the read completed.
+     */
+    @Nullable
+    private Chunk impl$provideChunkAsync(final ChunkProviderServer provider, final int x, final int z, final boolean generate) {
+        final Chunk loaded = provider.getLoadedChunk(x, z);
+        if (loaded != null) {
+            this.impl$loadFuture = null;
+            return loaded;
+        }
+        if (this.impl$loadFuture == null) {
+            this.impl$loadFuture = ((ChunkProviderServerBridge) provider).bridge$loadChunkAsync(x, z);
+        }
+        final CompletableFuture<Chunk> future = this.impl$loadFuture;
+        if (!future.isDone()) {
+            return null;
+        }
+        this.impl$loadFuture = null;
+        if (generate) {
+            return provider.provideChunk(x, z);
+        }
+        if (!future.isCompletedExceptionally() && future.join() == null) {
+            // Nothing on disk and we're not allowed to generate yet
+            return null;
+        }
+        // Either the read failed or the chunk got unloaded again before we polled it
+        return provider.loadChunk(x, z);
+    }
+
+    @Inject(method = "removePlayer", at = @At("RETURN"))
+    private void impl$unloadPendingChunk(final EntityPlayerMP player, final CallbackInfo ci) {
+        if (this.impl$loadFuture == null || !this.players.isEmpty()) {
+            return;
+        }
+        final CompletableFuture<Chunk> future = this.impl$loadFuture;
+        this.impl$loadFuture = null;
+        // The entry is gone, so nothing will queue the chunk for unloading once it arrives
+        future.thenAccept(chunk -> {
+            if (chunk != null && this.playerChunkMap.getEntry(this.pos.x, this.pos.z) == null) {
+                this.playerChunkMap.getWorldServer().getChunkProvider().queueUnload(chunk);
+            }
+        });
+    }
+
     @Override
     public void bridge$markBiomesForUpdate() {
         this.impl$updateBiomes = true;
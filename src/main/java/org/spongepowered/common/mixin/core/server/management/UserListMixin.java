@@ -25,7 +25,10 @@
 package org.spongepowered.common.mixin.core.server.management;
 
 import net.minecraft.server.management.UserList;
+import net.minecraft.server.management.UserListOps;
 import org.apache.logging.log4j.Logger;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.service.permission.PermissionService;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
@@ -33,6 +36,7 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.service.permission.SpongePermissionService;
 
 import java.io.File;
 import java.util.List;
@@ -61,4 +65,15 @@ private void onReadSavedFile(final CallbackInfo ci) {
         }
     }
 
+    // The permissions of users depend on their op level, which is looked up in the ops list
+    @Inject(method = {"addEntry", "removeEntry", "readSavedFile"}, at = @At("RETURN"))
+    private void impl$invalidatePermissionsOnOpsChange(final CallbackInfo ci) {
+        if ((Object) this instanceof UserListOps) {
+            // The ops list is first read before the services are registered
+            Sponge.getServiceManager().provide(PermissionService.class)
+                .filter(service -> service instanceof SpongePermissionService)
+                .ifPresent(service -> ((SpongePermissionService) service).invalidateResolvedValues());
+        }
+    }
+
 }
@@ -50,6 +50,7 @@
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.management.PlayerChunkMap;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ClassInheritanceMultiMap;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.IProgressUpdate;
 import net.minecraft.util.ITickable;
@@ -179,6 +180,8 @@
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.ChunkGCBudget;
+import org.spongepowered.common.world.EntitySpatialIndex;
 import org.spongepowered.common.world.SpongeLocatableBlockBuilder;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.border.PlayerBorderListener;
@@ -188,6 +191,7 @@
 import org.spongepowered.common.world.gen.WorldGenConstants;
 
 import javax.annotation.Nullable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
@@ -198,6 +202,8 @@
 import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 @Mixin(WorldServer.class)
@@ -212,6 +218,9 @@ public abstract class WorldServerMixin extends WorldMixin implements WorldServer
     private int impl$chunkGCLoadThreshold = 0;
     private int impl$chunkGCTickInterval = Constants.World.CHUNK_GC_TICK_INTERVAL;
     private int impl$chunkLoadCount = 0;
+    private final ChunkGCBudget impl$chunkGCBudget = new ChunkGCBudget();
+    private final ArrayDeque<net.minecraft.world.chunk.Chunk> impl$chunkGCQueue = new ArrayDeque<>();
+    @Nullable private EntitySpatialIndex impl$entitySpatialIndex;
     private long impl$chunkUnloadDelay = Constants.World.CHUNK_UNLOAD_DELAY;
     private boolean impl$weatherThunderEnabled = true;
     private boolean impl$weatherIceAndSnowEnabled = true;
@@ -279,6 +288,8 @@ private void onSetWorld(final WorldProvider worldProvider, final World worldIn)
         final WorldCategory worldCategory = ((WorldInfoBridge) this.getWorldInfo()).bridge$getConfigAdapter().getConfig().getWorld();
         this.impl$chunkGCLoadThreshold = worldCategory.getChunkLoadThreshold();
         this.impl$chunkGCTickInterval = worldCategory.getTickInterval();
+        this.impl$chunkGCBudget.configure(worldCategory.getChunkGCMaxTimePerTick(), worldCategory.getChunkGCTargetTickTime());
+        this.impl$setEntitySpatialIndexEnabled(worldCategory.useEntitySpatialIndex());
         this.impl$weatherIceAndSnowEnabled = worldCategory.getWeatherIceAndSnow();
         this.impl$weatherThunderEnabled = worldCategory.getWeatherThunder();
         this.updateEntityTick = 0;
@@ -368,6 +379,8 @@ private void onSetWorld(final WorldProvider worldProvider, final World worldIn)
         final WorldCategory worldCategory = configAdapter.getConfig().getWorld();
         this.impl$chunkGCLoadThreshold = worldCategory.getChunkLoadThreshold();
         this.impl$chunkGCTickInterval = worldCategory.getTickInterval();
+        this.impl$chunkGCBudget.configure(worldCategory.getChunkGCMaxTimePerTick(), worldCategory.getChunkGCTargetTickTime());
+        this.impl$setEntitySpatialIndexEnabled(worldCategory.useEntitySpatialIndex());
         this.impl$weatherIceAndSnowEnabled = worldCategory.getWeatherIceAndSnow();
         this.impl$weatherThunderEnabled = worldCategory.getWeatherThunder();
         this.impl$chunkUnloadDelay = worldCategory.getChunkUnloadDelay() * 1000;
@@ -1121,32 +1134,54 @@ protected TileEntity getQueuedRemovedTileFromProxy(final BlockPos pos) {
     public void bridge$doChunkGC() {
         this.impl$chunkGCTickCount++;
 
+        final ChunkProviderServer chunkProviderServer = this.getChunkProvider();
         if (this.impl$chunkLoadCount >= this.impl$chunkGCLoadThreshold && this.impl$chunkGCLoadThreshold > 0) {
             this.impl$chunkLoadCount = 0;
+            this.impl$snapshotChunkGCQueue(chunkProviderServer);
         } else if (this.impl$chunkGCTickCount >= this.impl$chunkGCTickInterval && this.impl$chunkGCTickInterval > 0) {
             this.impl$chunkGCTickCount = 0;
-        } else {
+            this.impl$snapshotChunkGCQueue(chunkProviderServer);
+        }
+
+        if (this.impl$chunkGCQueue.isEmpty() || !this.impl$chunkGCBudget.hasTimeLeft()) {
             return;
         }
 
-        final ChunkProviderServer chunkProviderServer = this.getChunkProvider();
-        for (final net.minecraft.world.chunk.Chunk chunk : chunkProviderServer.getLoadedChunks()) {
-            final ChunkBridge spongeChunk = (ChunkBridge) chunk;
-            if (chunk.unloadQueued || spongeChunk.bridge$isPersistedChunk() || !this.provider.canDropChunk(chunk.x, chunk.z)) {
-                continue;
+        final long startTime = System.nanoTime();
+        int scanned = 0;
+        net.minecraft.world.chunk.Chunk chunk;
+        while ((chunk = this.impl$chunkGCQueue.poll()) != null) {
+            scanned++;
+            // The chunk may have been unloaded or replaced since the queue was filled
+            if (!chunk.unloadQueued && chunkProviderServer.getLoadedChunk(chunk.x, chunk.z) == chunk
+                    && !((ChunkBridge) chunk).bridge$isPersistedChunk() && this.provider.canDropChunk(chunk.x, chunk.z)
+                    // If a player is currently using the chunk, skip it
+                    && !((PlayerChunkMapBridge) this.getPlayerChunkMap()).bridge$isChunkInUse(chunk.x, chunk.z)) {
+                // If we reach this point the chunk leaked so queue for unload
+                chunkProviderServer.queueUnload(chunk);
+                this.impl$chunkGCBudget.recordQueued();
+                SpongeHooks.logChunkGCQueueUnload((WorldServer) (Object) this, chunk);
             }
-
-            // If a player is currently using the chunk, skip it
-            if (((PlayerChunkMapBridge) this.getPlayerChunkMap()).bridge$isChunkInUse(chunk.x, chunk.z)) {
-                continue;
+            // Checking the clock is not free, so only do it every few chunks
+            if ((scanned & 31) == 0 && !this.impl$chunkGCQueue.isEmpty() && !this.impl$chunkGCBudget.hasTimeLeft(startTime)) {
+                this.impl$chunkGCBudget.recordDeferral();
+                break;
             }
-
-            // If we reach this point the chunk leaked so queue for unload
-            chunkProviderServer.queueUnload(chunk);
-            SpongeHooks.logChunkGCQueueUnload((WorldServer) (Object) this, chunk);
         }
+        this.impl$chunkGCBudget.recordScanned(scanned);
+        this.impl$chunkGCBudget.consume(startTime);
+    }
+
+    private void impl$snapshotChunkGCQueue(final ChunkProviderServer chunkProviderServer) {
+        // A scan still in progress is restarted, as the new snapshot covers all of its chunks
+        this.impl$chunkGCQueue.clear();
+        this.impl$chunkGCQueue.addAll(chunkProviderServer.getLoadedChunks());
     }
 
+    @Override
+    public ChunkGCBudget bridge$getChunkGCBudget() {
+        return this.impl$chunkGCBudget;
+    }
 
     @Inject(method = "saveLevel", at = @At("HEAD"))
     private void onSaveLevel(final CallbackInfo ci) {
@@ -1695,53 +1730,169 @@ public <T extends net.minecraft.entity.Entity> List<T> getEntitiesWithinAABB(fin
         final int maxChunkZ = MathHelper.ceil((aabb.maxZ + maxEntityRadius) / 16.0D);
         // Sponge End
         final List<T> list = Lists.newArrayList();
-
-        for (int currentX = minChunkX; currentX < maxChunkX; ++currentX) {
-            for (int currentZ = minChunkZ; currentZ < maxChunkZ; ++currentZ) {
-                if (this.isChunkLoaded(currentX, currentZ, true)) {
-                    this.getChunk(currentX, currentZ).getEntitiesOfTypeWithinAABB(clazz, aabb, list, filter);
+        // Sponge Start - use the spatial index if enabled, it is only maintained on the main thread
+        final boolean isMainThread = Sponge.isServerAvailable() && Sponge.getServer().isMainThread();
+        if (!isMainThread || this.impl$entitySpatialIndex == null || impl$isCollisionLimited()
+                || !this.impl$entitySpatialIndex.getEntitiesWithinAABB(clazz, aabb, list, filter, maxEntityRadius)) {
+            for (int currentX = minChunkX; currentX < maxChunkX; ++currentX) {
+                for (int currentZ = minChunkZ; currentZ < maxChunkZ; ++currentZ) {
+                    if (this.isChunkLoaded(currentX, currentZ, true)) {
+                        this.getChunk(currentX, currentZ).getEntitiesOfTypeWithinAABB(clazz, aabb, list, filter);
+                    }
                 }
             }
         }
+        // Sponge End
         // Sponge Start - check the phase tracker
-        final boolean isMainThread = Sponge.isServerAvailable() && Sponge.getServer().isMainThread();
         if (!isMainThread) {
             // Short circuit here if we're not on the main thread. Don't bother with the PhaseTracker off thread.
             return list;
         }
+        this.impl$visitCapturedEntities(clazz, aabb, filter, list::add);
+        // Sponge End
+        return list;
+    }
+
+    /**
+     * Gets whether the current phase may limit the amount of collisions. The
+     * limit is applied while the chunk sections are queried, so the spatial
+     * index must not be used then.
+     */
+    private static boolean impl$isCollisionLimited() {
+        final PhaseTracker phaseTracker = PhaseTracker.getInstance();
+        return phaseTracker.getCurrentState().isCollision() && phaseTracker.getCurrentContext().getSource() instanceof CollisionsCapability;
+    }
+
+    @Override
+    public <T extends net.minecraft.entity.Entity> int bridge$countEntitiesWithinAABB(final Class<? extends T> clazz, final AxisAlignedBB aabb,
+        @Nullable final java.util.function.Predicate<? super T> filter) {
+        return this.impl$visitEntitiesWithinAABB(clazz, aabb, filter, null);
+    }
+
+    @Override
+    public <T extends net.minecraft.entity.Entity> void bridge$forEachEntityWithinAABB(final Class<? extends T> clazz, final AxisAlignedBB aabb,
+        final Consumer<? super T> consumer) {
+        this.impl$visitEntitiesWithinAABB(clazz, aabb, null, consumer);
+    }
+
+    /**
+     * Walks the same entities as {@link #getEntitiesWithinAABB(Class, AxisAlignedBB, Predicate)}
+     * without collecting them.
+     *
+     * @return The number of entities that matched
+     */
+    private <T extends net.minecraft.entity.Entity> int impl$visitEntitiesWithinAABB(final Class<? extends T> clazz, final AxisAlignedBB aabb,
+        @Nullable final java.util.function.Predicate<? super T> filter, @Nullable final Consumer<? super T> consumer) {
+        final boolean isMainThread = Sponge.isServerAvailable() && Sponge.getServer().isMainThread();
+        final double maxEntityRadius = SpongeImplHooks.getWorldMaxEntityRadius((WorldServer) (Object) this);
+        int found = -1;
+        if (isMainThread && this.impl$entitySpatialIndex != null) {
+            found = this.impl$entitySpatialIndex.visitEntitiesWithinAABB(clazz, aabb, filter, consumer, maxEntityRadius);
+        }
+        if (found < 0) {
+            found = 0;
+            final int minChunkX = MathHelper.floor((aabb.minX - maxEntityRadius) / 16.0D);
+            final int maxChunkX = MathHelper.ceil((aabb.maxX + maxEntityRadius) / 16.0D);
+            final int minChunkZ = MathHelper.floor((aabb.minZ - maxEntityRadius) / 16.0D);
+            final int maxChunkZ = MathHelper.ceil((aabb.maxZ + maxEntityRadius) / 16.0D);
+            final ChunkProviderServer chunkProvider = this.getChunkProvider();
+            final Collection<net.minecraft.world.chunk.Chunk> loadedChunks = chunkProvider.getLoadedChunks();
+            // Huge boxes, such as selectors with a large radius, cover far more chunk
+            // coordinates than there are loaded chunks, so walk those instead
+            if ((long) (maxChunkX - minChunkX) * (maxChunkZ - minChunkZ) > loadedChunks.size()) {
+                for (final net.minecraft.world.chunk.Chunk chunk : loadedChunks) {
+                    if (chunk.x >= minChunkX && chunk.x < maxChunkX && chunk.z >= minChunkZ && chunk.z < maxChunkZ) {
+                        found += impl$visitChunkEntities(chunk, clazz, aabb, filter, consumer, maxEntityRadius);
+                    }
+                }
+            } else {
+                for (int chunkX = minChunkX; chunkX < maxChunkX; ++chunkX) {
+                    for (int chunkZ = minChunkZ; chunkZ < maxChunkZ; ++chunkZ) {
+                        final net.minecraft.world.chunk.Chunk chunk =
+                            ((ChunkProviderBridge) chunkProvider).bridge$getLoadedChunkWithoutMarkingActive(chunkX, chunkZ);
+                        if (chunk != null) {
+                            found += impl$visitChunkEntities(chunk, clazz, aabb, filter, consumer, maxEntityRadius);
+                        }
+                    }
+                }
+            }
+        }
+        if (!isMainThread) {
+            return found;
+        }
+        return found + this.impl$visitCapturedEntities(clazz, aabb, filter, consumer);
+    }
+
+    private static <T extends net.minecraft.entity.Entity> int impl$visitChunkEntities(final net.minecraft.world.chunk.Chunk chunk,
+        final Class<? extends T> clazz, final AxisAlignedBB aabb, @Nullable final java.util.function.Predicate<? super T> filter,
+        @Nullable final Consumer<? super T> consumer, final double maxEntityRadius) {
+        int found = 0;
+        final ClassInheritanceMultiMap<net.minecraft.entity.Entity>[] entityLists = chunk.getEntityLists();
+        final int minY = MathHelper.clamp(MathHelper.floor((aabb.minY - maxEntityRadius) / 16.0D), 0, entityLists.length - 1);
+        final int maxY = MathHelper.clamp(MathHelper.floor((aabb.maxY + maxEntityRadius) / 16.0D), 0, entityLists.length - 1);
+        for (int y = minY; y <= maxY; ++y) {
+            for (final T entity : entityLists[y].getByClass(clazz)) {
+                if (impl$acceptEntity(entity, aabb, filter, consumer)) {
+                    found++;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Offers up the entities captured by the current phase of the {@link PhaseTracker}
+     * that would otherwise be spawned, as mods occasionally look for entity drops
+     * in the world before they are spawned.
+     *
+     * @return The number of captured entities that matched
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <T extends net.minecraft.entity.Entity> int impl$visitCapturedEntities(final Class<? extends T> clazz, final AxisAlignedBB aabb,
+        @Nullable final java.util.function.Predicate<? super T> filter, @Nullable final Consumer<? super T> consumer) {
         final PhaseContext<?> context = PhaseTracker.getInstance().getCurrentContext();
         final IPhaseState<?> state = context.state;
-        if (((IPhaseState) state).doesCaptureEntityDrops(context) || state.doesAllowEntitySpawns()) {
-            // We need to check for entity spawns and entity drops. If either are used, we need to offer them up in the lsit, provided
-            // they pass the predicate check
-            if (((IPhaseState) state).doesCaptureEntityDrops(context)) {
-                for (final EntityItem entity : context.getCapturedItems()) {
-                    // We can ignore the type check because we're already checking the instance class of the entity.
-                    if (clazz.isInstance(entity) && entity.getEntityBoundingBox().intersects(aabb) && (filter == null || filter.apply((T) entity))) {
-                        list.add((T) entity);
-                    }
+        int found = 0;
+        final boolean capturesDrops = ((IPhaseState) state).doesCaptureEntityDrops(context);
+        if (!capturesDrops && !state.doesAllowEntitySpawns()) {
+            return found;
+        }
+        // We need to check for entity spawns and entity drops. If either are used, we need to offer them up, provided
+        // they pass the predicate check
+        if (capturesDrops) {
+            for (final EntityItem entity : context.getCapturedItems()) {
+                // We can ignore the type check because we're already checking the instance class of the entity.
+                if (clazz.isInstance(entity) && impl$acceptEntity((T) entity, aabb, filter, consumer)) {
+                    found++;
                 }
             }
-            if (state.doesCaptureEntitySpawns()) {
-                for (final Entity entity : context.getCapturedEntities()) {
-                    // We can ignore the type check because we're already checking the instance class of the entity.
-                    if (clazz.isInstance(entity) && ((net.minecraft.entity.Entity) entity).getEntityBoundingBox().intersects(aabb) && (filter == null || filter.apply((T) entity))) {
-                        list.add((T) entity);
-                    }
+        }
+        if (state.doesCaptureEntitySpawns()) {
+            for (final Entity entity : context.getCapturedEntities()) {
+                if (clazz.isInstance(entity) && impl$acceptEntity((T) entity, aabb, filter, consumer)) {
+                    found++;
                 }
-                if (((IPhaseState) state).doesBulkBlockCapture(context)) {
-                    for (final net.minecraft.entity.Entity entity : context.getPerBlockEntitySpawnSuppplier().get().values()) {
-                        // We can ignore the type check because we're already checking the instance class of the entity.
-                        if (clazz.isInstance(entity) && entity.getEntityBoundingBox().intersects(aabb) && (filter == null || filter.apply((T) entity))) {
-                            list.add((T) entity);
-                        }
+            }
+            if (((IPhaseState) state).doesBulkBlockCapture(context)) {
+                for (final net.minecraft.entity.Entity entity : context.getPerBlockEntitySpawnSuppplier().get().values()) {
+                    if (clazz.isInstance(entity) && impl$acceptEntity((T) entity, aabb, filter, consumer)) {
+                        found++;
                     }
                 }
             }
+        }
+        return found;
+    }
 
+    private static <T extends net.minecraft.entity.Entity> boolean impl$acceptEntity(final T entity, final AxisAlignedBB aabb,
+        @Nullable final java.util.function.Predicate<? super T> filter, @Nullable final Consumer<? super T> consumer) {
+        if (!entity.getEntityBoundingBox().intersects(aabb) || (filter != null && !filter.test(entity))) {
+            return false;
         }
-        // Sponge End
-        return list;
+        if (consumer != null) {
+            consumer.accept(entity);
+        }
+        return true;
     }
 
     // ------------------------ End of Cause Tracking ------------------------------------
@@ -1766,6 +1917,35 @@ public <T extends net.minecraft.entity.Entity> List<T> getEntitiesWithinAABB(fin
     @Inject(method = "onEntityAdded", at = @At("RETURN"))
     private void impl$entityAddedCallBridgeJoinWorld(final net.minecraft.entity.Entity entityIn, final CallbackInfo ci) {
         ((EntityBridge) entityIn).bridge$onJoinWorld();
+        if (this.impl$entitySpatialIndex != null) {
+            this.impl$entitySpatialIndex.add(entityIn);
+        }
+    }
+
+    @Inject(method = "onEntityRemoved", at = @At("RETURN"))
+    private void impl$removeEntityFromSpatialIndex(final net.minecraft.entity.Entity entityIn, final CallbackInfo ci) {
+        if (this.impl$entitySpatialIndex != null) {
+            this.impl$entitySpatialIndex.remove(entityIn);
+        }
+    }
+
+    @Inject(method = "updateEntityWithOptionalForce", at = @At("RETURN"))
+    private void impl$updateEntityInSpatialIndex(final net.minecraft.entity.Entity entityIn, final boolean forceUpdate, final CallbackInfo ci) {
+        // Done once the entity has been moved to the chunk of its new position, so both stay in sync
+        if (this.impl$entitySpatialIndex != null) {
+            this.impl$entitySpatialIndex.update(entityIn);
+        }
+    }
+
+    private void impl$setEntitySpatialIndexEnabled(final boolean enabled) {
+        if (!enabled) {
+            this.impl$entitySpatialIndex = null;
+        } else if (this.impl$entitySpatialIndex == null) {
+            this.impl$entitySpatialIndex = new EntitySpatialIndex();
+            for (final net.minecraft.entity.Entity entity : this.loadedEntityList) {
+                this.impl$entitySpatialIndex.add(entity);
+            }
+        }
     }
 
     @Override
@@ -1883,15 +2063,7 @@ public <T extends net.minecraft.entity.Entity> List<T> getEntitiesWithinAABB(fin
             .worldId(((org.spongepowered.api.world.World) this).getUniqueId())
             .position(VecHelper.toVector3i(pos));
         if (tileEntity != null) { // Store the information of the tile entity onto the snapshot
-            final NBTTagCompound nbt = new NBTTagCompound();
-            // Some mods like OpenComputers assert if attempting to save robot while moving
-            try {
-                tileEntity.writeToNBT(nbt);
-                builder.unsafeNbt(nbt);
-            }
-            catch(Throwable t) {
-                // ignore
-            }
+            TrackingUtil.addTrackedTileEntityToBuilder(tileEntity, builder);
         }
         builder.flag(updateFlag);
         return builder.build();
@@ -2464,6 +2636,11 @@ private void onAccessPreviousRain(final CallbackInfo ci) {
         this.prevWeather = weather;
     }
 
+    @Override
+    public CompletableFuture<Chunk> bridge$loadChunkAsync(final int x, final int z) {
+        return ((ChunkProviderServerBridge) this.getChunkProvider()).bridge$loadChunkAsync(x, z);
+    }
+
     @Override
     public SpongeChunkGenerator bridge$getSpongeGenerator() {
         if (this.impl$spongegen == null) {
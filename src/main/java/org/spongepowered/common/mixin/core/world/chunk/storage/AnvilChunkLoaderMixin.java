@@ -25,12 +25,17 @@
 package org.spongepowered.common.mixin.core.world.chunk.storage;
 
 import com.flowpowered.math.vector.Vector3d;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongMap;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.item.EntityMinecart;
+import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.datafix.DataFixer;
+import net.minecraft.util.datafix.FixTypes;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.storage.AnvilChunkLoader;
@@ -67,24 +72,42 @@
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.QueuedChunk;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.storage.ChunkSavePipeline;
 
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
 
 @Mixin(AnvilChunkLoader.class)
 public abstract class AnvilChunkLoaderMixin implements AnvilChunkLoaderBridge {
 
     private ConcurrentLinkedQueue<QueuedChunk> impl$queue = new ConcurrentLinkedQueue<>();
     private final Object impl$lock = new Object();
+    // Used instead of the queue above when chunks are written by the save pipeline
+    @Nullable private final ChunkSavePipeline impl$savePipeline = ChunkSavePipeline.getInstance();
+    private final Set<ChunkPos> impl$queuedPositions = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger impl$pendingWrites = new AtomicInteger();
+    // Positions of chunks read off-thread, mapped to whether they were saved again meanwhile
+    private final Map<ChunkPos, Boolean> impl$trackedReads = new ConcurrentHashMap<>();
+    @Nullable private ChunkPos impl$prefetchedPos;
+    @Nullable private NBTTagCompound impl$prefetchedCompound;
 
     @Shadow @Final private static Logger LOGGER;
     @Shadow @Final private Map<ChunkPos, NBTTagCompound> chunksToSave;
     @Shadow @Final private File chunkSaveLocation;
     @Shadow private boolean flushing;
+    @Shadow @Final private DataFixer fixer;
 
     @Shadow private void writeChunkData(final ChunkPos pos, final NBTTagCompound compound) { } // Shadow
 
@@ -92,65 +115,80 @@ public abstract class AnvilChunkLoaderMixin implements AnvilChunkLoaderBridge {
     private void impl$writeSpongeOwnerNotifierPosTable(final net.minecraft.world.chunk.Chunk chunkIn, final World worldIn,
         final NBTTagCompound compound, final CallbackInfo ci) {
         final ChunkBridge chunk = (ChunkBridge) chunkIn;
+        final Short2LongMap shortPositions = chunk.bridge$getTrackedShortPlayerPositions();
+        final Int2LongMap intPositions = chunk.bridge$getTrackedIntPlayerPositions();
 
-        // Add tracked block positions
-        if (chunk.bridge$getTrackedShortPlayerPositions().size() > 0 || chunk.bridge$getTrackedIntPlayerPositions().size() > 0) {
+        // Add tracked block positions, as parallel int arrays of positions, owners and notifiers
+        if (!shortPositions.isEmpty() || !intPositions.isEmpty()) {
             final NBTTagCompound trackedNbt = new NBTTagCompound();
-            final NBTTagList positions = new NBTTagList();
-            trackedNbt.setTag(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, positions);
             compound.setTag(Constants.Sponge.SPONGE_DATA, trackedNbt);
 
-            for (final Map.Entry<Short, PlayerTracker> mapEntry : chunk.bridge$getTrackedShortPlayerPositions().entrySet()) {
-                final Short pos = mapEntry.getKey();
-                final int ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                final int notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                final NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setShort("pos", pos);
-                positions.appendTag(valueNbt);
+            if (!shortPositions.isEmpty()) {
+                final int[] positions = new int[shortPositions.size()];
+                final int[] owners = new int[positions.length];
+                final int[] notifiers = new int[positions.length];
+                int i = 0;
+                for (final Short2LongMap.Entry entry : shortPositions.short2LongEntrySet()) {
+                    positions[i] = entry.getShortKey();
+                    owners[i] = PlayerTracker.getOwnerIndex(entry.getLongValue());
+                    notifiers[i++] = PlayerTracker.getNotifierIndex(entry.getLongValue());
+                }
+                trackedNbt.setIntArray(Constants.Sponge.SPONGE_TRACKED_SHORT_POSITIONS, positions);
+                trackedNbt.setIntArray(Constants.Sponge.SPONGE_TRACKED_SHORT_OWNERS, owners);
+                trackedNbt.setIntArray(Constants.Sponge.SPONGE_TRACKED_SHORT_NOTIFIERS, notifiers);
             }
 
-            for (final Map.Entry<Integer, PlayerTracker> mapEntry : chunk.bridge$getTrackedIntPlayerPositions().entrySet()) {
-                final Integer pos = mapEntry.getKey();
-                final int ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                final int notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                final NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setInteger("ipos", pos);
-                positions.appendTag(valueNbt);
+            if (!intPositions.isEmpty()) {
+                final int[] positions = new int[intPositions.size()];
+                final int[] owners = new int[positions.length];
+                final int[] notifiers = new int[positions.length];
+                int i = 0;
+                for (final Int2LongMap.Entry entry : intPositions.int2LongEntrySet()) {
+                    positions[i] = entry.getIntKey();
+                    owners[i] = PlayerTracker.getOwnerIndex(entry.getLongValue());
+                    notifiers[i++] = PlayerTracker.getNotifierIndex(entry.getLongValue());
+                }
+                trackedNbt.setIntArray(Constants.Sponge.SPONGE_TRACKED_INT_POSITIONS, positions);
+                trackedNbt.setIntArray(Constants.Sponge.SPONGE_TRACKED_INT_OWNERS, owners);
+                trackedNbt.setIntArray(Constants.Sponge.SPONGE_TRACKED_INT_NOTIFIERS, notifiers);
             }
         }
     }
 
+    @SuppressWarnings("deprecation")
     @Inject(method = "readChunkFromNBT", at = @At(value = "INVOKE", target = "Lnet/minecraft/nbt/NBTTagCompound;getIntArray(Ljava/lang/String;)[I", shift = At.Shift.BEFORE), locals = LocalCapture.CAPTURE_FAILHARD)
     private void onReadChunkFromNBT(final World worldIn, final NBTTagCompound compound, final CallbackInfoReturnable<net.minecraft.world.chunk.Chunk> ci, final int chunkX,
       final int chunkZ, final net.minecraft.world.chunk.Chunk chunkIn) {
         if (compound.hasKey(Constants.Sponge.SPONGE_DATA)) {
-            final Map<Integer, PlayerTracker> trackedIntPlayerPositions = new HashMap<>();
-            final Map<Short, PlayerTracker> trackedShortPlayerPositions = new HashMap<>();
-            final NBTTagList positions = compound.getCompoundTag(Constants.Sponge.SPONGE_DATA).getTagList(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, 10);
+            final NBTTagCompound trackedNbt = compound.getCompoundTag(Constants.Sponge.SPONGE_DATA);
+            final Int2LongMap trackedIntPlayerPositions = PlayerTracker.newIntPositionTable();
+            final Short2LongMap trackedShortPlayerPositions = PlayerTracker.newShortPositionTable();
             final ChunkBridge chunk = (ChunkBridge) chunkIn;
-            for (int i = 0; i < positions.tagCount(); i++) {
-                final NBTTagCompound valueNbt = positions.getCompoundTagAt(i);
-                final boolean isShortPos = valueNbt.hasKey("pos");
-                final PlayerTracker tracker = new PlayerTracker();
-                if (valueNbt.hasKey("owner")) {
-                    tracker.ownerIndex = valueNbt.getInteger("owner");
-                } else if (valueNbt.hasKey("uuid")) { // Migrate old data, remove in future
-                    tracker.ownerIndex = valueNbt.getInteger("uuid");
-                }
-                if (valueNbt.hasKey("notifier")) {
-                    tracker.notifierIndex = valueNbt.getInteger("notifier");
-                }
 
-                if (tracker.notifierIndex != -1 || tracker.ownerIndex != -1) {
-                    if (isShortPos) {
-                        trackedShortPlayerPositions.put(valueNbt.getShort("pos"), tracker);
-                    } else {
-                        trackedIntPlayerPositions.put(valueNbt.getInteger("ipos"), tracker);
+            if (trackedNbt.hasKey(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, Constants.NBT.TAG_LIST)) {
+                // Chunks saved before the array format, they're written in the new format on the next save
+                impl$readLegacyPosTable(trackedNbt.getTagList(Constants.Sponge.SPONGE_BLOCK_POS_TABLE, Constants.NBT.TAG_COMPOUND),
+                    trackedIntPlayerPositions, trackedShortPlayerPositions);
+            } else {
+                final int[] shortPositions = trackedNbt.getIntArray(Constants.Sponge.SPONGE_TRACKED_SHORT_POSITIONS);
+                final int[] shortOwners = trackedNbt.getIntArray(Constants.Sponge.SPONGE_TRACKED_SHORT_OWNERS);
+                final int[] shortNotifiers = trackedNbt.getIntArray(Constants.Sponge.SPONGE_TRACKED_SHORT_NOTIFIERS);
+                if (shortPositions.length == shortOwners.length && shortPositions.length == shortNotifiers.length) {
+                    for (int i = 0; i < shortPositions.length; i++) {
+                        trackedShortPlayerPositions.put((short) shortPositions[i], PlayerTracker.pack(shortOwners[i], shortNotifiers[i]));
                     }
+                } else {
+                    impl$warnMismatchedTrackedData(chunkX, chunkZ, "short", shortPositions, shortOwners, shortNotifiers);
+                }
+                final int[] intPositions = trackedNbt.getIntArray(Constants.Sponge.SPONGE_TRACKED_INT_POSITIONS);
+                final int[] intOwners = trackedNbt.getIntArray(Constants.Sponge.SPONGE_TRACKED_INT_OWNERS);
+                final int[] intNotifiers = trackedNbt.getIntArray(Constants.Sponge.SPONGE_TRACKED_INT_NOTIFIERS);
+                if (intPositions.length == intOwners.length && intPositions.length == intNotifiers.length) {
+                    for (int i = 0; i < intPositions.length; i++) {
+                        trackedIntPlayerPositions.put(intPositions[i], PlayerTracker.pack(intOwners[i], intNotifiers[i]));
+                    }
+                } else {
+                    impl$warnMismatchedTrackedData(chunkX, chunkZ, "int", intPositions, intOwners, intNotifiers);
                 }
             }
             chunk.bridge$setTrackedIntPlayerPositions(trackedIntPlayerPositions);
@@ -158,6 +196,38 @@ private void onReadChunkFromNBT(final World worldIn, final NBTTagCompound compou
         }
     }
 
+    private static void impl$warnMismatchedTrackedData(final int chunkX, final int chunkZ, final String type, final int[] positions,
+        final int[] owners, final int[] notifiers) {
+        SpongeImpl.getLogger().warn("Discarding the tracked block owners ({} positions) of chunk ({}, {}), found {} positions, {} owners and {} notifiers",
+            type, chunkX, chunkZ, positions.length, owners.length, notifiers.length);
+    }
+
+    private static void impl$readLegacyPosTable(final NBTTagList positions, final Int2LongMap trackedIntPlayerPositions,
+        final Short2LongMap trackedShortPlayerPositions) {
+        for (int i = 0; i < positions.tagCount(); i++) {
+            final NBTTagCompound valueNbt = positions.getCompoundTagAt(i);
+            final boolean isShortPos = valueNbt.hasKey("pos");
+            int ownerIndex = -1;
+            int notifierIndex = -1;
+            if (valueNbt.hasKey("owner")) {
+                ownerIndex = valueNbt.getInteger("owner");
+            } else if (valueNbt.hasKey("uuid")) { // Migrate old data, remove in future
+                ownerIndex = valueNbt.getInteger("uuid");
+            }
+            if (valueNbt.hasKey("notifier")) {
+                notifierIndex = valueNbt.getInteger("notifier");
+            }
+
+            if (notifierIndex != -1 || ownerIndex != -1) {
+                if (isShortPos) {
+                    trackedShortPlayerPositions.put(valueNbt.getShort("pos"), PlayerTracker.pack(ownerIndex, notifierIndex));
+                } else {
+                    trackedIntPlayerPositions.put(valueNbt.getInteger("ipos"), PlayerTracker.pack(ownerIndex, notifierIndex));
+                }
+            }
+        }
+    }
+
     /**
      * @author gabizou - January 30th, 2016
      *
@@ -230,6 +300,25 @@ private void onReadChunkFromNBT(final World worldIn, final NBTTagCompound compou
      */
     @Overwrite
     protected void addChunkToPending(final ChunkPos pos, final NBTTagCompound compound) {
+        if (!this.impl$trackedReads.isEmpty()) {
+            this.impl$trackedReads.replace(pos, Boolean.TRUE);
+        }
+        if (this.impl$savePipeline != null) {
+            // The latest data of a chunk is always taken from chunksToSave when
+            // it is written, so a chunk that is still queued doesn't need to be
+            // queued again.
+            this.chunksToSave.put(pos, compound);
+            if (this.impl$queuedPositions.add(pos)) {
+                this.impl$pendingWrites.incrementAndGet();
+                this.impl$savePipeline.submit(this, pos);
+            } else {
+                this.impl$savePipeline.recordCoalescedSave();
+            }
+            // Still registered with the file IO thread, so that waiting for
+            // it to finish also waits for the pipeline.
+            ThreadedFileIOBase.getThreadedIOInstance().queueIO((AnvilChunkLoader) (Object) this);
+            return;
+        }
         synchronized (this.impl$lock) {
             this.chunksToSave.put(pos, compound);
         }
@@ -245,6 +334,24 @@ protected void addChunkToPending(final ChunkPos pos, final NBTTagCompound compou
      */
     @Overwrite
     public boolean writeNextIO() {
+        if (this.impl$savePipeline != null) {
+            synchronized (this.impl$pendingWrites) {
+                if (this.impl$pendingWrites.get() > 0) {
+                    try {
+                        this.impl$pendingWrites.wait(10L);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+            if (this.impl$pendingWrites.get() > 0) {
+                return true;
+            }
+            if (this.flushing) {
+                LOGGER.info("ThreadedAnvilChunkStorage ({}): All chunks are saved", new Object[] {this.chunkSaveLocation.getName()});
+            }
+            return false;
+        }
         final QueuedChunk chunk = this.impl$queue.poll();
         if (chunk == null) {
             if (this.flushing) {
@@ -276,11 +383,11 @@ public boolean writeNextIO() {
                         try {
                             Thread.sleep(10);
                         } catch (InterruptedException e) {
-                            e.printStackTrace();
+                            impl$logInterruptedRetry(chunkpos);
                         }
                     }
                     if (laste != null) {
-                        laste.printStackTrace();
+                        impl$logFailedWrite(chunkpos, laste);
                     }
                 }
 
@@ -300,11 +407,123 @@ public boolean writeNextIO() {
         }
     }
 
+    private void impl$logFailedWrite(final ChunkPos pos, final Exception exception) {
+        SpongeImpl.getLogger().error("Could not save chunk ({}, {}) to {}", pos.x, pos.z, this.chunkSaveLocation, exception);
+    }
+
+    private void impl$logInterruptedRetry(final ChunkPos pos) {
+        SpongeImpl.getLogger().warn("Interrupted while waiting to retry saving chunk ({}, {}) to {}", pos.x, pos.z, this.chunkSaveLocation);
+    }
+
     @Override
     public Path bridge$getWorldDir() {
         return this.chunkSaveLocation.toPath();
     }
 
+    @Override
+    public void bridge$writeQueuedChunk(final ChunkPos pos) {
+        this.impl$queuedPositions.remove(pos);
+        try {
+            final NBTTagCompound compound = this.chunksToSave.get(pos);
+            if (compound == null) {
+                return;
+            }
+            final long start = System.nanoTime();
+            int attempts = 0;
+            Exception laste = null;
+            while (attempts++ < 5) {
+                try {
+                    this.writeChunkData(pos, compound);
+                    laste = null;
+                    break;
+                } catch (Exception exception) {
+                    laste = exception;
+                }
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    impl$logInterruptedRetry(pos);
+                }
+            }
+            if (laste != null) {
+                impl$logFailedWrite(pos, laste);
+            } else {
+                this.impl$savePipeline.recordWrite(System.nanoTime() - start);
+            }
+            // A newer version of the chunk may have been queued meanwhile
+            this.chunksToSave.computeIfPresent(pos, (key, value) -> value == compound ? null : value);
+        } finally {
+            if (this.impl$pendingWrites.decrementAndGet() == 0) {
+                synchronized (this.impl$pendingWrites) {
+                    this.impl$pendingWrites.notifyAll();
+                }
+            }
+        }
+    }
+
+    @Nullable
+    @Override
+    public NBTTagCompound bridge$readChunkData(final int x, final int z) throws IOException {
+        final NBTTagCompound pending = this.chunksToSave.get(new ChunkPos(x, z));
+        if (pending != null) {
+            return pending;
+        }
+        final DataInputStream stream = RegionFileCache.getChunkInputStream(this.chunkSaveLocation, x, z);
+        if (stream == null) {
+            return null;
+        }
+        try (final DataInputStream input = stream) {
+            return this.fixer.process(FixTypes.CHUNK, CompressedStreamTools.read(input));
+        }
+    }
+
+    @Override
+    public void bridge$trackChunkRead(final ChunkPos pos) {
+        this.impl$trackedReads.put(pos, Boolean.FALSE);
+    }
+
+    @Override
+    public boolean bridge$finishChunkRead(final ChunkPos pos) {
+        return Boolean.TRUE.equals(this.impl$trackedReads.remove(pos));
+    }
+
+    @Override
+    public void bridge$setPrefetchedChunkData(@Nullable final ChunkPos pos, @Nullable final NBTTagCompound compound) {
+        this.impl$prefetchedPos = pos;
+        this.impl$prefetchedCompound = compound;
+    }
+
+    /**
+     * Uses chunk data that was already read and parsed off-thread, instead of
+     * reading it from the region file again. Forge loads chunks through its
+     * own methods, so this will not inject in SpongeForge.
+     */
+    @Redirect(method = "loadChunk",
+        at = @At(value = "INVOKE", target = "Ljava/util/Map;get(Ljava/lang/Object;)Ljava/lang/Object;", remap = false),
+        require = 0,
+        expect = 0)
+    private Object impl$usePrefetchedChunkData(final Map<ChunkPos, NBTTagCompound> chunksToSave, final Object pos) {
+        final NBTTagCompound pending = chunksToSave.get(pos);
+        if (pending == null && this.impl$prefetchedCompound != null && pos.equals(this.impl$prefetchedPos)) {
+            return this.impl$prefetchedCompound;
+        }
+        return pending;
+    }
+
+    @Override
+    public boolean bridge$isSaveBacklogged() {
+        return this.impl$savePipeline != null && this.impl$savePipeline.isBacklogged();
+    }
+
+    @Redirect(method = "writeChunkData",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/nbt/CompressedStreamTools;write(Lnet/minecraft/nbt/NBTTagCompound;Ljava/io/DataOutput;)V"))
+    private void impl$recordWrittenBytes(final NBTTagCompound compound, final DataOutput output) throws IOException {
+        CompressedStreamTools.write(compound, output);
+        if (this.impl$savePipeline != null && output instanceof DataOutputStream) {
+            this.impl$savePipeline.recordBytesWritten(((DataOutputStream) output).size());
+        }
+    }
+
     @Inject(method = "writeChunkData", at = @At("RETURN"))
     private void impl$callSaveChunkEventPost(ChunkPos pos, NBTTagCompound compound, CallbackInfo ci) {
         if (ShouldFire.SAVE_CHUNK_EVENT_POST) {
@@ -26,6 +26,7 @@
 
 import com.flowpowered.math.vector.Vector3i;
 import net.minecraft.init.Biomes;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.biome.Biome;
 import net.minecraft.world.biome.BiomeProvider;
@@ -86,8 +87,10 @@ public abstract class ChunkGeneratorOverworldMixin implements PopulatorProviderB
     @Shadow @Final private StructureOceanMonument oceanMonumentGenerator;
     @Shadow @Final private WoodlandMansion woodlandMansionGenerator;
     @Shadow private Biome[] biomesForGeneration;
+    @Shadow private IBlockState oceanBlock;
 
     @Nullable private BiomeGenerator impl$biomegen;
+    @Nullable private Biome[] impl$presetBiomes;
     private boolean impl$isVanilla = WorldGenConstants.isValid((IChunkGenerator) this, GenerationPopulator.class);
 
     @Inject(method = "<init>", at = @At("RETURN"))
@@ -184,8 +187,26 @@ public abstract class ChunkGeneratorOverworldMixin implements PopulatorProviderB
 
     }
 
+    @Override
+    public ChunkGeneratorOverworld bridge$createTerrainWorker() {
+        // No settings string, the constructor would otherwise also change the sea level of the world
+        final ChunkGeneratorOverworld worker = new ChunkGeneratorOverworld(this.world, this.world.getSeed(), this.mapFeaturesEnabled, null);
+        final ChunkGeneratorOverworldMixin mixinWorker = (ChunkGeneratorOverworldMixin) (Object) worker;
+        mixinWorker.settings = this.settings;
+        mixinWorker.oceanBlock = this.oceanBlock;
+        return worker;
+    }
+
+    @Override
+    public void bridge$setPresetBiomesForGeneration(@Nullable final Biome[] biomes) {
+        this.impl$presetBiomes = biomes;
+    }
+
     @Override
     public Biome[] bridge$getBiomesForGeneration(final int x, final int z) {
+        if (this.impl$presetBiomes != null) {
+            return this.impl$presetBiomes;
+        }
         if (this.impl$biomegen instanceof BiomeProvider) {
             return ((BiomeProvider) this.impl$biomegen).getBiomesForGeneration(this.biomesForGeneration, x * 4 - 2, z * 4 - 2, 10, 10);
         }
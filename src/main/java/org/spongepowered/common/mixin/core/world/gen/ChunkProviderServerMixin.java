@@ -26,8 +26,10 @@
 
 import com.flowpowered.math.vector.Vector3i;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.crash.CrashReport;
 import net.minecraft.crash.CrashReportCategory;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
@@ -51,12 +53,14 @@
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import org.spongepowered.asm.util.PrettyPrinter;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.bridge.world.WorldServerBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.WorldInfoBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkProviderBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkProviderServerBridge;
+import org.spongepowered.common.bridge.world.chunk.storage.AnvilChunkLoaderBridge;
 import org.spongepowered.common.config.category.WorldCategory;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.IPhaseState;
@@ -65,7 +69,9 @@
 import org.spongepowered.common.event.tracking.phase.generation.GenerationPhase;
 import org.spongepowered.common.util.CachedLong2ObjectMap;
 import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.world.ChunkGCBudget;
 import org.spongepowered.common.world.SpongeEmptyChunk;
+import org.spongepowered.common.world.storage.ChunkReadExecutor;
 import org.spongepowered.common.world.storage.WorldStorageUtil;
 
 import java.io.ByteArrayOutputStream;
@@ -82,6 +88,7 @@ public abstract class ChunkProviderServerMixin implements ChunkProviderServerBri
     private boolean impl$forceChunkRequests = false;
     private long impl$chunkUnloadDelay = Constants.World.DEFAULT_CHUNK_UNLOAD_DELAY;
     private int impl$maxChunkUnloads = Constants.World.MAX_CHUNK_UNLOADS;
+    private final Long2ObjectMap<CompletableFuture<Chunk>> impl$pendingChunkLoads = new Long2ObjectOpenHashMap<>();
 
     @Shadow @Final private WorldServer world;
     @Shadow @Final private IChunkLoader chunkLoader;
@@ -267,7 +274,19 @@ public boolean tick()
             final Iterator<Chunk> iterator = this.loadedChunks.values().iterator();
             int chunksUnloaded = 0;
             final long now = System.currentTimeMillis();
+            // Sponge - Hold back unloading while the chunk save threads are behind
+            final boolean canThrottle = this.chunkLoader instanceof AnvilChunkLoaderBridge;
+            // Sponge - Share the time budget of the chunk gc, unloads that do not fit are left for the next ticks
+            final ChunkGCBudget budget = ((WorldServerBridge) this.world).bridge$getChunkGCBudget();
+            final long startTime = System.nanoTime();
             while (chunksUnloaded < this.impl$maxChunkUnloads && iterator.hasNext()) {
+                if (canThrottle && ((AnvilChunkLoaderBridge) this.chunkLoader).bridge$isSaveBacklogged()) {
+                    break;
+                }
+                if (chunksUnloaded > 0 && !budget.hasTimeLeft(startTime)) {
+                    budget.recordDeferral();
+                    break;
+                }
                 final Chunk chunk = iterator.next();
                 final ChunkBridge spongeChunk = (ChunkBridge) chunk;
                 if (chunk != null && chunk.unloadQueued && !spongeChunk.bridge$isPersistedChunk()) {
@@ -284,6 +303,10 @@ public boolean tick()
                     chunksUnloaded++;
                 }
             }
+            if (chunksUnloaded > 0) {
+                budget.recordUnloaded(chunksUnloaded);
+                budget.consume(startTime);
+            }
             ((WorldServerBridge) this.world).bridge$getTimingsHandler().doChunkUnload.stopTiming();
         }
 
@@ -291,6 +314,55 @@ public boolean tick()
         return false;
     }
 
+    @Override
+    public CompletableFuture<Chunk> bridge$loadChunkAsync(final int x, final int z) {
+        final Chunk loaded = this.getLoadedChunk(x, z);
+        if (loaded != null) {
+            return CompletableFuture.completedFuture(loaded);
+        }
+        if (!SpongeImplHooks.isVanilla() || !(this.chunkLoader instanceof AnvilChunkLoaderBridge)) {
+            // Forge routes chunk IO through its own executor
+            return CompletableFuture.completedFuture(this.loadChunk(x, z));
+        }
+        final long key = ChunkPos.asLong(x, z);
+        final CompletableFuture<Chunk> pending = this.impl$pendingChunkLoads.get(key);
+        if (pending != null) {
+            return pending;
+        }
+        final AnvilChunkLoaderBridge loader = (AnvilChunkLoaderBridge) this.chunkLoader;
+        final ChunkPos pos = new ChunkPos(x, z);
+        loader.bridge$trackChunkRead(pos);
+        final CompletableFuture<Chunk> future = ChunkReadExecutor.read(loader, x, z)
+            .handleAsync((compound, error) -> this.impl$attachLoadedChunk(key, x, z, compound,
+                !loader.bridge$finishChunkRead(pos) && error == null), SpongeImpl.getScheduler()::callSync);
+        this.impl$pendingChunkLoads.put(key, future);
+        return future;
+    }
+
+    @Nullable
+    private Chunk impl$attachLoadedChunk(final long key, final int x, final int z, @Nullable final NBTTagCompound compound,
+        final boolean upToDate) {
+        this.impl$pendingChunkLoads.remove(key);
+        final Chunk loaded = this.getLoadedChunk(x, z);
+        if (loaded != null) {
+            return loaded;
+        }
+        if (!upToDate) {
+            // The read failed or the chunk was saved meanwhile, load it the usual way
+            return this.loadChunk(x, z);
+        }
+        if (compound == null) {
+            return null;
+        }
+        final AnvilChunkLoaderBridge loader = (AnvilChunkLoaderBridge) this.chunkLoader;
+        loader.bridge$setPrefetchedChunkData(new ChunkPos(x, z), compound);
+        try {
+            return this.loadChunk(x, z);
+        } finally {
+            loader.bridge$setPrefetchedChunkData(null, null);
+        }
+    }
+
     // Copy of getLoadedChunk without marking chunk active.
     // This allows the chunk to unload if currently queued.
     @Override
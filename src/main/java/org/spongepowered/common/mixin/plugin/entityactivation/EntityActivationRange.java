@@ -28,6 +28,11 @@
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.entity.EntityLivingBase;
@@ -51,6 +56,7 @@
 import net.minecraft.entity.projectile.EntityFireball;
 import net.minecraft.entity.projectile.EntityThrowable;
 import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
@@ -64,6 +70,7 @@
 import org.spongepowered.common.bridge.entity.EntityBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.WorldInfoBridge;
+import org.spongepowered.common.bridge.world.WorldServerBridge;
 import org.spongepowered.common.bridge.world.chunk.ActiveChunkReferantBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkProviderBridge;
@@ -77,7 +84,10 @@
 import org.spongepowered.common.mixin.core.entity.EntityLivingBaseAccessor;
 import org.spongepowered.common.mixin.entityactivation.util.math.AxisAlignedBBAccessor_EntityActivation;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.ActivationCapability;
+import org.spongepowered.common.relocate.co.aikar.timings.WorldTimingsHandler;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 public class EntityActivationRange {
@@ -90,15 +100,14 @@ public class EntityActivationRange {
             .put((byte) 5, "misc")
             .build();
 
-    static AxisAlignedBB maxBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB miscBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB creatureBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB monsterBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB aquaticBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB ambientBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
     static AxisAlignedBB tileEntityBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
     static Map<Byte, Integer> maxActivationRanges = Maps.newHashMap();
 
+    // Only used on the main thread during activateEntities, kept around to avoid re-allocating them every tick
+    private static final LongSet activeChunks = new LongOpenHashSet();
+    private static final Long2ObjectMap<List<AxisAlignedBB>> playerGrid = new Long2ObjectOpenHashMap<>();
+    private static final int MIN_CELL_SHIFT = 4;
+
     /**
      * Initializes an entities type on construction to specify what group this
      * entity is in for activation ranges.
@@ -225,34 +234,75 @@ public static void activateEntities(final World world) {
             return;
         }
 
-        for (final EntityPlayer player : world.playerEntities) {
+        final WorldTimingsHandler timings = ((WorldServerBridge) world).bridge$getTimingsHandler();
+        timings.entityActivation.startTiming();
+        try {
+            activateEntities((WorldServer) world);
+        } finally {
+            activeChunks.clear();
+            playerGrid.clear();
+            timings.entityActivation.stopTiming();
+        }
+    }
+
+    /**
+     * Collects the chunks in range of any player and buckets the players in a
+     * grid whose cells are at least as wide as the largest activation range.
+     * Every chunk and entity is then visited once, and an entity only has to
+     * be tested against the players in the cells around it, rather than every
+     * entity being checked again for each nearby player.
+     */
+    private static void activateEntities(final WorldServer world) {
+        if (world.playerEntities.isEmpty()) {
+            return;
+        }
+
+        int maxRange = 0;
+        for (final Integer range : maxActivationRanges.values()) {
+            if (range > maxRange) {
+                maxRange = range;
+            }
+        }
+        maxRange = Math.min((((org.spongepowered.api.world.World) world).getViewDistance() << 4) - 8, maxRange);
 
-            int maxRange = 0;
-            for (final Integer range : maxActivationRanges.values()) {
-                if (range > maxRange) {
-                    maxRange = range;
+        int cellShift = MIN_CELL_SHIFT;
+        while ((1 << cellShift) < maxRange) {
+            cellShift++;
+        }
+
+        final long currentTick = SpongeImpl.getServer().getTickCounter();
+        for (final EntityPlayer player : world.playerEntities) {
+            ((ActivationCapability) player).activation$setActivatedTick(currentTick);
+            final AxisAlignedBB bb = player.getEntityBoundingBox();
+
+            final int minChunkX = MathHelper.floor((bb.minX - maxRange) / 16.0D);
+            final int maxChunkX = MathHelper.floor((bb.maxX + maxRange) / 16.0D);
+            final int minChunkZ = MathHelper.floor((bb.minZ - maxRange) / 16.0D);
+            final int maxChunkZ = MathHelper.floor((bb.maxZ + maxRange) / 16.0D);
+            for (int x = minChunkX; x <= maxChunkX; x++) {
+                for (int z = minChunkZ; z <= maxChunkZ; z++) {
+                    activeChunks.add(ChunkPos.asLong(x, z));
                 }
             }
 
-            maxRange = Math.min((((org.spongepowered.api.world.World) world).getViewDistance() << 4) - 8, maxRange);
-            ((ActivationCapability) player).activation$setActivatedTick(SpongeImpl.getServer().getTickCounter());
-            growBb(maxBB, player.getEntityBoundingBox(), maxRange, 256, maxRange);
-
-            final int i = MathHelper.floor(maxBB.minX / 16.0D);
-            final int j = MathHelper.floor(maxBB.maxX / 16.0D);
-            final int k = MathHelper.floor(maxBB.minZ / 16.0D);
-            final int l = MathHelper.floor(maxBB.maxZ / 16.0D);
-
-            for (int i1 = i; i1 <= j; ++i1) {
-                for (int j1 = k; j1 <= l; ++j1) {
-                    final WorldServer worldserver = (WorldServer) world;
-                    final Chunk chunk = ((ChunkProviderBridge) worldserver.getChunkProvider()).bridge$getLoadedChunkWithoutMarkingActive(i1, j1);
-                    if (chunk != null) {
-                        activateChunkEntities(player, chunk);
-                    }
+            final int maxCellX = MathHelper.floor(bb.maxX) >> cellShift;
+            final int minCellZ = MathHelper.floor(bb.minZ) >> cellShift;
+            final int maxCellZ = MathHelper.floor(bb.maxZ) >> cellShift;
+            for (int x = MathHelper.floor(bb.minX) >> cellShift; x <= maxCellX; x++) {
+                for (int z = minCellZ; z <= maxCellZ; z++) {
+                    playerGrid.computeIfAbsent(ChunkPos.asLong(x, z), key -> new ArrayList<>()).add(bb);
                 }
             }
         }
+
+        final ChunkProviderBridge chunkProvider = (ChunkProviderBridge) world.getChunkProvider();
+        for (final LongIterator iterator = activeChunks.iterator(); iterator.hasNext(); ) {
+            final long key = iterator.nextLong();
+            final Chunk chunk = chunkProvider.bridge$getLoadedChunkWithoutMarkingActive((int) key, (int) (key >> 32));
+            if (chunk != null) {
+                activateChunkEntities(chunk, currentTick, cellShift);
+            }
+        }
     }
 
     /**
@@ -260,14 +310,13 @@ public static void activateEntities(final World world) {
      *
      * @param chunk Chunk to check for activation
      */
-    private static void activateChunkEntities(final EntityPlayer player, final Chunk chunk) {
+    private static void activateChunkEntities(final Chunk chunk, final long currentTick, final int cellShift) {
         for (int i = 0; i < chunk.getEntityLists().length; ++i) {
 
             for (final Object o : chunk.getEntityLists()[i]) {
                 final Entity entity = (Entity) o;
                 final EntityType type = ((org.spongepowered.api.entity.Entity) entity).getType();
                 final ActivationCapability spongeEntity = (ActivationCapability) entity;
-                final long currentTick = SpongeImpl.getServer().getTickCounter();
                 if (!((EntityBridge) entity).bridge$shouldTick()) {
                     continue;
                 }
@@ -287,52 +336,41 @@ private static void activateChunkEntities(final EntityPlayer player, final Chunk
                         EntityActivationRange.initializeEntityActivationState(entity);
                         spongeEntity.activation$requiresActivationCacheRefresh(false);
                     }
-                    // check for entity type overrides
-                    final byte activationType = spongeEntity.activation$getActivationType();
-                    final int bbActivationRange = spongeEntity.activation$getActivationRange();
-
-                    if (activationType == 5) {
-                        growBb(miscBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 4) {
-                        growBb(ambientBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 3) {
-                        growBb(aquaticBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 2) {
-                        growBb(creatureBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else {
-                        growBb(monsterBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
+
+                    if (isInPlayerRange(entity.getEntityBoundingBox(), spongeEntity.activation$getActivationRange(), cellShift)) {
+                        spongeEntity.activation$setActivatedTick(currentTick);
                     }
+                }
+            }
+        }
+    }
 
-                    switch (spongeEntity.activation$getActivationType()) {
-                        case 1:
-                            if (monsterBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.activation$setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 2:
-                            if (creatureBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.activation$setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 3:
-                            if (aquaticBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.activation$setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 4:
-                            if (ambientBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.activation$setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 5:
-                        default:
-                            if (miscBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.activation$setActivatedTick(currentTick);
-                            }
+    /**
+     * Checks whether a player's bounding box, grown by the given activation
+     * range, intersects the given entity bounding box.
+     */
+    private static boolean isInPlayerRange(final AxisAlignedBB entityBB, final int range, final int cellShift) {
+        final int maxCellX = MathHelper.floor(entityBB.maxX + range) >> cellShift;
+        final int minCellZ = MathHelper.floor(entityBB.minZ - range) >> cellShift;
+        final int maxCellZ = MathHelper.floor(entityBB.maxZ + range) >> cellShift;
+        for (int x = MathHelper.floor(entityBB.minX - range) >> cellShift; x <= maxCellX; x++) {
+            for (int z = minCellZ; z <= maxCellZ; z++) {
+                final List<AxisAlignedBB> players = playerGrid.get(ChunkPos.asLong(x, z));
+                if (players == null) {
+                    continue;
+                }
+                for (int i = 0; i < players.size(); i++) {
+                    final AxisAlignedBB playerBB = players.get(i);
+                    // Same as growing the player box by (range, 256, range) and intersecting
+                    if (playerBB.minX - range < entityBB.maxX && playerBB.maxX + range > entityBB.minX
+                        && playerBB.minY - 256 < entityBB.maxY && playerBB.maxY + 256 > entityBB.minY
+                        && playerBB.minZ - range < entityBB.maxZ && playerBB.maxZ + range > entityBB.minZ) {
+                        return true;
                     }
                 }
             }
         }
+        return false;
     }
 
     /**
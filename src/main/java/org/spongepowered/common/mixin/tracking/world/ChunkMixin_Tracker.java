@@ -24,6 +24,8 @@
  */
 package org.spongepowered.common.mixin.tracking.world;
 
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.ITileEntityProvider;
 import net.minecraft.entity.player.EntityPlayer;
@@ -60,7 +62,6 @@
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.SpongeUsernameCache;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -78,8 +79,8 @@ public abstract class ChunkMixin_Tracker implements ChunkBridge {
 
 
     @Nullable private UserStorageService trackerImpl$userStorageService;
-    private Map<Integer, PlayerTracker> trackerImpl$trackedIntBlockPositions = new HashMap<>();
-    private Map<Short, PlayerTracker> trackerImpl$trackedShortBlockPositions = new HashMap<>();
+    private Int2LongMap trackerImpl$trackedIntBlockPositions = PlayerTracker.newIntPositionTable();
+    private Short2LongMap trackerImpl$trackedShortBlockPositions = PlayerTracker.newShortPositionTable();
 
     @Inject(method = "<init>(Lnet/minecraft/world/World;II)V", at = @At("RETURN"))
     private void tracker$setUpUserService(@Nullable final World worldIn, final int x, final int z, final CallbackInfo ci) {
@@ -137,40 +138,22 @@ public abstract class ChunkMixin_Tracker implements ChunkBridge {
         final int indexForUniqueId = worldInfo.bridge$getIndexForUniqueId(user.getUniqueId());
         if (pos.getY() <= 255) {
             final short blockPos = Constants.Sponge.blockPosToShort(pos);
-            final PlayerTracker playerTracker = this.trackerImpl$trackedShortBlockPositions.get(blockPos);
-            if (playerTracker != null) {
-                if (trackerType == PlayerTracker.Type.OWNER) {
-                    playerTracker.ownerIndex = indexForUniqueId;
-                    playerTracker.notifierIndex = indexForUniqueId;
-                } else {
-                    playerTracker.notifierIndex = indexForUniqueId;
-                }
-            } else {
-                this.trackerImpl$trackedShortBlockPositions.put(blockPos, new PlayerTracker(indexForUniqueId, trackerType));
-            }
+            final long entry = this.trackerImpl$trackedShortBlockPositions.get(blockPos);
+            this.trackerImpl$trackedShortBlockPositions.put(blockPos, PlayerTracker.track(entry, indexForUniqueId, trackerType));
         } else {
             final int blockPos = Constants.Sponge.blockPosToInt(pos);
-            final PlayerTracker playerTracker = this.trackerImpl$trackedIntBlockPositions.get(blockPos);
-            if (playerTracker != null) {
-                if (trackerType == PlayerTracker.Type.OWNER) {
-                    playerTracker.ownerIndex = indexForUniqueId;
-                    playerTracker.notifierIndex = indexForUniqueId;
-                } else {
-                    playerTracker.notifierIndex = indexForUniqueId;
-                }
-            } else {
-                this.trackerImpl$trackedIntBlockPositions.put(blockPos, new PlayerTracker(indexForUniqueId, trackerType));
-            }
+            final long entry = this.trackerImpl$trackedIntBlockPositions.get(blockPos);
+            this.trackerImpl$trackedIntBlockPositions.put(blockPos, PlayerTracker.track(entry, indexForUniqueId, trackerType));
         }
     }
 
     @Override
-    public Map<Integer, PlayerTracker> bridge$getTrackedIntPlayerPositions() {
+    public Int2LongMap bridge$getTrackedIntPlayerPositions() {
         return this.trackerImpl$trackedIntBlockPositions;
     }
 
     @Override
-    public Map<Short, PlayerTracker> bridge$getTrackedShortPlayerPositions() {
+    public Short2LongMap bridge$getTrackedShortPlayerPositions() {
         return this.trackerImpl$trackedShortBlockPositions;
     }
 
@@ -180,16 +163,14 @@ public abstract class ChunkMixin_Tracker implements ChunkBridge {
             return Optional.empty();
         }
         final int intKey = Constants.Sponge.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackerImpl$trackedIntBlockPositions.get(intKey);
-        if (intTracker != null) {
-            final int notifierIndex = intTracker.ownerIndex;
-            return this.tracker$getValidatedUser(intKey, notifierIndex);
+        final long intEntry = this.trackerImpl$trackedIntBlockPositions.get(intKey);
+        if (intEntry != PlayerTracker.NONE) {
+            return this.tracker$getValidatedUser(intKey, PlayerTracker.getOwnerIndex(intEntry));
         } else {
             final short shortKey = Constants.Sponge.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackerImpl$trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                final int notifierIndex = shortTracker.ownerIndex;
-                return this.tracker$getValidatedUser(shortKey, notifierIndex);
+            final long shortEntry = this.trackerImpl$trackedShortBlockPositions.get(shortKey);
+            if (shortEntry != PlayerTracker.NONE) {
+                return this.tracker$getValidatedUser(shortKey, PlayerTracker.getOwnerIndex(shortEntry));
             }
         }
 
@@ -202,16 +183,14 @@ public abstract class ChunkMixin_Tracker implements ChunkBridge {
             return Optional.empty();
         }
         final int key = Constants.Sponge.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackerImpl$trackedIntBlockPositions.get(key);
-        if (intTracker != null) {
-            final int ownerIndex = intTracker.ownerIndex;
-            return this.tracker$getValidatedUUID(key, ownerIndex);
+        final long intEntry = this.trackerImpl$trackedIntBlockPositions.get(key);
+        if (intEntry != PlayerTracker.NONE) {
+            return this.tracker$getValidatedUUID(key, PlayerTracker.getOwnerIndex(intEntry));
         } else {
             final short shortKey = Constants.Sponge.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackerImpl$trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                final int ownerIndex = shortTracker.ownerIndex;
-                return this.tracker$getValidatedUUID(shortKey, ownerIndex);
+            final long shortEntry = this.trackerImpl$trackedShortBlockPositions.get(shortKey);
+            if (shortEntry != PlayerTracker.NONE) {
+                return this.tracker$getValidatedUUID(shortKey, PlayerTracker.getOwnerIndex(shortEntry));
             }
         }
 
@@ -224,14 +203,14 @@ public abstract class ChunkMixin_Tracker implements ChunkBridge {
             return Optional.empty();
         }
         final int intKey = Constants.Sponge.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackerImpl$trackedIntBlockPositions.get(intKey);
-        if (intTracker != null) {
-            return this.tracker$getValidatedUser(intKey, intTracker.notifierIndex);
+        final long intEntry = this.trackerImpl$trackedIntBlockPositions.get(intKey);
+        if (intEntry != PlayerTracker.NONE) {
+            return this.tracker$getValidatedUser(intKey, PlayerTracker.getNotifierIndex(intEntry));
         } else {
             final short shortKey = Constants.Sponge.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackerImpl$trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                return this.tracker$getValidatedUser(shortKey, shortTracker.notifierIndex);
+            final long shortEntry = this.trackerImpl$trackedShortBlockPositions.get(shortKey);
+            if (shortEntry != PlayerTracker.NONE) {
+                return this.tracker$getValidatedUser(shortKey, PlayerTracker.getNotifierIndex(shortEntry));
             }
         }
 
@@ -244,14 +223,14 @@ public abstract class ChunkMixin_Tracker implements ChunkBridge {
             return Optional.empty();
         }
         final int key = Constants.Sponge.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackerImpl$trackedIntBlockPositions.get(key);
-        if (intTracker != null) {
-            return this.tracker$getValidatedUUID(key, intTracker.notifierIndex);
+        final long intEntry = this.trackerImpl$trackedIntBlockPositions.get(key);
+        if (intEntry != PlayerTracker.NONE) {
+            return this.tracker$getValidatedUUID(key, PlayerTracker.getNotifierIndex(intEntry));
         } else {
             final short shortKey = Constants.Sponge.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackerImpl$trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                return this.tracker$getValidatedUUID(shortKey, shortTracker.notifierIndex);
+            final long shortEntry = this.trackerImpl$trackedShortBlockPositions.get(shortKey);
+            if (shortEntry != PlayerTracker.NONE) {
+                return this.tracker$getValidatedUUID(shortKey, PlayerTracker.getNotifierIndex(shortEntry));
             }
         }
 
@@ -311,26 +290,15 @@ public abstract class ChunkMixin_Tracker implements ChunkBridge {
         if (((WorldBridge) this.world).bridge$isFake()) {
             return;
         }
+        final int index = uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid);
         if (pos.getY() <= 255) {
             final short blockPos = Constants.Sponge.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackerImpl$trackedShortBlockPositions.get(blockPos);
-            if (shortTracker != null) {
-                shortTracker.notifierIndex = uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid);
-            } else {
-                this.trackerImpl$trackedShortBlockPositions.put(blockPos,
-                        new PlayerTracker(uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid),
-                                PlayerTracker.Type.NOTIFIER));
-            }
+            final long entry = this.trackerImpl$trackedShortBlockPositions.get(blockPos);
+            this.trackerImpl$trackedShortBlockPositions.put(blockPos, PlayerTracker.withNotifier(entry, index));
         } else {
             final int blockPos = Constants.Sponge.blockPosToInt(pos);
-            final PlayerTracker intTracker = this.trackerImpl$trackedIntBlockPositions.get(blockPos);
-            if (intTracker != null) {
-                intTracker.notifierIndex = uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid);
-            } else {
-                this.trackerImpl$trackedIntBlockPositions.put(blockPos,
-                        new PlayerTracker(uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid),
-                                PlayerTracker.Type.NOTIFIER));
-            }
+            final long entry = this.trackerImpl$trackedIntBlockPositions.get(blockPos);
+            this.trackerImpl$trackedIntBlockPositions.put(blockPos, PlayerTracker.withNotifier(entry, index));
         }
     }
 
@@ -340,34 +308,25 @@ public abstract class ChunkMixin_Tracker implements ChunkBridge {
         if (((WorldBridge) this.world).bridge$isFake()) {
             return;
         }
+        final int index = uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid);
         if (pos.getY() <= 255) {
             final short blockPos = Constants.Sponge.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackerImpl$trackedShortBlockPositions.get(blockPos);
-            if (shortTracker != null) {
-                shortTracker.ownerIndex = uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid);
-            } else {
-                this.trackerImpl$trackedShortBlockPositions.put(blockPos, new PlayerTracker(uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo())
-                        .bridge$getIndexForUniqueId(uuid), PlayerTracker.Type.OWNER));
-            }
+            final long entry = this.trackerImpl$trackedShortBlockPositions.get(blockPos);
+            this.trackerImpl$trackedShortBlockPositions.put(blockPos, PlayerTracker.withOwner(entry, index));
         } else {
             final int blockPos = Constants.Sponge.blockPosToInt(pos);
-            final PlayerTracker intTracker = this.trackerImpl$trackedIntBlockPositions.get(blockPos);
-            if (intTracker != null) {
-                intTracker.ownerIndex = uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).bridge$getIndexForUniqueId(uuid);
-            } else {
-                this.trackerImpl$trackedIntBlockPositions.put(blockPos, new PlayerTracker(uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo())
-                        .bridge$getIndexForUniqueId(uuid), PlayerTracker.Type.OWNER));
-            }
+            final long entry = this.trackerImpl$trackedIntBlockPositions.get(blockPos);
+            this.trackerImpl$trackedIntBlockPositions.put(blockPos, PlayerTracker.withOwner(entry, index));
         }
     }
 
     @Override
-    public void bridge$setTrackedIntPlayerPositions(final Map<Integer, PlayerTracker> trackedPositions) {
+    public void bridge$setTrackedIntPlayerPositions(final Int2LongMap trackedPositions) {
         this.trackerImpl$trackedIntBlockPositions = trackedPositions;
     }
 
     @Override
-    public void bridge$setTrackedShortPlayerPositions(final Map<Short, PlayerTracker> trackedPositions) {
+    public void bridge$setTrackedShortPlayerPositions(final Short2LongMap trackedPositions) {
         this.trackerImpl$trackedShortBlockPositions = trackedPositions;
     }
 
@@ -32,6 +32,7 @@ public class FullServerTickHandler extends TimingHandler {
     final TimingData minuteData;
     double avgFreeMemory = -1D;
     double avgUsedMemory = -1D;
+    private long tickStart;
 
     FullServerTickHandler() {
         super(IDENTITY);
@@ -42,6 +43,7 @@ public class FullServerTickHandler extends TimingHandler {
 
     @Override
     public TimingHandler startTiming() {
+        this.tickStart = System.nanoTime();
         if (TimingsManager.needsFullReset) {
             TimingsManager.resetTimings();
         } else if (TimingsManager.needsRecheckEnabled) {
@@ -53,6 +55,7 @@ public TimingHandler startTiming() {
 
     @Override
     public void stopTiming() {
+        TickProfiler.recordTick(System.nanoTime() - this.tickStart);
         super.stopTiming();
         if (!this.enabled) {
             return;
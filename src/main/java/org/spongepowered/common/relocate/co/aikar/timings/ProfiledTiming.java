@@ -0,0 +1,80 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.relocate.co.aikar.timings;
+
+import co.aikar.timings.Timing;
+import org.spongepowered.common.SpongeImplHooks;
+
+/**
+ * A timing which also feeds a {@link TickProfiler.Phase}, the phase is
+ * recorded regardless of whether timings are enabled.
+ */
+final class ProfiledTiming implements Timing {
+
+    private final Timing delegate;
+    private final TickProfiler.Phase phase;
+
+    ProfiledTiming(Timing delegate, TickProfiler.Phase phase) {
+        this.delegate = delegate;
+        this.phase = phase;
+    }
+
+    @Override
+    public Timing startTiming() {
+        this.phase.start();
+        this.delegate.startTiming();
+        return this;
+    }
+
+    @Override
+    public void stopTiming() {
+        this.delegate.stopTiming();
+        this.phase.stop();
+    }
+
+    @Override
+    public void startTimingIfSync() {
+        if (SpongeImplHooks.isMainThread()) {
+            startTiming();
+        }
+    }
+
+    @Override
+    public void stopTimingIfSync() {
+        if (SpongeImplHooks.isMainThread()) {
+            stopTiming();
+        }
+    }
+
+    @Override
+    public void abort() {
+        this.delegate.abort();
+    }
+
+    @Override
+    public void close() {
+        stopTimingIfSync();
+    }
+}
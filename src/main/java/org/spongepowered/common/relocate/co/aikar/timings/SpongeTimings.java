@@ -45,6 +45,8 @@ public final class SpongeTimings {
     public static final Timing timeUpdateTimer = SpongeTimingsFactory.ofSafe("Time Update");
     public static final Timing serverCommandTimer = SpongeTimingsFactory.ofSafe("Server Command");
     public static final Timing worldSaveTimer = SpongeTimingsFactory.ofSafe("World Save");
+    public static final Timing userLoadTimer = SpongeTimingsFactory.ofSafe("User Load");
+    public static final Timing userLoadAsyncTimer = SpongeTimingsFactory.ofSafe("User Load - Async");
 
     public static final Timing processQueueTimer = SpongeTimingsFactory.ofSafe("processQueue");
 
@@ -67,6 +69,7 @@ public final class SpongeTimings {
     public static final Timing dataGetValue = SpongeTimingsFactory.ofSafe("## getValue");
     public static final Timing dataSupportsKey = SpongeTimingsFactory.ofSafe("## supportsKey");
     public static final Timing dataRemoveKey = SpongeTimingsFactory.ofSafe("## removeKey");
+    public static final Timing dataImmutableCacheMiss = SpongeTimingsFactory.ofSafe("## immutableDataCacheMiss");
 
     public static final Timing TRACKING_PHASE_UNWINDING = SpongeTimingsFactory.ofSafe("## unwindPhase");
 
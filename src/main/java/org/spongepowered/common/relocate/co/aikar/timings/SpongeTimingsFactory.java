@@ -35,6 +35,8 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.config.category.TimingsCategory;
 
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.TimeUnit;
@@ -63,6 +65,7 @@ public void init() {
         setTimingsEnabled(this.moduleEnabled && category.isEnabled());
         setHistoryInterval(category.getHistoryInterval());
         setHistoryLength(category.getHistoryLength());
+        TickProfiler.configure(category);
 
         SpongeImpl.getLogger().debug("Sponge Timings: " + this.timingsEnabled +
                                     " - Verbose: " + this.verboseEnabled +
@@ -188,6 +191,37 @@ public static long getCost() {
         return TimingsExport.getCost();
     }
 
+    /**
+     * Requests the timings report to be written to the timings directory of
+     * the server instead of being uploaded.
+     *
+     * @param sender Who to report to
+     */
+    public static void generateLocalExport(CommandSource sender) {
+        TimingsExport.requestingLocalExport.add(MessageChannel.fixed(sender));
+    }
+
+    public static List<String> getLocalExports() {
+        return TimingsLocalExport.getLocalExportNames();
+    }
+
+    /**
+     * Compares two local exports by the time their handlers took per tick,
+     * the comparison is done asynchronously.
+     *
+     * @param sender Who to report to
+     * @param before The name of the earlier export
+     * @param after The name of the later export
+     * @throws IllegalArgumentException If either export does not exist
+     */
+    public static void diffLocalExports(CommandSource sender, String before, String after) {
+        final Path beforeFile = TimingsLocalExport.getLocalExport(before);
+        final Path afterFile = TimingsLocalExport.getLocalExport(after);
+        final TimingsReportListener listeners = new TimingsReportListener(sender);
+        SpongeImpl.getScheduler().createAsyncExecutor(SpongeImpl.getPlugin())
+                .execute(() -> TimingsLocalExport.diff(beforeFile, afterFile, listeners));
+    }
+
     public static TimingHandler ofSafe(String name) {
         return ofSafe(null, name, null);
     }
@@ -0,0 +1,205 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.relocate.co.aikar.timings;
+
+import java.util.Arrays;
+
+/**
+ * A rolling histogram of tick durations, bucketed the same way as an HDR
+ * histogram so recording is constant time and the percentiles stay within a
+ * few percent of the recorded values.
+ *
+ * <p>The window is split into slots of a fixed number of ticks, the oldest
+ * slot is cleared and reused once the window moves past it. This is not
+ * thread safe, it is meant to be recorded and queried from the main
+ * thread.</p>
+ */
+public final class TickLatencyHistogram {
+
+    // Durations are bucketed in microseconds, every power of two is split into 16 buckets
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_MAGNITUDE = 36;
+    private static final long MAX_MICROS = (1L << MAX_MAGNITUDE) - 1;
+    static final int BUCKETS = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final int slotTicks;
+    private final int[][] counts;
+    private final long[] epochs;
+    private final long[] samples;
+    private final long[] totals;
+    private final long[] maxima;
+
+    /**
+     * Creates a new histogram.
+     *
+     * @param slots The number of slots in the window
+     * @param slotTicks The number of ticks covered by each slot
+     */
+    public TickLatencyHistogram(int slots, int slotTicks) {
+        this.slotTicks = Math.max(1, slotTicks);
+        this.counts = new int[Math.max(1, slots)][BUCKETS];
+        this.epochs = new long[this.counts.length];
+        this.samples = new long[this.counts.length];
+        this.totals = new long[this.counts.length];
+        this.maxima = new long[this.counts.length];
+        Arrays.fill(this.epochs, -1);
+    }
+
+    static int getBucket(long micros) {
+        final long value = Math.min(Math.max(micros, 0), MAX_MICROS);
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Gets the highest value, in microseconds, that falls into the given
+     * bucket.
+     */
+    static long getBucketLimit(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        final int shift = bucket / SUB_BUCKETS - 1;
+        final long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * Records the duration of a tick.
+     *
+     * @param tick The tick the duration belongs to
+     * @param nanos The duration in nanoseconds
+     */
+    public void record(long tick, long nanos) {
+        final long epoch = tick / this.slotTicks;
+        final int slot = (int) (epoch % this.counts.length);
+        if (this.epochs[slot] != epoch) {
+            Arrays.fill(this.counts[slot], 0);
+            this.epochs[slot] = epoch;
+            this.samples[slot] = 0;
+            this.totals[slot] = 0;
+            this.maxima[slot] = 0;
+        }
+        this.counts[slot][getBucket(nanos / 1000)]++;
+        this.samples[slot]++;
+        this.totals[slot] += nanos;
+        if (nanos > this.maxima[slot]) {
+            this.maxima[slot] = nanos;
+        }
+    }
+
+    /**
+     * Merges all slots which are still within the window at the given tick.
+     *
+     * @param tick The current tick
+     * @return The snapshot
+     */
+    public Snapshot snapshot(long tick) {
+        final long epoch = tick / this.slotTicks;
+        final long[] merged = new long[BUCKETS];
+        long samples = 0;
+        long total = 0;
+        long max = 0;
+        for (int slot = 0; slot < this.counts.length; slot++) {
+            final long slotEpoch = this.epochs[slot];
+            if (slotEpoch < 0 || slotEpoch > epoch || epoch - slotEpoch >= this.counts.length) {
+                continue;
+            }
+            final int[] counts = this.counts[slot];
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                merged[bucket] += counts[bucket];
+            }
+            samples += this.samples[slot];
+            total += this.totals[slot];
+            max = Math.max(max, this.maxima[slot]);
+        }
+        return new Snapshot(merged, samples, total, max);
+    }
+
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long samples;
+        private final long total;
+        private final long max;
+
+        Snapshot(long[] counts, long samples, long total, long max) {
+            this.counts = counts;
+            this.samples = samples;
+            this.total = total;
+            this.max = max;
+        }
+
+        public long getSamples() {
+            return this.samples;
+        }
+
+        /**
+         * Gets the mean duration, in nanoseconds.
+         *
+         * @return The mean duration
+         */
+        public double getMean() {
+            return this.samples == 0 ? 0 : (double) this.total / this.samples;
+        }
+
+        /**
+         * Gets the maximum duration, in nanoseconds.
+         *
+         * @return The maximum duration
+         */
+        public long getMax() {
+            return this.max;
+        }
+
+        /**
+         * Gets the duration, in nanoseconds, which the given percentage of
+         * the samples did not exceed. The result is rounded up to the limit
+         * of its bucket, but never above the maximum.
+         *
+         * @param percentile The percentile, between 0 and 100
+         * @return The duration at the percentile
+         */
+        public long getPercentile(double percentile) {
+            if (this.samples == 0) {
+                return 0;
+            }
+            final long target = Math.max(1, (long) Math.ceil(Math.min(Math.max(percentile, 0), 100) / 100 * this.samples));
+            long seen = 0;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                seen += this.counts[bucket];
+                if (seen >= target) {
+                    return Math.min(getBucketLimit(bucket) * 1000 + 999, this.max);
+                }
+            }
+            return this.max;
+        }
+    }
+}
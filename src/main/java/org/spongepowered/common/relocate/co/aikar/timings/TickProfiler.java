@@ -0,0 +1,192 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.relocate.co.aikar.timings;
+
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.TimingsCategory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Records the duration of every server tick and of the main phases within
+ * it into rolling histograms, to give the tail latency which the averages
+ * of the timings history hide.
+ *
+ * <p>Unlike timings this keeps running when timings are disabled, recording
+ * only costs a few {@link System#nanoTime()} calls per phase and tick. The
+ * phases may overlap, events are for example mostly posted while entities
+ * tick. Everything here is only touched from the main thread.</p>
+ */
+public final class TickProfiler {
+
+    private static final int SLOT_TICKS = 1200;
+
+    private static boolean enabled = true;
+    private static int windowMinutes = 5;
+    private static int logIntervalTicks = 0;
+    private static long currentTick = 0;
+
+    private static final List<Phase> PHASES = new ArrayList<>();
+    private static final Map<String, Map<String, Phase>> WORLD_PHASES = new LinkedHashMap<>();
+
+    public static final Phase SERVER = new Phase("server");
+    public static final Phase SCHEDULER = register(new Phase("scheduler"));
+    public static final Phase EVENTS = register(new Phase("events"));
+
+    private TickProfiler() {
+    }
+
+    static void configure(TimingsCategory category) {
+        enabled = category.isTickProfilerEnabled();
+        windowMinutes = Math.max(1, category.getTickProfilerWindow());
+        logIntervalTicks = Math.max(0, category.getTickProfilerLogInterval()) * SLOT_TICKS;
+        SERVER.histogram = createHistogram();
+        for (Phase phase : PHASES) {
+            phase.histogram = createHistogram();
+        }
+    }
+
+    private static Phase register(Phase phase) {
+        PHASES.add(phase);
+        return phase;
+    }
+
+    private static TickLatencyHistogram createHistogram() {
+        return new TickLatencyHistogram(windowMinutes, SLOT_TICKS);
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static int getWindowMinutes() {
+        return windowMinutes;
+    }
+
+    /**
+     * Gets the phase of the given world, the phase is kept when the world is
+     * unloaded so it continues where it left off if the world is loaded
+     * again.
+     *
+     * @param worldName The world name
+     * @param name The phase name
+     * @return The phase
+     */
+    static Phase getWorldPhase(String worldName, String name) {
+        return WORLD_PHASES.computeIfAbsent(worldName, key -> new LinkedHashMap<>()).computeIfAbsent(name, key -> register(new Phase(key)));
+    }
+
+    public static Map<String, Map<String, Phase>> getWorldPhases() {
+        return Collections.unmodifiableMap(WORLD_PHASES);
+    }
+
+    public static TickLatencyHistogram.Snapshot snapshot(Phase phase) {
+        return phase.histogram.snapshot(currentTick);
+    }
+
+    static void recordTick(long duration) {
+        if (!enabled) {
+            return;
+        }
+        final long tick = ++currentTick;
+        SERVER.histogram.record(tick, duration);
+        for (int i = 0; i < PHASES.size(); i++) {
+            final Phase phase = PHASES.get(i);
+            // Phases which did not run, for example of unloaded worlds, are left out
+            if (phase.ran) {
+                phase.histogram.record(tick, phase.pending);
+                phase.pending = 0;
+                phase.ran = false;
+            }
+        }
+        if (logIntervalTicks > 0 && tick % logIntervalTicks == 0) {
+            logSummary();
+        }
+    }
+
+    private static void logSummary() {
+        final StringBuilder builder = new StringBuilder("Tick profile window=").append(windowMinutes).append("m");
+        appendSummary(builder, "", SERVER);
+        appendSummary(builder, "", SCHEDULER);
+        appendSummary(builder, "", EVENTS);
+        for (Map.Entry<String, Map<String, Phase>> entry : WORLD_PHASES.entrySet()) {
+            for (Phase phase : entry.getValue().values()) {
+                appendSummary(builder, entry.getKey() + ".", phase);
+            }
+        }
+        SpongeImpl.getLogger().info(builder.toString());
+    }
+
+    private static void appendSummary(StringBuilder builder, String prefix, Phase phase) {
+        final TickLatencyHistogram.Snapshot snapshot = snapshot(phase);
+        if (snapshot.getSamples() == 0) {
+            return;
+        }
+        builder.append(' ').append(prefix).append(phase.getName()).append(String.format(Locale.ROOT,
+                "={n=%d,mean=%.3f,p50=%.3f,p95=%.3f,p99=%.3f,max=%.3f}", snapshot.getSamples(), snapshot.getMean() * 1.0e-6d,
+                snapshot.getPercentile(50) * 1.0e-6d, snapshot.getPercentile(95) * 1.0e-6d, snapshot.getPercentile(99) * 1.0e-6d,
+                snapshot.getMax() * 1.0e-6d));
+    }
+
+    /**
+     * A part of the tick whose time is summed up over the tick and recorded
+     * once the tick is over. Nested starts are only timed once.
+     */
+    public static final class Phase {
+
+        private final String name;
+        TickLatencyHistogram histogram = createHistogram();
+        private int depth;
+        private long start;
+        private long pending;
+        private boolean ran;
+
+        Phase(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public void start() {
+            if (enabled && this.depth++ == 0) {
+                this.start = System.nanoTime();
+            }
+        }
+
+        public void stop() {
+            if (this.depth > 0 && --this.depth == 0) {
+                this.pending += System.nanoTime() - this.start;
+                this.ran = true;
+            }
+        }
+    }
+}
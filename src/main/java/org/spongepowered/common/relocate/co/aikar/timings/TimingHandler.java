@@ -43,7 +43,7 @@ class TimingHandler implements Timing {
     final Int2ObjectOpenHashMap<TimingData> children = new LoadingIntMap<>(TimingData::new);
 
     final TimingData record;
-    private final TimingHandler groupHandler;
+    final TimingHandler groupHandler;
 
     private long start = 0;
     private int timingDepth = 0;
@@ -34,6 +34,8 @@
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import ninja.leaping.configurate.ConfigurationNode;
 import org.spongepowered.api.Platform;
 import org.spongepowered.api.Sponge;
@@ -47,6 +49,7 @@
 import org.spongepowered.api.text.channel.MessageReceiver;
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.data.ImmutableDataCachingUtil;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -62,6 +65,8 @@
 import java.util.Set;
 import java.util.zip.GZIPOutputStream;
 
+import javax.annotation.Nullable;
+
 class TimingsExport extends Thread {
 
     private static final Joiner AUTHOR_LIST_JOINER = Joiner.on(", ");
@@ -71,14 +76,22 @@ class TimingsExport extends Thread {
     private final TimingsReportListener listeners;
     private final JsonObject out;
     private final TimingHistory[] history;
+    // Only set for local exports, which are written to disk instead of uploaded
+    @Nullable private final IntSet groupHandlerIds;
     private static long lastReport = 0;
     final static List<MessageChannel> requestingReport = Lists.newArrayList();
+    final static List<MessageChannel> requestingLocalExport = Lists.newArrayList();
 
     TimingsExport(TimingsReportListener listeners, JsonObject out, TimingHistory[] history) {
-        super("Timings paste thread");
+        this(listeners, out, history, null);
+    }
+
+    private TimingsExport(TimingsReportListener listeners, JsonObject out, TimingHistory[] history, @Nullable IntSet groupHandlerIds) {
+        super(groupHandlerIds == null ? "Timings paste thread" : "Timings export thread");
         this.listeners = listeners;
         this.out = out;
         this.history = history;
+        this.groupHandlerIds = groupHandlerIds;
     }
 
     private static String getServerName() {
@@ -91,6 +104,9 @@ private static String getServerName() {
      * @param sender Who to report to
      */
     static void reportTimings() {
+        if (!requestingLocalExport.isEmpty()) {
+            exportTimings();
+        }
         if (requestingReport.isEmpty()) {
             return;
         }
@@ -113,6 +129,44 @@ static void reportTimings() {
         listeners.send(Text.of(TextColors.GREEN, "Preparing Timings Report..."));
         lastReport = now;
 
+        TimingHistory[] history = snapshotHistory();
+        new TimingsExport(listeners, buildReport(history), history).start();
+    }
+
+    /**
+     * Writes the timings report to the server directory rather than
+     * uploading it, this is not rate limited as it does not touch the
+     * timings viewer.
+     */
+    private static void exportTimings() {
+        TimingsReportListener listeners = new TimingsReportListener(requestingLocalExport);
+        requestingLocalExport.clear();
+        listeners.send(Text.of(TextColors.GREEN, "Preparing Timings Export..."));
+
+        IntSet groupHandlerIds = new IntOpenHashSet();
+        for (TimingIdentifier.TimingGroup group : TimingIdentifier.GROUP_MAP.values()) {
+            for (TimingHandler handler : group.handlers) {
+                if (handler.groupHandler != null) {
+                    groupHandlerIds.add(handler.groupHandler.id);
+                }
+            }
+        }
+        TimingHistory[] history = snapshotHistory();
+        new TimingsExport(listeners, buildReport(history), history, groupHandlerIds).start();
+    }
+
+    private static TimingHistory[] snapshotHistory() {
+        int size = TimingsManager.HISTORY.size();
+        TimingHistory[] history = new TimingHistory[size + 1];
+        int i = 0;
+        for (TimingHistory timingHistory : TimingsManager.HISTORY) {
+            history[i++] = timingHistory;
+        }
+        history[i] = new TimingHistory(); // Current snapshot
+        return history;
+    }
+
+    private static JsonObject buildReport(TimingHistory[] history) {
         Platform platform = SpongeImpl.getGame().getPlatform();
         JsonObjectBuilder builder = JSONUtil.objectBuilder()
                 // Get some basic system details about the server
@@ -147,19 +201,11 @@ static void reportTimings() {
         Set<TileEntityType> tileEntityTypeSet = Sets.newHashSet();
         Set<EntityType> entityTypeSet = Sets.newHashSet();
 
-        int size = TimingsManager.HISTORY.size();
-        TimingHistory[] history = new TimingHistory[size + 1];
-        int i = 0;
-        for (TimingHistory timingHistory : TimingsManager.HISTORY) {
+        for (TimingHistory timingHistory : history) {
             tileEntityTypeSet.addAll(timingHistory.tileEntityTypeSet);
             entityTypeSet.addAll(timingHistory.entityTypeSet);
-            history[i++] = timingHistory;
         }
 
-        history[i] = new TimingHistory(); // Current snapshot
-        tileEntityTypeSet.addAll(history[i].tileEntityTypeSet);
-        entityTypeSet.addAll(history[i].entityTypeSet);
-
         JsonObjectBuilder handlersBuilder = JSONUtil.objectBuilder();
         for (TimingIdentifier.TimingGroup group : TimingIdentifier.GROUP_MAP.values()) {
             for (TimingHandler id : group.handlers) {
@@ -201,12 +247,20 @@ static void reportTimings() {
             ).build();
         }));
 
+        // Hit rates of the immutable data caches, misses are also timed separately
+
+        builder.add("datacache", JSONUtil.objectBuilder()
+                .add("manipulators", JSONUtil.arrayOf(ImmutableDataCachingUtil.getManipulatorCacheHits(),
+                        ImmutableDataCachingUtil.getManipulatorCacheMisses()))
+                .add("values", JSONUtil.arrayOf(ImmutableDataCachingUtil.getValueCacheHits(),
+                        ImmutableDataCachingUtil.getValueCacheMisses())));
+
         // Information on the users Config
 
         builder.add("config", JSONUtil.objectBuilder()
                 .add("sponge", serializeConfigNode(SpongeImpl.getGlobalConfigAdapter().getRootNode())));
 
-        new TimingsExport(listeners, builder.build(), history).start();
+        return builder.build();
     }
 
     static long getCost() {
@@ -289,6 +343,11 @@ public synchronized void start() {
     public void run() {
         this.out.add("data", JSONUtil.mapArray(this.history, TimingHistory::export));
 
+        if (this.groupHandlerIds != null) {
+            TimingsLocalExport.write(this.out, this.groupHandlerIds, this.listeners);
+            return;
+        }
+
         String response = null;
         String timingsURL = null;
         try {
@@ -0,0 +1,364 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.relocate.co.aikar.timings;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.format.TextColors;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.relocate.co.aikar.util.JSONUtil;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writes timings reports to the server directory instead of uploading them,
+ * and compares two of those exports with each other.
+ *
+ * <p>Every export consists of the full report as JSON, in the same format
+ * that is uploaded to the timings viewer, and the handler tree as collapsed
+ * stacks which can be fed straight into flamegraph tools.</p>
+ */
+final class TimingsLocalExport {
+
+    static final String JSON_EXTENSION = ".json";
+    static final String COLLAPSED_EXTENSION = ".collapsed";
+
+    // Guards against pathological handler graphs, timings trees are never this deep
+    private static final int MAX_STACK_DEPTH = 48;
+    private static final int MAX_DIFF_LINES = 20;
+
+    private TimingsLocalExport() {
+    }
+
+    static Path getExportDirectory() {
+        return SpongeImpl.getGameDir().resolve("timings");
+    }
+
+    /**
+     * Gets the names of all exports in the export directory, without their
+     * file extension.
+     *
+     * @return The export names
+     */
+    static List<String> getLocalExportNames() {
+        final Path directory = getExportDirectory();
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(JSON_EXTENSION))
+                    .map(name -> name.substring(0, name.length() - JSON_EXTENSION.length()))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            SpongeImpl.getLogger().warn("Could not list the timings exports in " + directory, e);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Gets the JSON file of the export with the given name.
+     *
+     * @param name The export name, with or without file extension
+     * @return The export file
+     * @throws IllegalArgumentException If there is no such export
+     */
+    static Path getLocalExport(String name) {
+        final String fileName = name.endsWith(JSON_EXTENSION) ? name : name + JSON_EXTENSION;
+        final Path directory = getExportDirectory();
+        final Path file = directory.resolve(fileName).normalize();
+        checkArgument(file.getParent() != null && file.getParent().equals(directory.normalize()) && Files.isRegularFile(file),
+                "No timings export named %s", name);
+        return file;
+    }
+
+    /**
+     * Writes the given report to the export directory.
+     *
+     * @param report The full report, including the history data
+     * @param groupHandlerIds The ids of the handlers that only aggregate the
+     *     handlers of their group, these are left out of the collapsed stacks
+     * @param listeners The listeners to notify
+     */
+    static void write(JsonObject report, IntSet groupHandlerIds, TimingsReportListener listeners) {
+        final Path directory = getExportDirectory();
+        final String baseName = "timings-" + new SimpleDateFormat("yyyyMMdd-HHmmss", Locale.ROOT).format(new Date());
+        try {
+            Files.createDirectories(directory);
+            // Names only have a resolution of one second, later exports of the same second get a suffix
+            String name = baseName;
+            Path jsonFile = directory.resolve(name + JSON_EXTENSION);
+            Writer jsonWriter = null;
+            for (int suffix = 2; jsonWriter == null; suffix++) {
+                try {
+                    jsonWriter = Files.newBufferedWriter(jsonFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                } catch (FileAlreadyExistsException e) {
+                    name = baseName + "-" + suffix;
+                    jsonFile = directory.resolve(name + JSON_EXTENSION);
+                }
+            }
+            try (Writer writer = jsonWriter) {
+                writer.write(JSONUtil.toString(report));
+            }
+            final Path collapsedFile = directory.resolve(name + COLLAPSED_EXTENSION);
+            try (BufferedWriter writer = Files.newBufferedWriter(collapsedFile, StandardCharsets.UTF_8)) {
+                writeCollapsedStacks(report, groupHandlerIds, writer);
+            }
+            listeners.send(Text.of(TextColors.GREEN, "Timings exported to ", TextColors.YELLOW, jsonFile.toAbsolutePath()));
+            listeners.send(Text.of(TextColors.GREEN, "Flamegraph stacks written to ", TextColors.YELLOW, collapsedFile.toAbsolutePath()));
+        } catch (IOException e) {
+            listeners.send(Text.of(TextColors.RED, "Error exporting timings, check your logs for more information"));
+            SpongeImpl.getLogger().error("Could not export timings to " + directory, e);
+        } finally {
+            listeners.done();
+        }
+    }
+
+    /**
+     * Writes the handler tree of the report as collapsed stacks, one line of
+     * {@code frame;frame;frame value} per path with the self time of the last
+     * frame in microseconds.
+     *
+     * <p>Handlers only record their children in aggregate, so the children of
+     * a handler which is reached through several parents are split between
+     * those parents by the share of time each parent spent in it.</p>
+     */
+    static void writeCollapsedStacks(JsonObject report, IntSet groupHandlerIds, BufferedWriter writer) throws IOException {
+        final Map<String, String> names = getHandlerNames(report);
+        final Int2LongMap totals = new Int2LongOpenHashMap();
+        final Int2ObjectMap<Int2LongMap> edges = new Int2ObjectOpenHashMap<>();
+        for (JsonElement history : report.getAsJsonArray("data")) {
+            for (JsonElement element : history.getAsJsonObject().getAsJsonArray("h")) {
+                final JsonArray entry = element.getAsJsonArray();
+                final int id = entry.get(0).getAsInt();
+                totals.put(id, totals.get(id) + entry.get(2).getAsLong());
+                final JsonElement last = entry.get(entry.size() - 1);
+                if (!last.isJsonArray() || groupHandlerIds.contains(id)) {
+                    continue;
+                }
+                final Int2LongMap children = edges.computeIfAbsent(id, key -> new Int2LongOpenHashMap());
+                for (JsonElement childElement : last.getAsJsonArray()) {
+                    final JsonArray child = childElement.getAsJsonArray();
+                    final int childId = child.get(0).getAsInt();
+                    children.put(childId, children.get(childId) + child.get(2).getAsLong());
+                }
+            }
+        }
+
+        final IntSet nested = new IntOpenHashSet();
+        for (Int2LongMap children : edges.values()) {
+            nested.addAll(children.keySet());
+        }
+        final IntList stack = new IntArrayList();
+        for (Int2LongMap.Entry entry : totals.int2LongEntrySet()) {
+            final int id = entry.getIntKey();
+            if (!nested.contains(id) && !groupHandlerIds.contains(id)) {
+                writeStack(writer, names, totals, edges, stack, id, 1.0);
+            }
+        }
+    }
+
+    private static void writeStack(BufferedWriter writer, Map<String, String> names, Int2LongMap totals, Int2ObjectMap<Int2LongMap> edges,
+            IntList stack, int id, double share) throws IOException {
+        final long total = totals.get(id);
+        if (total <= 0) {
+            return;
+        }
+        stack.add(id);
+        final Int2LongMap children = edges.get(id);
+        long childTime = 0;
+        if (children != null && stack.size() < MAX_STACK_DEPTH) {
+            for (Int2LongMap.Entry child : children.int2LongEntrySet()) {
+                final int childId = child.getIntKey();
+                final long childTotal = totals.get(childId);
+                if (stack.contains(childId) || childTotal <= 0) {
+                    continue;
+                }
+                childTime += child.getLongValue();
+                writeStack(writer, names, totals, edges, stack, childId, share * child.getLongValue() / childTotal);
+            }
+        }
+        final long selfMicros = (long) (Math.max(0, total - childTime) * share / 1000);
+        if (selfMicros > 0) {
+            for (int i = 0; i < stack.size(); i++) {
+                if (i > 0) {
+                    writer.write(';');
+                }
+                writer.write(getFrameName(names, stack.getInt(i)));
+            }
+            writer.write(' ');
+            writer.write(Long.toString(selfMicros));
+            writer.newLine();
+        }
+        stack.removeInt(stack.size() - 1);
+    }
+
+    private static String getFrameName(Map<String, String> names, int id) {
+        final String name = names.get(String.valueOf(id));
+        if (name == null) {
+            return "Unknown " + id;
+        }
+        // Semicolons separate the frames and the last space separates the value
+        return name.replace(';', ':').replace('\n', ' ');
+    }
+
+    /**
+     * Compares two exports by the average time each handler took per tick.
+     *
+     * @param before The earlier export
+     * @param after The later export
+     * @param listeners The listeners to send the comparison to
+     */
+    static void diff(Path before, Path after, TimingsReportListener listeners) {
+        try {
+            final Map<String, double[]> beforeStats = getTickAverages(read(before));
+            final Map<String, double[]> afterStats = getTickAverages(read(after));
+            final List<String> keys = getChangedHandlers(beforeStats, afterStats);
+
+            listeners.send(Text.of(TextColors.GREEN, "Timings diff (ms per tick) from ", TextColors.YELLOW, before.getFileName(),
+                    TextColors.GREEN, " to ", TextColors.YELLOW, after.getFileName()));
+            for (String key : keys) {
+                final double delta = getMillis(afterStats, key) - getMillis(beforeStats, key);
+                final String status = !beforeStats.containsKey(key) ? " (new)" : !afterStats.containsKey(key) ? " (gone)" : "";
+                listeners.send(Text.of(delta > 0 ? TextColors.RED : TextColors.GREEN, String.format(Locale.ROOT, "%+.3f", delta),
+                        TextColors.GRAY, String.format(Locale.ROOT, " %.3f -> %.3f ", getMillis(beforeStats, key), getMillis(afterStats, key)),
+                        TextColors.WHITE, key, TextColors.GRAY, status));
+            }
+            if (keys.isEmpty()) {
+                listeners.send(Text.of(TextColors.GREEN, "No differences found"));
+            }
+        } catch (IOException | RuntimeException e) {
+            listeners.send(Text.of(TextColors.RED, "Error comparing timings exports, check your logs for more information"));
+            SpongeImpl.getLogger().error("Could not compare the timings exports " + before + " and " + after, e);
+        } finally {
+            listeners.done();
+        }
+    }
+
+    /**
+     * Gets the handlers whose average time per tick changed the most, at
+     * most {@link #MAX_DIFF_LINES} of them, largest change first.
+     *
+     * @param beforeStats The tick averages of the earlier export
+     * @param afterStats The tick averages of the later export
+     * @return The names of the changed handlers
+     */
+    static List<String> getChangedHandlers(Map<String, double[]> beforeStats, Map<String, double[]> afterStats) {
+        final List<String> keys = new ArrayList<>(beforeStats.keySet());
+        afterStats.keySet().stream().filter(key -> !beforeStats.containsKey(key)).forEach(keys::add);
+        final Map<String, Double> deltas = new HashMap<>();
+        for (String key : keys) {
+            deltas.put(key, Math.abs(getMillis(afterStats, key) - getMillis(beforeStats, key)));
+        }
+        return keys.stream()
+                .filter(key -> deltas.get(key) >= 0.001)
+                .sorted(Comparator.comparingDouble((String key) -> deltas.get(key)).reversed())
+                .limit(MAX_DIFF_LINES)
+                .collect(Collectors.toList());
+    }
+
+    static double getMillis(Map<String, double[]> stats, String key) {
+        final double[] values = stats.get(key);
+        return values == null ? 0 : values[0];
+    }
+
+    private static JsonObject read(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return new JsonParser().parse(reader).getAsJsonObject();
+        }
+    }
+
+    /**
+     * Sums up the history of the report per handler. Handler ids are not
+     * stable between restarts, so the handlers are keyed by their name.
+     */
+    static Map<String, double[]> getTickAverages(JsonObject report) {
+        final Map<String, String> names = getHandlerNames(report);
+        final Map<String, double[]> stats = new HashMap<>();
+        long ticks = 0;
+        for (JsonElement history : report.getAsJsonArray("data")) {
+            final JsonObject object = history.getAsJsonObject();
+            ticks += object.get("tk").getAsLong();
+            for (JsonElement element : object.getAsJsonArray("h")) {
+                final JsonArray entry = element.getAsJsonArray();
+                final String id = entry.get(0).getAsString();
+                final String name = names.getOrDefault(id, "Unknown " + id);
+                stats.computeIfAbsent(name, key -> new double[1])[0] += entry.get(2).getAsLong();
+            }
+        }
+        final double divisor = Math.max(1, ticks) * 1000000D;
+        for (double[] values : stats.values()) {
+            values[0] /= divisor;
+        }
+        return stats;
+    }
+
+    private static Map<String, String> getHandlerNames(JsonObject report) {
+        final JsonObject idmap = report.getAsJsonObject("idmap");
+        final JsonObject groups = idmap.getAsJsonObject("groups");
+        final Map<String, String> names = new HashMap<>();
+        for (Map.Entry<String, JsonElement> entry : idmap.getAsJsonObject("handlers").entrySet()) {
+            final JsonArray handler = entry.getValue().getAsJsonArray();
+            final JsonElement group = groups.get(handler.get(0).getAsString());
+            final String groupName = group == null ? null : group.getAsString();
+            final String name = handler.get(1).getAsString();
+            names.put(entry.getKey(), groupName == null || groupName.equals(TimingIdentifier.DEFAULT_GROUP.name) ? name : groupName + " - " + name);
+        }
+        return names;
+    }
+}
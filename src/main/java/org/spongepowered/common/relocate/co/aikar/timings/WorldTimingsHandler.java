@@ -57,6 +57,7 @@ public class WorldTimingsHandler {
     public final Timing tracker2;
     public final Timing doTick;
     public final Timing tickEntities;
+    public final Timing entityActivation;
 
     // Chunk Load
     public final Timing syncChunkLoadTimer;
@@ -81,10 +82,10 @@ public WorldTimingsHandler(World world) {
 
         this.mobSpawn = SpongeTimingsFactory.ofSafe(name + "mobSpawn");
         this.doChunkUnload = SpongeTimingsFactory.ofSafe(name + "doChunkUnload");
-        this.scheduledBlocks = SpongeTimingsFactory.ofSafe(name + "Scheduled Blocks");
+        this.scheduledBlocks = profiled(SpongeTimingsFactory.ofSafe(name + "Scheduled Blocks"), world, "blockTicks");
         this.scheduledBlocksCleanup = SpongeTimingsFactory.ofSafe(name + "Scheduled Blocks - Cleanup");
         this.scheduledBlocksTicking = SpongeTimingsFactory.ofSafe(name + "Scheduled Blocks - Ticking");
-        this.updateBlocks = SpongeTimingsFactory.ofSafe(name + "Update Blocks");
+        this.updateBlocks = profiled(SpongeTimingsFactory.ofSafe(name + "Update Blocks"), world, "blockTicks");
         this.updateBlocksCheckNextLight = SpongeTimingsFactory.ofSafe(name + "Update Blocks - CheckNextLight");
         this.updateBlocksChunkTick = SpongeTimingsFactory.ofSafe(name + "Update Blocks - ChunkTick");
         this.updateBlocksIceAndSnow = SpongeTimingsFactory.ofSafe(name + "Update Blocks - IceAndSnow");
@@ -95,9 +96,9 @@ public WorldTimingsHandler(World world) {
         this.doSounds = SpongeTimingsFactory.ofSafe(name + "doSounds");
         this.doChunkGC = SpongeTimingsFactory.ofSafe(name + "doChunkGC");
         this.doPortalForcer = SpongeTimingsFactory.ofSafe(name + "doPortalForcer");
-        this.entityTick = SpongeTimingsFactory.ofSafe(name + "entityTick");
+        this.entityTick = profiled(SpongeTimingsFactory.ofSafe(name + "entityTick"), world, "entities");
         this.entityRemoval = SpongeTimingsFactory.ofSafe(name + "entityRemoval");
-        this.tileEntityTick = SpongeTimingsFactory.ofSafe(name + "tileEntityTick");
+        this.tileEntityTick = profiled(SpongeTimingsFactory.ofSafe(name + "tileEntityTick"), world, "tileEntities");
         this.tileEntityPending = SpongeTimingsFactory.ofSafe(name + "tileEntityPending");
         this.tileEntityRemoval = SpongeTimingsFactory.ofSafe(name + "tileEntityRemoval");
 
@@ -113,6 +114,7 @@ public WorldTimingsHandler(World world) {
         this.tracker2 = SpongeTimingsFactory.ofSafe(name + "tracker stage 2");
         this.doTick = SpongeTimingsFactory.ofSafe(name + "doTick");
         this.tickEntities = SpongeTimingsFactory.ofSafe(name + "tickEntities");
+        this.entityActivation = SpongeTimingsFactory.ofSafe(name + "entityActivation");
 
         this.causeTrackerBlockTimer = SpongeTimingsFactory.ofSafe(name + "causeTracker - BlockCaptures");
         this.causeTrackerBlockBreakTimer = SpongeTimingsFactory.ofSafe(name + "causeTracker - BlockBreakCaptures");
@@ -121,4 +123,11 @@ public WorldTimingsHandler(World world) {
 
         this.chunkPopulate = SpongeTimingsFactory.ofSafe(name + "chunkPopulate");
     }
+
+    private static Timing profiled(Timing timing, World world, String phase) {
+        if (!TickProfiler.isEnabled()) {
+            return timing;
+        }
+        return new ProfiledTiming(timing, TickProfiler.getWorldPhase(world.getWorldInfo().getWorldName(), phase));
+    }
 }
@@ -28,8 +28,7 @@
 import org.spongepowered.common.SpongeImpl;
 
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Condition;
@@ -45,8 +44,9 @@ public class AsyncScheduler extends SchedulerBase {
     private final Lock lock = new ReentrantLock();
     private final Condition condition = this.lock.newCondition();
     private final AtomicBoolean stateChanged = new AtomicBoolean(false);
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool();
+    // The bounded thread pooling executor of asynchronous tasks.
+    private final AsyncTaskExecutor executor =
+            new AsyncTaskExecutor(SpongeImpl.getGlobalConfigAdapter().getConfig().getScheduler().getAsyncExecutor());
 
     AsyncScheduler() {
         super(ScheduledTask.TaskSynchronicity.ASYNCHRONOUS);
@@ -57,7 +57,7 @@ public class AsyncScheduler extends SchedulerBase {
         thread.start();
     }
 
-    ExecutorService getExecutor() {
+    AsyncTaskExecutor getExecutor() {
         return this.executor;
     }
 
@@ -72,6 +72,13 @@ private void mainLoop() {
     private void recalibrateMinimumTimeout() {
         this.lock.lock();
         try {
+            if (this.isDeadlineQueue()) {
+                // Newly added and completed tasks signal the condition, so
+                // only the earliest queued deadline needs to be waited for.
+                final long nextDeadline = this.getNextTimeDeadline();
+                this.minimumTimeout = nextDeadline == Long.MAX_VALUE ? Long.MAX_VALUE : Math.max(0, nextDeadline - System.nanoTime());
+                return;
+            }
             Set<Task> tasks = this.getScheduledTasks();
             this.minimumTimeout = Long.MAX_VALUE;
             long now = System.nanoTime();
@@ -142,7 +149,23 @@ protected void finallyPostTick() {
 
     @Override
     protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
-        this.executor.submit(runnable);
+        try {
+            this.executor.execute(task.getOwner(), runnable);
+        } catch (RejectedExecutionException e) {
+            task.getOwner().getLogger().warn("The Scheduler could not run the task {}, too many tasks of {} are queued.", task.getName(),
+                task.getOwner().getId());
+            if (task.period == 0L) {
+                // One time tasks are dropped, tell the submitter instead of
+                // letting it wait for a result that never comes
+                task.setState(ScheduledTask.ScheduledTaskState.CANCELED);
+                if (task.getConsumer() instanceof RejectableTask) {
+                    ((RejectableTask) task.getConsumer()).reject(e);
+                }
+            } else {
+                // Repeating tasks will be attempted again after their interval
+                task.setState(ScheduledTask.ScheduledTaskState.RUNNING);
+            }
+        }
     }
 
     @Override
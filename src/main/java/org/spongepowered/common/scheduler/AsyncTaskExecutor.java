@@ -0,0 +1,280 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.AsyncExecutorCategory;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs asynchronous plugin work on a bounded work-stealing pool. Each plugin
+ * may only occupy a limited amount of threads at the same time, additional
+ * work waits in a per plugin queue which may be capped as well. Work submitted
+ * on behalf of Sponge itself runs on a separate pool.
+ */
+public final class AsyncTaskExecutor {
+
+    private final ForkJoinPool pool;
+    private final ForkJoinPool internalPool;
+    private final int internalThreads;
+    private final int maxConcurrency;
+    private final int defaultConcurrency;
+    private final int maxQueuedTasks;
+    private final Map<String, Integer> concurrencyOverrides;
+    private final Map<String, PluginQueue> queues = new ConcurrentHashMap<>();
+
+    AsyncTaskExecutor(AsyncExecutorCategory config) {
+        final int threads = config.getMaxThreads() > 0 ? config.getMaxThreads() : Runtime.getRuntime().availableProcessors();
+        this.pool = createPool("Sponge Async Scheduler Worker #", threads);
+        // Sponge's own asynchronous work (profile lookups, world storage, ...) may
+        // block for a long time, it runs on its own pool so that neither plugins
+        // nor the implementation can starve each other.
+        this.internalThreads = config.getMaxInternalThreads() > 0 ? config.getMaxInternalThreads() : Math.max(2, threads / 2);
+        this.internalPool = createPool("Sponge Async Internal Worker #", this.internalThreads);
+        // Leave room for other plugins, even if a single plugin blocks every
+        // thread it is allowed to use.
+        this.maxConcurrency = Math.max(1, threads - 1);
+        this.defaultConcurrency = config.getMaxConcurrentTasksPerPlugin() > 0
+                ? Math.min(config.getMaxConcurrentTasksPerPlugin(), this.maxConcurrency)
+                : Math.max(1, threads / 2);
+        this.maxQueuedTasks = config.getMaxQueuedTasksPerPlugin();
+        this.concurrencyOverrides = config.getPluginConcurrency();
+    }
+
+    private static ForkJoinPool createPool(String threadName, int threads) {
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        final AtomicInteger threadCounter = new AtomicInteger();
+        return new ForkJoinPool(threads, pool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(threadName + threadCounter.incrementAndGet());
+            thread.setContextClassLoader(contextClassLoader);
+            return thread;
+        }, (thread, throwable) -> SpongeImpl.getLogger().error("Uncaught exception in thread {}", thread.getName(), throwable), true);
+    }
+
+    /**
+     * Runs the given runnable on behalf of the plugin, as soon as the plugin
+     * has not reached its concurrency limit anymore.
+     *
+     * @param plugin The plugin owning the work
+     * @param runnable The work to run
+     * @throws RejectedExecutionException If the queue of the plugin is full,
+     *     the queue of Sponge itself is never capped
+     */
+    void execute(PluginContainer plugin, Runnable runnable) {
+        final PluginQueue queue = this.queues.computeIfAbsent(plugin.getId(), this::createQueue);
+        final QueuedRunnable queued = new QueuedRunnable(queue, runnable);
+        synchronized (queue) {
+            if (queue.running < queue.concurrency) {
+                queue.running++;
+            } else if (this.maxQueuedTasks <= 0 || queue.internal || queue.pending.size() < this.maxQueuedTasks) {
+                queue.pending.add(queued);
+                queue.submitted.increment();
+                return;
+            } else {
+                queue.rejected.increment();
+                throw new RejectedExecutionException("Too many queued asynchronous tasks for plugin " + plugin.getId());
+            }
+        }
+        queue.submitted.increment();
+        queue.pool.execute(queued);
+    }
+
+    /**
+     * Gets an {@link Executor} that submits work through this executor on
+     * behalf of the given plugin.
+     *
+     * @param plugin The plugin owning the work
+     * @return The executor
+     */
+    Executor forPlugin(PluginContainer plugin) {
+        return runnable -> this.execute(plugin, runnable);
+    }
+
+    /**
+     * Gets the metrics of every plugin that has submitted work so far.
+     *
+     * @return The metrics
+     */
+    public Collection<PluginMetrics> getMetrics() {
+        final ImmutableList.Builder<PluginMetrics> metrics = ImmutableList.builder();
+        for (PluginQueue queue : this.queues.values()) {
+            metrics.add(queue.metrics);
+        }
+        return metrics.build();
+    }
+
+    private PluginQueue createQueue(String pluginId) {
+        if (pluginId.equals(SpongeImpl.getPlugin().getId())) {
+            return new PluginQueue(pluginId, this.internalPool, this.internalThreads, true);
+        }
+        final Integer override = this.concurrencyOverrides.get(pluginId);
+        final int concurrency = override != null && override > 0 ? Math.min(override, this.maxConcurrency) : this.defaultConcurrency;
+        return new PluginQueue(pluginId, this.pool, concurrency, false);
+    }
+
+    private void onCompletion(PluginQueue queue) {
+        final QueuedRunnable next;
+        synchronized (queue) {
+            next = queue.pending.poll();
+            if (next == null) {
+                queue.running--;
+            }
+        }
+        if (next != null) {
+            queue.pool.execute(next);
+        }
+    }
+
+    private final class QueuedRunnable implements Runnable {
+
+        private final PluginQueue queue;
+        private final Runnable runnable;
+        private final long queuedAt = System.nanoTime();
+
+        QueuedRunnable(PluginQueue queue, Runnable runnable) {
+            this.queue = queue;
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void run() {
+            final long start = System.nanoTime();
+            try {
+                this.runnable.run();
+            } finally {
+                final long end = System.nanoTime();
+                this.queue.waitTime.add(start - this.queuedAt);
+                this.queue.runTime.add(end - start);
+                this.queue.maxRunTime.accumulate(end - start);
+                this.queue.completed.increment();
+                onCompletion(this.queue);
+            }
+        }
+    }
+
+    private static final class PluginQueue {
+
+        final String pluginId;
+        final ForkJoinPool pool;
+        final int concurrency;
+        final boolean internal;
+        final Queue<QueuedRunnable> pending = new ArrayDeque<>();
+        int running;
+
+        final LongAdder submitted = new LongAdder();
+        final LongAdder completed = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+        final LongAdder waitTime = new LongAdder();
+        final LongAdder runTime = new LongAdder();
+        final LongAccumulator maxRunTime = new LongAccumulator(Math::max, 0L);
+        final PluginMetrics metrics = new PluginMetrics(this);
+
+        PluginQueue(String pluginId, ForkJoinPool pool, int concurrency, boolean internal) {
+            this.pluginId = pluginId;
+            this.pool = pool;
+            this.concurrency = concurrency;
+            this.internal = internal;
+        }
+    }
+
+    /**
+     * A live view of the asynchronous work of a single plugin.
+     */
+    public static final class PluginMetrics {
+
+        private final PluginQueue queue;
+
+        PluginMetrics(PluginQueue queue) {
+            this.queue = queue;
+        }
+
+        public String getPluginId() {
+            return this.queue.pluginId;
+        }
+
+        public int getRunningTasks() {
+            synchronized (this.queue) {
+                return this.queue.running;
+            }
+        }
+
+        public int getQueuedTasks() {
+            synchronized (this.queue) {
+                return this.queue.pending.size();
+            }
+        }
+
+        public long getSubmittedTasks() {
+            return this.queue.submitted.sum();
+        }
+
+        public long getCompletedTasks() {
+            return this.queue.completed.sum();
+        }
+
+        public long getRejectedTasks() {
+            return this.queue.rejected.sum();
+        }
+
+        /**
+         * Gets the total time the completed tasks spent waiting for a
+         * thread, in nanoseconds.
+         *
+         * @return The total queue wait time
+         */
+        public long getTotalWaitTime() {
+            return this.queue.waitTime.sum();
+        }
+
+        /**
+         * Gets the total time the completed tasks spent running, in
+         * nanoseconds.
+         *
+         * @return The total run time
+         */
+        public long getTotalRunTime() {
+            return this.queue.runTime.sum();
+        }
+
+        public long getMaxRunTime() {
+            return this.queue.maxRunTime.get();
+        }
+    }
+}
@@ -36,6 +36,8 @@
 import java.util.function.Consumer;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.Nullable;
+
 /**
  * An internal representation of a {@link Task} created by a plugin.
  */
@@ -48,6 +50,9 @@ public class ScheduledTask implements Task {
     private final PluginContainer owner;
     private final Consumer<Task> consumer;
     private long timestamp;
+    // The next execution timestamp this task was queued with, see SchedulerBase
+    long queuedDeadline;
+    @Nullable private SchedulerBase scheduler;
 
     // As this state is going to be read by multiple threads
     // potentially very quickly, marking this a volatile will
@@ -141,6 +146,9 @@ public boolean cancel() {
             success = true;
         }
         this.setState(ScheduledTask.ScheduledTaskState.CANCELED);
+        if (this.scheduler != null) {
+            this.scheduler.onTaskCancelled(this);
+        }
         return success;
     }
 
@@ -182,6 +190,20 @@ long nextExecutionTimestamp() {
         return this.timestamp + this.offset;
     }
 
+    /**
+     * Gets whether the timestamp returned by {@link #nextExecutionTimestamp()}
+     * is measured in ticks rather than in nanoseconds.
+     *
+     * @return True if the next execution is measured in ticks
+     */
+    boolean isTickBased() {
+        return this.state.isActive ? this.intervalIsTicks : this.delayIsTicks;
+    }
+
+    void setScheduler(SchedulerBase scheduler) {
+        this.scheduler = scheduler;
+    }
+
     void setTimestamp(long timestamp) {
         this.timestamp = timestamp;
     }
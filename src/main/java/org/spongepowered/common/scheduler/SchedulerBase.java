@@ -35,22 +35,45 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.annotation.Nullable;
 
 abstract class SchedulerBase {
 
+    private static final Comparator<ScheduledTask> DEADLINE_ORDER = Comparator.comparingLong(task -> task.queuedDeadline);
+
     // The simple queue of all pending (and running) ScheduledTasks
     private final Map<UUID, ScheduledTask> taskMap = Maps.newConcurrentMap();
     private long sequenceNumber = 0L;
     private final String taskNameFmt;
 
+    // When the deadline queue is used, tasks are ordered by their next execution
+    // timestamp, so that a tick only visits the tasks that are due. The queues
+    // themselves are only ever touched by the thread running the ticks, other
+    // threads hand tasks over through the concurrent queues below.
+    private final boolean deadlineQueue;
+    private final PriorityQueue<ScheduledTask> tickQueue = new PriorityQueue<>(DEADLINE_ORDER);
+    private final PriorityQueue<ScheduledTask> timeQueue = new PriorityQueue<>(DEADLINE_ORDER);
+    private final Queue<ScheduledTask> addedTasks = new ConcurrentLinkedQueue<>();
+    private final Queue<ScheduledTask> cancelledTasks = new ConcurrentLinkedQueue<>();
+    // Tasks that came due while their previous execution was still in progress
+    private final List<ScheduledTask> overdueTasks = new ArrayList<>();
+    private final List<ScheduledTask> requeuedTasks = new ArrayList<>();
+    private int staleQueueEntries;
+
     protected SchedulerBase(ScheduledTask.TaskSynchronicity type) {
         this.taskNameFmt = "%s-" + (type == ScheduledTask.TaskSynchronicity.SYNCHRONOUS ? "S" : "A") + "-%d";
+        this.deadlineQueue = SpongeImpl.getGlobalConfigAdapter().getConfig().getScheduler().useDeadlineQueue();
     }
 
     protected String nextName(PluginContainer plugin) {
@@ -81,6 +104,10 @@ protected long getTimestamp(ScheduledTask task) {
     protected void addTask(ScheduledTask task) {
         task.setTimestamp(this.getTimestamp(task));
         this.taskMap.put(task.getUniqueId(), task);
+        if (this.deadlineQueue) {
+            task.setScheduler(this);
+            this.addedTasks.add(task);
+        }
     }
 
     /**
@@ -92,6 +119,20 @@ protected void removeTask(ScheduledTask task) {
         this.taskMap.remove(task.getUniqueId());
     }
 
+    /**
+     * Called when a task owned by this scheduler has been cancelled, from
+     * whichever thread cancelled it.
+     *
+     * @param task The cancelled task
+     */
+    void onTaskCancelled(ScheduledTask task) {
+        if (this.deadlineQueue) {
+            // Removed from the task map on the next tick, the same as the
+            // full scan would do
+            this.cancelledTasks.add(task);
+        }
+    }
+
     protected Optional<Task> getTask(UUID id) {
         return Optional.<Task>ofNullable(this.taskMap.get(id));
     }
@@ -109,7 +150,11 @@ protected final void runTick() {
         this.preTick();
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.startTimingIfSync();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            if (this.deadlineQueue) {
+                this.processDueTasks();
+            } else {
+                this.taskMap.values().forEach(this::processTask);
+            }
             this.postTick();
         } finally {
             this.finallyPostTick();
@@ -117,6 +162,93 @@ protected final void runTick() {
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.stopTimingIfSync();
     }
 
+    /**
+     * Processes the tasks whose next execution timestamp has been reached,
+     * leaving all other tasks untouched.
+     */
+    private void processDueTasks() {
+        ScheduledTask task;
+        while ((task = this.cancelledTasks.poll()) != null) {
+            this.removeTask(task);
+            this.staleQueueEntries++;
+        }
+        if (this.staleQueueEntries > (this.tickQueue.size() + this.timeQueue.size()) / 2) {
+            // Cancelled tasks are otherwise only dropped from the queues once
+            // their deadline is reached, purge them before they pile up.
+            this.tickQueue.removeIf(queued -> queued.getState() == ScheduledTask.ScheduledTaskState.CANCELED);
+            this.timeQueue.removeIf(queued -> queued.getState() == ScheduledTask.ScheduledTaskState.CANCELED);
+            this.staleQueueEntries = 0;
+        }
+        while ((task = this.addedTasks.poll()) != null) {
+            this.enqueue(task);
+        }
+        if (!this.overdueTasks.isEmpty()) {
+            final List<ScheduledTask> overdue = new ArrayList<>(this.overdueTasks);
+            this.overdueTasks.clear();
+            overdue.forEach(this::processDueTask);
+        }
+        this.processQueue(this.tickQueue);
+        this.processQueue(this.timeQueue);
+        // Repeating tasks are only queued again once the queues have been
+        // processed, so that no task can run twice during the same tick.
+        for (ScheduledTask requeued : this.requeuedTasks) {
+            this.enqueue(requeued);
+        }
+        this.requeuedTasks.clear();
+    }
+
+    private void processQueue(PriorityQueue<ScheduledTask> queue) {
+        ScheduledTask task;
+        while ((task = queue.peek()) != null) {
+            if (task.getState() != ScheduledTask.ScheduledTaskState.CANCELED && task.queuedDeadline > this.getTimestamp(task)) {
+                break;
+            }
+            queue.poll();
+            this.processDueTask(task);
+        }
+    }
+
+    private void processDueTask(ScheduledTask task) {
+        final ScheduledTask.ScheduledTaskState state = task.getState();
+        if (state == ScheduledTask.ScheduledTaskState.EXECUTING || state == ScheduledTask.ScheduledTaskState.SWITCHING) {
+            // The previous occurrence hasn't terminated yet, check again on
+            // the next tick.
+            this.overdueTasks.add(task);
+            return;
+        }
+        this.processTask(task);
+        if (task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+            this.removeTask(task);
+        } else if (this.taskMap.containsKey(task.getUniqueId())) {
+            this.requeuedTasks.add(task);
+        }
+    }
+
+    private void enqueue(ScheduledTask task) {
+        task.queuedDeadline = task.nextExecutionTimestamp();
+        if (task.isTickBased()) {
+            this.tickQueue.add(task);
+        } else {
+            this.timeQueue.add(task);
+        }
+    }
+
+    /**
+     * Gets the earliest nanosecond timestamp at which a queued task that is
+     * not measured in ticks becomes due. Only valid when called from the
+     * thread running the ticks.
+     *
+     * @return The timestamp, or {@link Long#MAX_VALUE} if no such task is queued
+     */
+    protected long getNextTimeDeadline() {
+        final ScheduledTask task = this.timeQueue.peek();
+        return task == null ? Long.MAX_VALUE : task.queuedDeadline;
+    }
+
+    protected boolean isDeadlineQueue() {
+        return this.deadlineQueue;
+    }
+
     /**
      * Fired when the scheduler begins to tick, before any tasks are processed.
      */
@@ -41,6 +41,7 @@
 import org.spongepowered.api.util.Functional;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.bridge.entity.player.InventoryPlayerBridge;
+import org.spongepowered.common.relocate.co.aikar.timings.TickProfiler;
 
 import java.util.Iterator;
 import java.util.Optional;
@@ -186,7 +187,12 @@ void submit(ScheduledTask task) {
      * Ticks the synchronous scheduler.
      */
     public void tickSyncScheduler() {
-        this.syncScheduler.tick();
+        TickProfiler.SCHEDULER.start();
+        try {
+            this.syncScheduler.tick();
+        } finally {
+            TickProfiler.SCHEDULER.stop();
+        }
 
         if (Sponge.isServerAvailable()) {
             for (Player player : Sponge.getServer().getOnlinePlayers()) {
@@ -199,7 +205,16 @@ public void tickSyncScheduler() {
     }
 
     public <T> CompletableFuture<T> submitAsyncTask(Callable<T> callable) {
-        return Functional.asyncFailableFuture(callable, this.asyncScheduler.getExecutor());
+        return Functional.asyncFailableFuture(callable, this.asyncScheduler.getExecutor().forPlugin(SpongeImpl.getPlugin()));
+    }
+
+    /**
+     * Gets the executor running asynchronous tasks, to inspect its metrics.
+     *
+     * @return The asynchronous task executor
+     */
+    public AsyncTaskExecutor getAsyncExecutor() {
+        return this.asyncScheduler.getExecutor();
     }
 
     public Future<?> callSync(Runnable runnable) {
@@ -36,8 +36,11 @@
 import java.util.concurrent.Delayed;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
@@ -93,7 +96,7 @@ public void execute(Runnable command) {
 
     @Override
     public SpongeFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
-        final FutureTask<?> runnable = new FutureTask<>(command, null);
+        final FutureTask<?> runnable = new RejectableFutureTask<>(command, null);
 
         final Task task = this.createTask(runnable)
                 .delay(delay, unit)
@@ -104,7 +107,7 @@ public SpongeFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
 
     @Override
     public <V> SpongeFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
-        final FutureTask<V> runnable = new FutureTask<>(callable);
+        final FutureTask<V> runnable = new RejectableFutureTask<>(callable);
 
         final Task task = this.createTask(runnable)
                 .delay(delay, unit)
@@ -134,7 +137,21 @@ public SpongeFuture<?> scheduleWithFixedDelay(Runnable command, long initialDela
         return this.scheduleAtFixedRate(command, initialDelay, delay, unit);
     }
 
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new RejectableFutureTask<>(runnable, value);
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        return new RejectableFutureTask<>(callable);
+    }
+
     private Task.Builder createTask(Runnable command) {
+        if (command instanceof RejectableFutureTask) {
+            // Executed as a consumer so that a rejection can fail the future
+            return this.taskBuilderProvider.get().execute((Consumer<Task>) (RejectableFutureTask<?>) command);
+        }
         return this.taskBuilderProvider.get().execute(command);
     }
 
@@ -263,4 +280,28 @@ public void run() {
             super.runAndReset();
         }
     }
+
+    /**
+     * A one time task whose future fails if the executor rejects the task.
+     */
+    private static class RejectableFutureTask<V> extends FutureTask<V> implements Consumer<Task>, RejectableTask {
+
+        RejectableFutureTask(Runnable runnable, @Nullable V result) {
+            super(runnable, result);
+        }
+
+        RejectableFutureTask(Callable<V> callable) {
+            super(callable);
+        }
+
+        @Override
+        public void accept(Task task) {
+            run();
+        }
+
+        @Override
+        public void reject(RejectedExecutionException exception) {
+            setException(exception);
+        }
+    }
 }
@@ -32,6 +32,7 @@
 import org.spongepowered.api.service.permission.SubjectCollection;
 import org.spongepowered.api.service.permission.SubjectReference;
 import org.spongepowered.api.util.Tristate;
+import org.spongepowered.common.service.permission.base.GlobalMemorySubjectData;
 import org.spongepowered.common.service.permission.base.SpongeSubject;
 import org.spongepowered.common.service.permission.base.SpongeSubjectCollection;
 
@@ -82,9 +83,15 @@ private class DataFactorySubject extends SpongeSubject {
         private final String identifier;
         private final MemorySubjectData data;
 
+        private final boolean cacheable;
+
         protected DataFactorySubject(String identifier, MemorySubjectData data) {
             this.identifier = identifier;
             this.data = data;
+            this.cacheable = data instanceof GlobalMemorySubjectData;
+            if (this.cacheable) {
+                DataFactoryCollection.this.service.trackChanges((GlobalMemorySubjectData) data);
+            }
         }
 
         @Override
@@ -123,27 +130,32 @@ public MemorySubjectData getSubjectData() {
         }
 
         @Override
-        public Tristate getPermissionValue(Set<Context> contexts, String permission) {
-            Tristate ret = super.getPermissionValue(contexts, permission);
+        protected boolean isResolvedValueCacheable() {
+            return this.cacheable;
+        }
+
+        @Override
+        protected Tristate resolvePermissionValue(Set<Context> contexts, String permission) {
+            Tristate ret = super.resolvePermissionValue(contexts, permission);
 
             if (ret == Tristate.UNDEFINED) {
-                ret = getDataPermissionValue(DataFactoryCollection.this.getDefaults().getTransientSubjectData(), permission);
+                ret = getDataPermissionValue(DataFactoryCollection.this.getDefaults().getTransientSubjectData(), contexts, permission);
             }
 
             if (ret == Tristate.UNDEFINED) {
-                ret = getDataPermissionValue(DataFactoryCollection.this.service.getDefaults().getTransientSubjectData(), permission);
+                ret = getDataPermissionValue(DataFactoryCollection.this.service.getDefaults().getTransientSubjectData(), contexts, permission);
             }
             return ret;
         }
 
         @Override
-        public Optional<String> getOption(Set<Context> contexts, String option) {
-            Optional<String> ret = super.getOption(contexts, option);
+        protected Optional<String> resolveOption(Set<Context> contexts, String option) {
+            Optional<String> ret = super.resolveOption(contexts, option);
             if (!ret.isPresent()) {
-                ret = getDataOptionValue(DataFactoryCollection.this.getDefaults().getSubjectData(), option);
+                ret = getDataOptionValue(DataFactoryCollection.this.getDefaults().getSubjectData(), contexts, option);
             }
             if (!ret.isPresent()) {
-                ret = getDataOptionValue(DataFactoryCollection.this.service.getDefaults().getSubjectData(), option);
+                ret = getDataOptionValue(DataFactoryCollection.this.service.getDefaults().getSubjectData(), contexts, option);
             }
             return ret;
         }
@@ -82,7 +82,7 @@ public static class OpLevelSubject extends SpongeSubject {
 
         private final SpongePermissionService service;
         private final int level;
-        private final MemorySubjectData data;
+        private final GlobalMemorySubjectData data;
 
         public OpLevelSubject(final SpongePermissionService service, final int level) {
             this.service = service;
@@ -102,6 +102,12 @@ public List<SubjectReference> getParents(Set<Context> contexts) {
                 }
             };
             CommandPermissions.populateNonCommandPermissions(this.data, (permLevel, name) -> level == permLevel);
+            service.trackChanges(this.data);
+        }
+
+        @Override
+        protected boolean isResolvedValueCacheable() {
+            return true;
         }
 
         public int getOpLevel() {
@@ -56,6 +56,10 @@ public class SpongeContextCalculator implements ContextCalculator<Subject> {
 
     private final LoadingCache<RemoteSource, Set<Context>> remoteIpCache = buildAddressCache(Context.REMOTE_IP_KEY, rs -> getAddress(rs, RemoteConnection::getAddress));
     private final LoadingCache<RemoteSource, Set<Context>> localIpCache = buildAddressCache(Context.LOCAL_IP_KEY, rs -> getAddress(rs, RemoteConnection::getVirtualHost));
+    // The host name may require a reverse lookup, so it's only resolved once per connection
+    private final LoadingCache<RemoteSource, Context> localHostCache = CacheBuilder.newBuilder()
+        .weakKeys()
+        .build(CacheLoader.from(rs -> new Context(Context.LOCAL_HOST_KEY, rs.getConnection().getVirtualHost().getHostName())));
 
     private static InetAddress getAddress(RemoteSource input, Function<RemoteConnection, InetSocketAddress> func) {
         InetSocketAddress socket = func.apply(input.getConnection());
@@ -104,7 +108,7 @@ public void accumulateContexts(Subject subject, Set<Context> accumulator) {
                 accumulator.addAll(this.remoteIpCache.getUnchecked(rem));
                 accumulator.addAll(this.localIpCache.getUnchecked(rem));
                 accumulator.add(new Context(Context.LOCAL_PORT_KEY, String.valueOf(rem.getConnection().getVirtualHost().getPort())));
-                accumulator.add(new Context(Context.LOCAL_HOST_KEY, rem.getConnection().getVirtualHost().getHostName()));
+                accumulator.add(this.localHostCache.getUnchecked(rem));
             }
         }
 
@@ -115,7 +119,7 @@ public boolean matches(Context context, Subject subject) {
         Optional<CommandSource> subjSource = subject.getCommandSource();
         if (subjSource.isPresent()) {
             CommandSource source = subjSource.get();
-            if (source instanceof Locatable && context.getType().equals(Context.WORLD_KEY)) {
+            if (source instanceof Locatable) {
                 Locatable located = (Locatable) source;
                 if (context.getType().equals(Context.WORLD_KEY)) {
                     return located.getWorld().getContext().equals(context);
@@ -126,7 +130,7 @@ public boolean matches(Context context, Subject subject) {
             if (source instanceof RemoteSource) {
                 RemoteSource remote = (RemoteSource) source;
                 if (context.getType().equals(Context.LOCAL_HOST_KEY)) {
-                    return context.getValue().equals(remote.getConnection().getVirtualHost().getHostName());
+                    return this.localHostCache.getUnchecked(remote).equals(context);
                 } else if (context.getType().equals(Context.LOCAL_PORT_KEY)) {
                     return context.getValue().equals(String.valueOf(remote.getConnection().getVirtualHost().getPort()));
                 } else if (context.getType().equals(Context.LOCAL_IP_KEY)) {
@@ -26,16 +26,19 @@
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import net.minecraft.server.management.UserListOps;
 import org.spongepowered.api.Game;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.service.context.Context;
 import org.spongepowered.api.service.context.ContextCalculator;
 import org.spongepowered.api.service.permission.PermissionDescription;
 import org.spongepowered.api.service.permission.PermissionDescription.Builder;
 import org.spongepowered.api.service.permission.PermissionService;
 import org.spongepowered.api.service.permission.Subject;
 import org.spongepowered.api.service.permission.SubjectCollection;
+import org.spongepowered.api.service.permission.SubjectData;
 import org.spongepowered.api.service.permission.SubjectReference;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.service.permission.base.FixedParentMemorySubjectData;
@@ -44,13 +47,18 @@
 import org.spongepowered.common.service.permission.base.SpongeSubjectCollection;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -73,6 +81,15 @@ public class SpongePermissionService implements PermissionService {
     private final ConcurrentMap<String, SpongeSubjectCollection> subjects = new ConcurrentHashMap<>();
     private final SpongeSubjectCollection defaultCollection;
     private final SpongeSubject defaultData;
+    private final List<ContextCalculator<Subject>> contextCalculators = new CopyOnWriteArrayList<>();
+    // Bumped whenever a context calculator is registered, invalidating all cached active contexts
+    private final AtomicLong contextCalculatorVersion = new AtomicLong();
+    // Contexts of other calculators may depend on anything, only ours may be cached
+    private volatile boolean activeContextsCacheable = true;
+    // Bumped whenever subject data of this service changes, invalidating all resolved permission values
+    private final AtomicLong subjectDataVersion = new AtomicLong();
+    private final LongAdder permissionCacheHits = new LongAdder();
+    private final LongAdder permissionCacheMisses = new LongAdder();
 
     public SpongePermissionService(Game game) {
         this.game = game;
@@ -178,7 +195,41 @@ public CompletableFuture<Set<String>> getAllIdentifiers() {
 
     @Override
     public void registerContextCalculator(ContextCalculator<Subject> calculator) {
+        this.contextCalculators.add(checkNotNull(calculator, "calculator"));
+        if (!(calculator instanceof SpongeContextCalculator)) {
+            this.activeContextsCacheable = false;
+        }
+        this.contextCalculatorVersion.incrementAndGet();
+    }
 
+    /**
+     * Gets a version which changes whenever the active contexts calculated
+     * for an unchanged command source may change. The contexts of Sponge's
+     * own calculator only depend on the world and the connection of the
+     * command source.
+     *
+     * @return The version, or -1 if the active contexts can't be cached
+     */
+    public long getActiveContextsVersion() {
+        return this.activeContextsCacheable ? this.contextCalculatorVersion.get() : -1;
+    }
+
+    /**
+     * Calculates the active contexts of the given subject using the
+     * registered context calculators.
+     *
+     * @param subject The subject
+     * @return The active contexts
+     */
+    public Set<Context> getActiveContexts(Subject subject) {
+        if (this.contextCalculators.isEmpty()) {
+            return SubjectData.GLOBAL_CONTEXT;
+        }
+        final Set<Context> contexts = new HashSet<>();
+        for (ContextCalculator<Subject> calculator : this.contextCalculators) {
+            calculator.accumulateContexts(subject, contexts);
+        }
+        return contexts.isEmpty() ? SubjectData.GLOBAL_CONTEXT : ImmutableSet.copyOf(contexts);
     }
 
     @Override
@@ -217,4 +268,38 @@ public Collection<PermissionDescription> getDescriptions() {
     public SpongeSubjectCollection getDefaultCollection() {
         return this.defaultCollection;
     }
+
+    /**
+     * Makes changes to the given subject data invalidate the resolved values
+     * cached by the subjects of this service.
+     *
+     * @param data The subject data
+     */
+    public void trackChanges(GlobalMemorySubjectData data) {
+        data.setChangeListener(this::invalidateResolvedValues);
+    }
+
+    public void invalidateResolvedValues() {
+        this.subjectDataVersion.incrementAndGet();
+    }
+
+    public long getSubjectDataVersion() {
+        return this.subjectDataVersion.get();
+    }
+
+    public void recordPermissionCacheHit() {
+        this.permissionCacheHits.increment();
+    }
+
+    public void recordPermissionCacheMiss() {
+        this.permissionCacheMisses.increment();
+    }
+
+    public long getPermissionCacheHits() {
+        return this.permissionCacheHits.sum();
+    }
+
+    public long getPermissionCacheMisses() {
+        return this.permissionCacheMisses.sum();
+    }
 }
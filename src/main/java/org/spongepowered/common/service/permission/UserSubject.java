@@ -52,7 +52,7 @@ public class UserSubject extends SpongeSubject {
 
     public UserSubject(final GameProfile player, final UserCollection users) {
         this.player = player;
-        this.data = new SingleParentMemorySubjectData(users.getService()) {
+        final SingleParentMemorySubjectData data = new SingleParentMemorySubjectData(users.getService()) {
             @Override
             public SubjectReference getParent() {
                 return users.getService().getGroupForOpLevel(getOpLevel()).asSubjectReference();
@@ -75,8 +75,11 @@ public void setParent(SubjectReference parent) {
                 } else {
                     SpongePermissionService.getOps().removeEntry(player);
                 }
+                notifyChanged();
             }
         };
+        users.getService().trackChanges(data);
+        this.data = data;
         this.collection = users;
     }
 
@@ -127,13 +130,18 @@ public PermissionService getService() {
     }
 
     @Override
-    public Tristate getPermissionValue(Set<Context> contexts, String permission) {
-        Tristate ret = super.getPermissionValue(contexts, permission);
+    protected boolean isResolvedValueCacheable() {
+        return true;
+    }
+
+    @Override
+    protected Tristate resolvePermissionValue(Set<Context> contexts, String permission) {
+        Tristate ret = super.resolvePermissionValue(contexts, permission);
         if (ret == Tristate.UNDEFINED) {
-            ret = getDataPermissionValue(this.collection.getDefaults().getSubjectData(), permission);
+            ret = getDataPermissionValue(this.collection.getDefaults().getSubjectData(), contexts, permission);
         }
         if (ret == Tristate.UNDEFINED) {
-            ret = getDataPermissionValue(this.collection.getService().getDefaults().getSubjectData(), permission);
+            ret = getDataPermissionValue(this.collection.getService().getDefaults().getSubjectData(), contexts, permission);
         }
         if (ret == Tristate.UNDEFINED && getOpLevel() >= SpongePermissionService.getServerOpLevel()) {
             ret = Tristate.TRUE;
@@ -142,13 +150,13 @@ public Tristate getPermissionValue(Set<Context> contexts, String permission) {
     }
 
     @Override
-    public Optional<String> getOption(Set<Context> contexts, String option) {
-        Optional<String> ret = super.getOption(contexts, option);
+    protected Optional<String> resolveOption(Set<Context> contexts, String option) {
+        Optional<String> ret = super.resolveOption(contexts, option);
         if (!ret.isPresent()) {
-            ret = getDataOptionValue(this.collection.getDefaults().getSubjectData(), option);
+            ret = getDataOptionValue(this.collection.getDefaults().getSubjectData(), contexts, option);
         }
         if (!ret.isPresent()) {
-            ret = getDataOptionValue(this.collection.getService().getDefaults().getSubjectData(), option);
+            ret = getDataOptionValue(this.collection.getService().getDefaults().getSubjectData(), contexts, option);
         }
         return ret;
     }
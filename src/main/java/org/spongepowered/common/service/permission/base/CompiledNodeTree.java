@@ -0,0 +1,121 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.permission.base;
+
+import org.spongepowered.api.util.Tristate;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable permission node tree compiled into a character trie, so that
+ * values can be looked up without splitting or lower casing the permission.
+ *
+ * <p>Lookups follow the semantics of
+ * {@link org.spongepowered.api.service.permission.NodeTree}: the value of the
+ * most specific node set on the path of the permission wins.</p>
+ */
+final class CompiledNodeTree {
+
+    static final CompiledNodeTree EMPTY = new CompiledNodeTree(new Node(new char[0], new Node[0], Tristate.UNDEFINED));
+
+    private final Node root;
+
+    private CompiledNodeTree(Node root) {
+        this.root = root;
+    }
+
+    static CompiledNodeTree of(Map<String, Boolean> values) {
+        if (values.isEmpty()) {
+            return EMPTY;
+        }
+        final NodeBuilder root = new NodeBuilder();
+        for (Map.Entry<String, Boolean> entry : values.entrySet()) {
+            final String permission = entry.getKey();
+            NodeBuilder node = root;
+            for (int i = 0; i < permission.length(); i++) {
+                node = node.children.computeIfAbsent(Character.toLowerCase(permission.charAt(i)), c -> new NodeBuilder());
+            }
+            node.value = Tristate.fromBoolean(entry.getValue());
+        }
+        return new CompiledNodeTree(root.build());
+    }
+
+    Tristate get(String permission) {
+        Node node = this.root;
+        Tristate result = node.value;
+        for (int i = 0; i < permission.length(); i++) {
+            final char c = Character.toLowerCase(permission.charAt(i));
+            // A node is only a complete permission node at a segment boundary
+            if (c == '.' && node.value != Tristate.UNDEFINED) {
+                result = node.value;
+            }
+            node = node.getChild(c);
+            if (node == null) {
+                return result;
+            }
+        }
+        return node.value != Tristate.UNDEFINED ? node.value : result;
+    }
+
+    private static final class Node {
+
+        private final char[] keys;
+        private final Node[] children;
+        final Tristate value;
+
+        Node(char[] keys, Node[] children, Tristate value) {
+            this.keys = keys;
+            this.children = children;
+            this.value = value;
+        }
+
+        @Nullable
+        Node getChild(char key) {
+            final int index = Arrays.binarySearch(this.keys, key);
+            return index < 0 ? null : this.children[index];
+        }
+    }
+
+    private static final class NodeBuilder {
+
+        final TreeMap<Character, NodeBuilder> children = new TreeMap<>();
+        Tristate value = Tristate.UNDEFINED;
+
+        Node build() {
+            final char[] keys = new char[this.children.size()];
+            final Node[] children = new Node[keys.length];
+            int i = 0;
+            for (Map.Entry<Character, NodeBuilder> entry : this.children.entrySet()) {
+                keys[i] = entry.getKey();
+                children[i++] = entry.getValue().build();
+            }
+            return new Node(keys, children, this.value);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.permission.base;
+
+import com.google.common.collect.ImmutableMap;
+import org.spongepowered.api.service.context.Context;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable snapshot of the permissions and options of a
+ * {@link GlobalMemorySubjectData}, compiled for lock-free lookups.
+ *
+ * <p>Values set in more specific context sets take precedence over values set
+ * in less specific ones, values set in the global context apply last.</p>
+ */
+final class CompiledSubjectData {
+
+    private static final Context[] NO_CONTEXTS = new Context[0];
+
+    final int modifications;
+    private final Context[][] permissionContexts;
+    private final CompiledNodeTree[] permissions;
+    private final Context[][] optionContexts;
+    private final Map<String, String>[] options;
+
+    @SuppressWarnings("unchecked")
+    CompiledSubjectData(int modifications, Map<Set<Context>, Map<String, Boolean>> permissions,
+            Map<Set<Context>, Map<String, String>> options) {
+        this.modifications = modifications;
+
+        final List<Map.Entry<Set<Context>, Map<String, Boolean>>> permissionEntries = sortedBySpecificity(permissions);
+        this.permissionContexts = new Context[permissionEntries.size()][];
+        this.permissions = new CompiledNodeTree[permissionEntries.size()];
+        for (int i = 0; i < this.permissions.length; i++) {
+            this.permissionContexts[i] = permissionEntries.get(i).getKey().toArray(NO_CONTEXTS);
+            this.permissions[i] = CompiledNodeTree.of(permissionEntries.get(i).getValue());
+        }
+
+        final List<Map.Entry<Set<Context>, Map<String, String>>> optionEntries = sortedBySpecificity(options);
+        this.optionContexts = new Context[optionEntries.size()][];
+        this.options = new Map[optionEntries.size()];
+        for (int i = 0; i < this.options.length; i++) {
+            this.optionContexts[i] = optionEntries.get(i).getKey().toArray(NO_CONTEXTS);
+            this.options[i] = ImmutableMap.copyOf(optionEntries.get(i).getValue());
+        }
+    }
+
+    private static <V extends Map<?, ?>> List<Map.Entry<Set<Context>, V>> sortedBySpecificity(Map<Set<Context>, V> values) {
+        final List<Map.Entry<Set<Context>, V>> entries = new ArrayList<>(values.size());
+        for (Map.Entry<Set<Context>, V> entry : values.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                entries.add(entry);
+            }
+        }
+        entries.sort((a, b) -> Integer.compare(b.getKey().size(), a.getKey().size()));
+        return entries;
+    }
+
+    private static boolean applies(Context[] required, Set<Context> contexts) {
+        for (Context context : required) {
+            if (!contexts.contains(context)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    Tristate getPermissionValue(Set<Context> contexts, String permission) {
+        for (int i = 0; i < this.permissions.length; i++) {
+            if (applies(this.permissionContexts[i], contexts)) {
+                final Tristate value = this.permissions[i].get(permission);
+                if (value != Tristate.UNDEFINED) {
+                    return value;
+                }
+            }
+        }
+        return Tristate.UNDEFINED;
+    }
+
+    @Nullable
+    String getOption(Set<Context> contexts, String key) {
+        for (int i = 0; i < this.options.length; i++) {
+            if (applies(this.optionContexts[i], contexts)) {
+                final String value = this.options[i].get(key);
+                if (value != null) {
+                    return value;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -35,9 +35,20 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.annotation.Nullable;
+
+/**
+ * Subject data whose parents can only be set in the global context.
+ * Permissions and options can be set in any context.
+ */
 public class GlobalMemorySubjectData extends MemorySubjectData {
 
+    @Nullable private volatile Runnable changeListener;
+    private final AtomicInteger modifications = new AtomicInteger();
+    @Nullable private volatile CompiledSubjectData compiledData;
+
     /**
      * Creates a new subject data instance, using the provided service to request instances of permission subjects.
      *
@@ -47,6 +58,45 @@ public GlobalMemorySubjectData(PermissionService service) {
         super(service);
     }
 
+    /**
+     * Sets the callback notified whenever permissions, options or parents of
+     * this data change.
+     *
+     * @param changeListener The listener
+     */
+    public void setChangeListener(@Nullable Runnable changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    protected void notifyChanged() {
+        this.modifications.incrementAndGet();
+        final Runnable changeListener = this.changeListener;
+        if (changeListener != null) {
+            changeListener.run();
+        }
+    }
+
+    /**
+     * Gets an immutable snapshot of the permissions and options of this data,
+     * compiling a new one if the data changed since the last snapshot.
+     *
+     * @return The compiled data
+     */
+    CompiledSubjectData getCompiledData() {
+        // Read the modification count first, a snapshot racing with a change is recompiled on the next lookup
+        final int modifications = this.modifications.get();
+        CompiledSubjectData compiledData = this.compiledData;
+        if (compiledData == null || compiledData.modifications != modifications) {
+            compiledData = new CompiledSubjectData(modifications, getAllPermissions(), getAllOptions());
+            this.compiledData = compiledData;
+        }
+        return compiledData;
+    }
+
+    private CompletableFuture<Boolean> notifyChanged(CompletableFuture<Boolean> result) {
+        notifyChanged();
+        return result;
+    }
 
     @Override
     public Map<Set<Context>, List<SubjectReference>> getAllParents() {
@@ -55,18 +105,12 @@ public Map<Set<Context>, List<SubjectReference>> getAllParents() {
 
     @Override
     public CompletableFuture<Boolean> setPermission(Set<Context> contexts, String permission, Tristate value) {
-        if (!contexts.isEmpty()) {
-            return CompletableFuture.completedFuture(false);
-        }
-        return super.setPermission(contexts, permission, value);
+        return notifyChanged(super.setPermission(contexts, permission, value));
     }
 
     @Override
     public CompletableFuture<Boolean> clearPermissions(Set<Context> contexts) {
-        if (!contexts.isEmpty()) {
-            return CompletableFuture.completedFuture(false);
-        }
-        return super.clearPermissions(contexts);
+        return notifyChanged(super.clearPermissions(contexts));
     }
 
     @Override
@@ -74,7 +118,7 @@ public CompletableFuture<Boolean> addParent(Set<Context> contexts, SubjectRefere
         if (!contexts.isEmpty()) {
             return CompletableFuture.completedFuture(false);
         }
-        return super.addParent(contexts, parent);
+        return notifyChanged(super.addParent(contexts, parent));
     }
 
     @Override
@@ -82,7 +126,7 @@ public CompletableFuture<Boolean> removeParent(Set<Context> contexts, SubjectRef
         if (!contexts.isEmpty()) {
             return CompletableFuture.completedFuture(false);
         }
-        return super.removeParent(contexts, parent);
+        return notifyChanged(super.removeParent(contexts, parent));
     }
 
     @Override
@@ -90,6 +134,31 @@ public CompletableFuture<Boolean> clearParents(Set<Context> contexts) {
         if (!contexts.isEmpty()) {
             return CompletableFuture.completedFuture(false);
         }
-        return super.clearParents(contexts);
+        return notifyChanged(super.clearParents(contexts));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> clearPermissions() {
+        return notifyChanged(super.clearPermissions());
+    }
+
+    @Override
+    public CompletableFuture<Boolean> clearParents() {
+        return notifyChanged(super.clearParents());
+    }
+
+    @Override
+    public CompletableFuture<Boolean> setOption(Set<Context> contexts, String key, @Nullable String value) {
+        return notifyChanged(super.setOption(contexts, key, value));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> clearOptions(Set<Context> contexts) {
+        return notifyChanged(super.clearOptions(contexts));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> clearOptions() {
+        return notifyChanged(super.clearOptions());
     }
 }
@@ -24,6 +24,8 @@
  */
 package org.spongepowered.common.service.permission.base;
 
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.service.context.Context;
 import org.spongepowered.api.service.permission.MemorySubjectData;
 import org.spongepowered.api.service.permission.PermissionService;
@@ -31,13 +33,23 @@
 import org.spongepowered.api.service.permission.SubjectData;
 import org.spongepowered.api.service.permission.SubjectReference;
 import org.spongepowered.api.util.Tristate;
+import org.spongepowered.api.world.Locatable;
+import org.spongepowered.api.world.World;
+import org.spongepowered.common.service.permission.SpongePermissionService;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
 
 public abstract class SpongeBaseSubject implements Subject {
 
+    @Nullable private volatile ResolvedValues resolvedValues;
+    @Nullable private volatile ActiveContexts activeContexts;
+
     public abstract PermissionService getService();
 
     @Override
@@ -60,15 +72,76 @@ public boolean hasPermission(Set<Context> contexts, String permission) {
 
     @Override
     public Tristate getPermissionValue(Set<Context> contexts, String permission) {
-        return getDataPermissionValue(getTransientSubjectData(), permission);
+        final ResolvedValues resolved = getResolvedValues();
+        if (resolved == null) {
+            return resolvePermissionValue(contexts, permission);
+        }
+        final SpongePermissionService service = (SpongePermissionService) getService();
+        final ConcurrentMap<String, Tristate> permissions = resolved.getPermissions(contexts);
+        Tristate value = permissions.get(permission);
+        if (value == null) {
+            service.recordPermissionCacheMiss();
+            value = resolvePermissionValue(contexts, permission);
+            permissions.put(permission, value);
+        } else {
+            service.recordPermissionCacheHit();
+        }
+        return value;
+    }
+
+    /**
+     * Resolves the value of a permission, including inherited parents and
+     * defaults, bypassing the cache.
+     *
+     * @param contexts The contexts to resolve the permission in
+     * @param permission The permission
+     * @return The resolved value
+     */
+    protected Tristate resolvePermissionValue(Set<Context> contexts, String permission) {
+        return getDataPermissionValue(getTransientSubjectData(), contexts, permission);
+    }
+
+    /**
+     * Gets whether all subject data this subject resolves its permissions and
+     * options from, including those of its parents and defaults, notifies the
+     * {@link SpongePermissionService} of its changes. Only then resolved
+     * values can be cached.
+     *
+     * @return True if resolved values may be cached
+     */
+    protected boolean isResolvedValueCacheable() {
+        return false;
+    }
+
+    @Nullable
+    private ResolvedValues getResolvedValues() {
+        if (!isResolvedValueCacheable() || !(getService() instanceof SpongePermissionService)) {
+            return null;
+        }
+        // Read the version before resolving anything, values resolved while the data changes end up in a stale cache
+        final long version = ((SpongePermissionService) getService()).getSubjectDataVersion();
+        ResolvedValues resolved = this.resolvedValues;
+        if (resolved == null || resolved.version != version) {
+            resolved = new ResolvedValues(version);
+            this.resolvedValues = resolved;
+        }
+        return resolved;
     }
 
-    protected Tristate getDataPermissionValue(MemorySubjectData subject, String permission) {
-        Tristate res = subject.getNodeTree(SubjectData.GLOBAL_CONTEXT).get(permission);
+    protected Tristate getDataPermissionValue(MemorySubjectData subject, Set<Context> contexts, String permission) {
+        Tristate res;
+        if (subject instanceof GlobalMemorySubjectData) {
+            res = ((GlobalMemorySubjectData) subject).getCompiledData().getPermissionValue(contexts, permission);
+        } else {
+            res = subject.getNodeTree(contexts).get(permission);
+            if (res == Tristate.UNDEFINED && !contexts.isEmpty()) {
+                res = subject.getNodeTree(SubjectData.GLOBAL_CONTEXT).get(permission);
+            }
+        }
 
         if (res == Tristate.UNDEFINED) {
             for (SubjectReference parent : subject.getParents(SubjectData.GLOBAL_CONTEXT)) {
-                res = parent.resolve().join().getPermissionValue(SubjectData.GLOBAL_CONTEXT, permission);
+                res = parent.resolve().join().getPermissionValue(contexts, permission);
                 if (res != Tristate.UNDEFINED) {
                     return res;
                 }
@@ -88,12 +161,20 @@ public List<SubjectReference> getParents(Set<Context> contexts) {
         return getSubjectData().getParents(contexts);
     }
 
-    protected Optional<String> getDataOptionValue(MemorySubjectData subject, String option) {
-        Optional<String> res = Optional.ofNullable(subject.getOptions(SubjectData.GLOBAL_CONTEXT).get(option));
+    protected Optional<String> getDataOptionValue(MemorySubjectData subject, Set<Context> contexts, String option) {
+        Optional<String> res;
+        if (subject instanceof GlobalMemorySubjectData) {
+            res = Optional.ofNullable(((GlobalMemorySubjectData) subject).getCompiledData().getOption(contexts, option));
+        } else {
+            res = Optional.ofNullable(subject.getOptions(contexts).get(option));
+            if (!res.isPresent() && !contexts.isEmpty()) {
+                res = Optional.ofNullable(subject.getOptions(SubjectData.GLOBAL_CONTEXT).get(option));
+            }
+        }
 
         if (!res.isPresent()) {
             for (SubjectReference parent : subject.getParents(SubjectData.GLOBAL_CONTEXT)) {
-                res = parent.resolve().join().getOption(SubjectData.GLOBAL_CONTEXT, option);
+                res = parent.resolve().join().getOption(contexts, option);
                 if (res.isPresent()) {
                     return res;
                 }
@@ -105,11 +186,112 @@ protected Optional<String> getDataOptionValue(MemorySubjectData subject, String
 
     @Override
     public Optional<String> getOption(Set<Context> contexts, String key) {
-        return getDataOptionValue(getTransientSubjectData(), key);
+        final ResolvedValues resolved = getResolvedValues();
+        if (resolved == null) {
+            return resolveOption(contexts, key);
+        }
+        final SpongePermissionService service = (SpongePermissionService) getService();
+        final ConcurrentMap<String, Optional<String>> options = resolved.getOptions(contexts);
+        Optional<String> value = options.get(key);
+        if (value == null) {
+            service.recordPermissionCacheMiss();
+            value = resolveOption(contexts, key);
+            options.put(key, value);
+        } else {
+            service.recordPermissionCacheHit();
+        }
+        return value;
+    }
+
+    /**
+     * Resolves the value of an option, including inherited parents and
+     * defaults, bypassing the cache.
+     *
+     * @param contexts The contexts to resolve the option in
+     * @param key The option key
+     * @return The resolved value
+     */
+    protected Optional<String> resolveOption(Set<Context> contexts, String key) {
+        return getDataOptionValue(getTransientSubjectData(), contexts, key);
     }
 
     @Override
     public Set<Context> getActiveContexts() {
-        return SubjectData.GLOBAL_CONTEXT;
+        final PermissionService service = getService();
+        if (!(service instanceof SpongePermissionService)) {
+            return SubjectData.GLOBAL_CONTEXT;
+        }
+        final SpongePermissionService spongeService = (SpongePermissionService) service;
+        final long version = spongeService.getActiveContextsVersion();
+        if (version < 0) {
+            return spongeService.getActiveContexts(this);
+        }
+        // Logging in again creates a new command source, moving to another world changes its world
+        final CommandSource source = getCommandSource().orElse(null);
+        final World world = source instanceof Locatable ? ((Locatable) source).getWorld() : null;
+        ActiveContexts active = this.activeContexts;
+        if (active == null || active.version != version || active.source != source || active.world != world) {
+            active = new ActiveContexts(version, source, world, spongeService.getActiveContexts(this));
+            this.activeContexts = active;
+        }
+        return active.contexts;
+    }
+
+    private static final class ActiveContexts {
+
+        final long version;
+        @Nullable final CommandSource source;
+        @Nullable final World world;
+        final Set<Context> contexts;
+
+        ActiveContexts(long version, @Nullable CommandSource source, @Nullable World world, Set<Context> contexts) {
+            this.version = version;
+            this.source = source;
+            this.world = world;
+            this.contexts = contexts;
+        }
+    }
+
+    /**
+     * The permission and option values resolved so far. Both the amount of
+     * context sets and the amount of values per context set are bounded,
+     * the values of a context set are dropped once they grow too large.
+     */
+    private static final class ResolvedValues {
+
+        // Subjects are mostly checked in their active contexts, only a few sets are worth keeping
+        private static final int MAX_CONTEXT_SETS = 8;
+        private static final int MAX_VALUES_PER_CONTEXT_SET = 4096;
+
+        final long version;
+        private final ConcurrentMap<Set<Context>, ConcurrentMap<String, Tristate>> permissions = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Set<Context>, ConcurrentMap<String, Optional<String>>> options = new ConcurrentHashMap<>();
+
+        ResolvedValues(long version) {
+            this.version = version;
+        }
+
+        ConcurrentMap<String, Tristate> getPermissions(Set<Context> contexts) {
+            return getValues(this.permissions, contexts);
+        }
+
+        ConcurrentMap<String, Optional<String>> getOptions(Set<Context> contexts) {
+            return getValues(this.options, contexts);
+        }
+
+        private static <V> ConcurrentMap<String, V> getValues(ConcurrentMap<Set<Context>, ConcurrentMap<String, V>> byContexts,
+                Set<Context> contexts) {
+            ConcurrentMap<String, V> values = byContexts.get(contexts);
+            if (values == null) {
+                if (byContexts.size() >= MAX_CONTEXT_SETS) {
+                    byContexts.clear();
+                }
+                // The passed contexts may be mutated by the caller later on
+                values = byContexts.computeIfAbsent(ImmutableSet.copyOf(contexts), key -> new ConcurrentHashMap<>());
+            } else if (values.size() >= MAX_VALUES_PER_CONTEXT_SET) {
+                values.clear();
+            }
+            return values;
+        }
     }
 }
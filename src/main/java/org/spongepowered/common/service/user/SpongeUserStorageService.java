@@ -38,6 +38,7 @@
 import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 public class SpongeUserStorageService implements UserStorageService {
@@ -66,6 +67,47 @@ public Optional<User> get(String lastKnownName) {
         return Optional.ofNullable(UserDiscoverer.findByUsername(lastKnownName));
     }
 
+    /**
+     * Gets the user with the given unique id without blocking on the
+     * profile lookup. The returned future completes on the main thread.
+     *
+     * @param uniqueId The unique id
+     * @return The future user
+     */
+    public CompletableFuture<Optional<User>> getAsync(UUID uniqueId) {
+        checkState(Sponge.isServerAvailable(), "Server is not available!");
+        return UserDiscoverer.findByUniqueIdAsync(checkNotNull(uniqueId, "uniqueId"));
+    }
+
+    /**
+     * Gets the user with the given last known name without blocking on the
+     * profile lookup. Lookups for unknown names are remembered for a while,
+     * and concurrent lookups of the same name are shared. The returned
+     * future completes on the main thread.
+     *
+     * @param lastKnownName The last known name
+     * @return The future user
+     */
+    public CompletableFuture<Optional<User>> getAsync(String lastKnownName) {
+        checkNotNull(lastKnownName, "lastKnownName");
+        checkArgument(lastKnownName.length() > 0 && lastKnownName.length() <= 16, "Invalid username %s", lastKnownName);
+        checkState(Sponge.isServerAvailable(), "Server is not available!");
+        return UserDiscoverer.findByUsernameAsync(lastKnownName);
+    }
+
+    /**
+     * Loads the stored data of the given users in the background, so
+     * iterating over many offline users doesn't read their player data
+     * files on the main thread one by one.
+     *
+     * @param uniqueIds The unique ids of the users
+     * @return The future which completes once all users are loaded
+     */
+    public CompletableFuture<Void> prefetch(Iterable<UUID> uniqueIds) {
+        checkState(Sponge.isServerAvailable(), "Server is not available!");
+        return UserDiscoverer.prefetch(checkNotNull(uniqueIds, "uniqueIds"));
+    }
+
     @Override
     public Optional<User> get(GameProfile profile) {
         return Optional.ofNullable(UserDiscoverer.findByProfile(profile));
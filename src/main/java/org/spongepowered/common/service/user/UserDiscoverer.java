@@ -32,6 +32,7 @@
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.mojang.authlib.GameProfile;
 import net.minecraft.server.management.PlayerList;
 import net.minecraft.server.management.PlayerProfileCache;
@@ -46,6 +47,7 @@
 import org.spongepowered.api.profile.GameProfileCache;
 import org.spongepowered.api.profile.ProfileNotFoundException;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.bridge.entity.player.EntityPlayerMPBridge;
 import org.spongepowered.common.bridge.world.storage.SaveHandlerBridge;
 import org.spongepowered.common.entity.player.SpongeUser;
@@ -56,6 +58,7 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
@@ -64,15 +67,21 @@
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
@@ -80,17 +89,24 @@
 
 class UserDiscoverer {
 
-    private static final Map<String, MutableWatchEvent> updateCache = new HashMap<>();
-    private static final Set<UUID> detectedStoredUUIDs = new HashSet<>();
+    // How long the absence of a user is remembered before it's checked again
+    private static final long NON_EXISTENT_USER_TTL_MINUTES = 10;
+
+    // The UUIDs of all stored player data files, kept up to date by the filesystem watcher thread
+    private static volatile Set<UUID> detectedStoredUUIDs = ConcurrentHashMap.newKeySet();
     private static final Pattern DAT_FILENAME_SUFFIX = Pattern.compile("\\.dat$");
 
     @Nullable private static WatchService filesystemWatchService = null;
     @Nullable private static WatchKey watchKey = null;
 
-    // Used to ensure that race conditions aren't hit when doing the filesystem checks
+    // Used to ensure that race conditions aren't hit when (re)starting the filesystem watcher
     private static final Object lockingObject = new Object();
     private static boolean hasInitBeenStarted = false;
-    private static boolean scanningIO = true;
+    private static volatile boolean scanningIO = true;
+
+    // Lower cased username -> lookup in progress, so concurrent requests for the same name share a lookup
+    private static final ConcurrentMap<String, CompletableFuture<Optional<User>>> pendingLookups = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<UUID, CompletableFuture<Optional<User>>> pendingUniqueIdLookups = new ConcurrentHashMap<>();
 
     // This is inherently tied to the user cache, so we use its removal listener to remove entries here.
     // Note that this cache is intended for _stored_ user data, while the GameProfileCache might contain
@@ -126,7 +142,19 @@ class UserDiscoverer {
 
 
     // If a user doesn't exist, we should not put it into the cache, instead, we track it here.
-    private static final Set<UUID> nonExistentUsers = new HashSet<>();
+    private static final Cache<UUID, Boolean> nonExistentUsers = CacheBuilder.newBuilder()
+            .expireAfterWrite(NON_EXISTENT_USER_TTL_MINUTES, TimeUnit.MINUTES)
+            .build();
+
+    // Lower cased usernames which the profile manager couldn't resolve
+    private static final Cache<String, Boolean> nonExistentUsernames = CacheBuilder.newBuilder()
+            .expireAfterWrite(NON_EXISTENT_USER_TTL_MINUTES, TimeUnit.MINUTES)
+            .build();
+
+    // Unique ids which the profile manager couldn't resolve
+    private static final Cache<UUID, Boolean> nonExistentProfileIds = CacheBuilder.newBuilder()
+            .expireAfterWrite(NON_EXISTENT_USER_TTL_MINUTES, TimeUnit.MINUTES)
+            .build();
 
     static User create(final GameProfile profile) {
         User user = (User) new SpongeUser(profile);
@@ -165,7 +193,7 @@ static User findByProfile(final org.spongepowered.api.profile.GameProfile profil
         }
         user = getOnlinePlayer(uniqueId);
         if (user != null) {
-            nonExistentUsers.remove(profile.getUniqueId());
+            nonExistentUsers.invalidate(profile.getUniqueId());
             return user;
         }
         user = getFromStoredData(profile);
@@ -182,30 +210,180 @@ static User findByProfile(final org.spongepowered.api.profile.GameProfile profil
 
     @Nullable
     static User findByUsername(final String username) {
+        final Optional<User> cached = findCachedByUsername(username);
+        if (cached != null) {
+            return cached.orElse(null);
+        }
+
+        // check username cache
+        final org.spongepowered.api.profile.GameProfile profile;
+        try {
+            profile = Sponge.getServer().getGameProfileManager().get(username).get();
+        } catch (InterruptedException e) {
+            throw new RuntimeException("Interrupted while looking up username " + username, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ProfileNotFoundException) {
+                nonExistentUsernames.put(username.toLowerCase(Locale.ROOT), Boolean.TRUE);
+                return null;
+            }
+            throw new RuntimeException("Exception while looking up username " + username, e);
+        }
+        return UserDiscoverer.findByProfile(profile);
+    }
+
+    /**
+     * Looks up a user by its last known name without blocking the calling
+     * thread. Cached users are resolved right away, everything else is
+     * resolved through the profile manager on Sponge's internal asynchronous
+     * pool. The future completes on the main thread.
+     *
+     * @param username The username
+     * @return The future user
+     */
+    static CompletableFuture<Optional<User>> findByUsernameAsync(final String username) {
+        final Executor mainThread = SpongeImpl.getScheduler().createSyncExecutor(SpongeImpl.getPlugin());
+        if (!SpongeImplHooks.isMainThread()) {
+            // The caches may only be touched from the main thread
+            return CompletableFuture.supplyAsync(() -> findByUsernameAsync(username), mainThread).thenCompose(future -> future);
+        }
+        final Optional<User> cached = findCachedByUsername(username);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        final String lowerCaseName = username.toLowerCase(Locale.ROOT);
+        return pendingLookups.computeIfAbsent(lowerCaseName, name -> {
+            final CompletableFuture<Optional<User>> future = SpongeImpl.getScheduler()
+                    .submitAsyncTask(() -> lookupProfile(username))
+                    .thenApplyAsync(profile -> {
+                        pendingLookups.remove(name);
+                        if (profile == null) {
+                            nonExistentUsernames.put(name, Boolean.TRUE);
+                            return Optional.empty();
+                        }
+                        return Optional.ofNullable(findByProfile(profile));
+                    }, mainThread);
+            future.whenComplete((user, throwable) -> {
+                if (throwable != null) {
+                    pendingLookups.remove(name, future);
+                }
+            });
+            return future;
+        });
+    }
+
+    /**
+     * Looks up a user by its unique id without blocking the calling thread.
+     * Like {@link #findByUsernameAsync(String)}, concurrent requests for the
+     * same unique id share a lookup and unknown profiles are remembered for
+     * a while. The future completes on the main thread.
+     *
+     * @param uniqueId The unique id
+     * @return The future user
+     */
+    static CompletableFuture<Optional<User>> findByUniqueIdAsync(final UUID uniqueId) {
+        final Executor mainThread = SpongeImpl.getScheduler().createSyncExecutor(SpongeImpl.getPlugin());
+        if (!SpongeImplHooks.isMainThread()) {
+            // The caches may only be touched from the main thread
+            return CompletableFuture.supplyAsync(() -> findByUniqueIdAsync(uniqueId), mainThread).thenCompose(future -> future);
+        }
+        final User cached = userCache.getIfPresent(uniqueId);
+        if (cached != null && cached.getName() != null) {
+            return CompletableFuture.completedFuture(Optional.of(cached));
+        }
+        if (nonExistentProfileIds.getIfPresent(uniqueId) != null) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return pendingUniqueIdLookups.computeIfAbsent(uniqueId, id -> {
+            final CompletableFuture<Optional<User>> future = SpongeImpl.getScheduler()
+                    .submitAsyncTask(() -> lookupProfile(id))
+                    .thenApplyAsync(profile -> {
+                        pendingUniqueIdLookups.remove(id);
+                        if (profile == null) {
+                            nonExistentProfileIds.put(id, Boolean.TRUE);
+                            return Optional.empty();
+                        }
+                        return Optional.ofNullable(findByProfile(profile));
+                    }, mainThread);
+            future.whenComplete((user, throwable) -> {
+                if (throwable != null) {
+                    pendingUniqueIdLookups.remove(id, future);
+                }
+            });
+            return future;
+        });
+    }
+
+    /**
+     * Resolves the users with the given unique ids and starts loading
+     * their stored data in the background, so later accesses don't have
+     * to hit the disk on the main thread. Only locally known users are
+     * considered, no profile lookups are made.
+     *
+     * @param uniqueIds The unique ids
+     * @return The future which completes once all users are loaded
+     */
+    static CompletableFuture<Void> prefetch(final Iterable<UUID> uniqueIds) {
+        if (!SpongeImplHooks.isMainThread()) {
+            final Executor mainThread = SpongeImpl.getScheduler().createSyncExecutor(SpongeImpl.getPlugin());
+            return CompletableFuture.supplyAsync(() -> prefetch(uniqueIds), mainThread).thenCompose(future -> future);
+        }
+        final PlayerProfileCache profileCache = SpongeImpl.getServer().getPlayerProfileCache();
+        final List<CompletableFuture<SpongeUser>> futures = new ArrayList<>();
+        for (UUID uniqueId : uniqueIds) {
+            GameProfile profile = profileCache.getProfileByUUID(uniqueId);
+            if (profile == null) {
+                profile = new GameProfile(uniqueId, null);
+            }
+            final User user = findByProfile((org.spongepowered.api.profile.GameProfile) profile);
+            // Online players have their data in the entity itself
+            if (user instanceof SpongeUser && !user.isOnline()) {
+                futures.add(((SpongeUser) user).initializeAsync());
+            }
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * Checks all local caches for a user with the given name.
+     *
+     * @param username The username
+     * @return The user if found, {@link Optional#empty()} if the name is known
+     *     to not exist or {@code null} if the profile manager has to be asked
+     */
+    @SuppressWarnings("OptionalAssignedToNull")
+    @Nullable
+    private static Optional<User> findCachedByUsername(final String username) {
         final User user = userByNameCache.getIfPresent(username);
         if (user != null) {
-            return user;
+            return Optional.of(user);
         }
 
         Collection<User> userCollection = caseInsensitiveUserByNameCache.get(username.toLowerCase());
         if (userCollection.size() == 1) {
-            return userCollection.iterator().next();
+            return Optional.of(userCollection.iterator().next());
         }
 
         // check mojang cache
         final PlayerProfileCache cache = SpongeImpl.getServer().getPlayerProfileCache();
         final HashSet<String> names = Sets.newHashSet(cache.getUsernames());
-        if (names.contains(username.toLowerCase(Locale.ROOT))) {
+        final String lowerCaseName = username.toLowerCase(Locale.ROOT);
+        if (names.contains(lowerCaseName)) {
             final GameProfile profile = cache.getGameProfileForUsername(username);
             if (profile != null) {
-                return findByProfile((org.spongepowered.api.profile.GameProfile) profile);
+                return Optional.ofNullable(findByProfile((org.spongepowered.api.profile.GameProfile) profile));
             }
         }
 
-        // check username cache
-        final org.spongepowered.api.profile.GameProfile profile;
+        if (nonExistentUsernames.getIfPresent(lowerCaseName) != null) {
+            return Optional.empty();
+        }
+        return null;
+    }
+
+    @Nullable
+    private static org.spongepowered.api.profile.GameProfile lookupProfile(final String username) {
         try {
-            profile = Sponge.getServer().getGameProfileManager().get(username).get();
+            return Sponge.getServer().getGameProfileManager().get(username).get();
         } catch (InterruptedException e) {
             throw new RuntimeException("Interrupted while looking up username " + username, e);
         } catch (ExecutionException e) {
@@ -214,7 +392,20 @@ static User findByUsername(final String username) {
             }
             throw new RuntimeException("Exception while looking up username " + username, e);
         }
-        return UserDiscoverer.findByProfile(profile);
+    }
+
+    @Nullable
+    private static org.spongepowered.api.profile.GameProfile lookupProfile(final UUID uniqueId) {
+        try {
+            return Sponge.getServer().getGameProfileManager().get(uniqueId).get();
+        } catch (InterruptedException e) {
+            throw new RuntimeException("Interrupted while looking up unique id " + uniqueId, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ProfileNotFoundException) {
+                return null;
+            }
+            throw new RuntimeException("Exception while looking up unique id " + uniqueId, e);
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -230,34 +421,30 @@ static Collection<org.spongepowered.api.profile.GameProfile> getAllProfiles() {
             return ((GameProfileCache) SpongeImpl.getServer().getPlayerProfileCache()).getProfiles();
         }
 
-        synchronized (lockingObject) {
-            // Add all cached profiles to a new map, we don't want to alter the current "cache" map.
-            final Map<UUID, org.spongepowered.api.profile.GameProfile> profiles = new HashMap<>(gameProfileCache);
+        // Add all cached profiles to a new map, we don't want to alter the current "cache" map.
+        final Map<UUID, org.spongepowered.api.profile.GameProfile> profiles = new HashMap<>(gameProfileCache);
 
-            // Add all known profiles from the data files
-            final PlayerProfileCache profileCache = SpongeImpl.getServer().getPlayerProfileCache();
+        // Add all known profiles from the data files, the watcher thread keeps these up to date
+        final PlayerProfileCache profileCache = SpongeImpl.getServer().getPlayerProfileCache();
+        getProfilesFromDetectedUUIDs(profileCache, profiles);
 
-            pollFilesystemWatcher();
-            getProfilesFromDetectedUUIDs(profileCache, profiles);
-
-            // Add all whitelisted users
-            // Note: as the equality check in GameProfile requires both the UUID and name to be equal, we have to filter
-            // out the game profiles by UUID only in the whitelist and ban list. If we don't, we end up with two
-            // GameProfiles with the same UUID but different names, one of which is potentially invalid. For some
-            // We assume that the cache is superior to the whitelist/banlist.
-            //
-            // See https://github.com/SpongePowered/SpongeCommon/issues/1989
-            PlayerList pl = SpongeImpl.getServer().getPlayerList();
-            addToProfiles(
-                    ((UserListAccessor<GameProfile, UserListWhitelistEntry>) pl.getWhitelistedPlayers()).accessor$getValues().values(),
-                    profiles,
-                    profileCache);
-            addToProfiles(
-                    ((UserListAccessor<GameProfile, UserListBansEntry>) pl.getBannedPlayers()).accessor$getValues().values(),
-                    profiles,
-                    profileCache);
-            return profiles.values();
-        }
+        // Add all whitelisted users
+        // Note: as the equality check in GameProfile requires both the UUID and name to be equal, we have to filter
+        // out the game profiles by UUID only in the whitelist and ban list. If we don't, we end up with two
+        // GameProfiles with the same UUID but different names, one of which is potentially invalid. For some
+        // We assume that the cache is superior to the whitelist/banlist.
+        //
+        // See https://github.com/SpongePowered/SpongeCommon/issues/1989
+        PlayerList pl = SpongeImpl.getServer().getPlayerList();
+        addToProfiles(
+                ((UserListAccessor<GameProfile, UserListWhitelistEntry>) pl.getWhitelistedPlayers()).accessor$getValues().values(),
+                profiles,
+                profileCache);
+        addToProfiles(
+                ((UserListAccessor<GameProfile, UserListBansEntry>) pl.getBannedPlayers()).accessor$getValues().values(),
+                profiles,
+                profileCache);
+        return profiles.values();
     }
 
     static void init() {
@@ -293,24 +480,24 @@ private static void startFilesystemWatchServiceTask() {
                 }
             }
 
-            detectedStoredUUIDs.clear();
-            nonExistentUsers.clear();
+            nonExistentUsers.invalidateAll();
 
             SaveHandlerBridge saveHandler = (SaveHandlerBridge) WorldManager.getWorldByDimensionId(0).get().getSaveHandler();
-            Set<UUID> uuids = getAvailablePlayerUUIDs(saveHandler.bridge$getPlayersDirectory().toPath());
-            detectedStoredUUIDs.addAll(uuids);
+            final Path playersDirectory = saveHandler.bridge$getPlayersDirectory().toPath();
 
-            // Anything we might have cached already, we should add it here,
-            // in case it's been added but not saved yet
-            detectedStoredUUIDs.addAll(userCache.asMap().keySet());
-
-            // Setup the watch service
+            // Setup the watch service, before the scan so no files get lost in between
             try {
                 filesystemWatchService = FileSystems.getDefault().newWatchService();
-                watchKey = saveHandler.bridge$getPlayersDirectory().toPath().register(
+                watchKey = playersDirectory.register(
                         filesystemWatchService,
                         StandardWatchEventKinds.ENTRY_CREATE,
                         StandardWatchEventKinds.ENTRY_DELETE);
+                rescanStoredUUIDs(playersDirectory);
+
+                final WatchService watchService = filesystemWatchService;
+                new ThreadFactoryBuilder().setNameFormat("Sponge - User Data Watcher").setDaemon(true).build()
+                        .newThread(() -> watchFilesystem(watchService, playersDirectory))
+                        .start();
                 scanningIO = false;
             } catch (IOException e) {
                 SpongeImpl.getLogger().warn("Could not start file watcher");
@@ -324,7 +511,61 @@ private static void startFilesystemWatchServiceTask() {
                 }
                 watchKey = null;
                 filesystemWatchService = null;
+                rescanStoredUUIDs(playersDirectory);
+            }
+        }
+    }
+
+    private static void rescanStoredUUIDs(Path playersDirectory) {
+        final Set<UUID> uuids = ConcurrentHashMap.newKeySet();
+        uuids.addAll(getAvailablePlayerUUIDs(playersDirectory));
+
+        // Anything we might have cached already, we should add it here,
+        // in case it's been added but not saved yet
+        uuids.addAll(userCache.asMap().keySet());
+
+        // Swapped in as a whole, so readers never see a partially updated set
+        detectedStoredUUIDs = uuids;
+    }
+
+    // Runs on its own thread, applying the changes to the player data directory as they happen
+    @SuppressWarnings("unchecked")
+    private static void watchFilesystem(WatchService watchService, Path playersDirectory) {
+        try {
+            while (true) {
+                final WatchKey key = watchService.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        // Events got lost, so the directory has to be scanned again
+                        rescanStoredUUIDs(playersDirectory);
+                        continue;
+                    }
+                    final String name = ((WatchEvent<Path>) event).context().getFileName().toString();
+                    if (!name.endsWith(".dat")) {
+                        continue;
+                    }
+                    final UUID uuid;
+                    try {
+                        uuid = UUID.fromString(name.substring(0, name.length() - 4));
+                    } catch (IllegalArgumentException ex) {
+                        // ignored, file isn't of use to us.
+                        continue;
+                    }
+                    // It will only be create or delete here.
+                    if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                        detectedStoredUUIDs.remove(uuid);
+                    } else {
+                        detectedStoredUUIDs.add(uuid);
+                        nonExistentUsers.invalidate(uuid);
+                    }
+                }
+                if (!key.reset()) {
+                    // The directory is no longer accessible, the next profile request will start a new watcher
+                    return;
+                }
             }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // The watcher got replaced or the server is shutting down
         }
     }
 
@@ -359,46 +600,6 @@ private static void getProfilesFromDetectedUUIDs(
         }
     }
 
-    private static void pollFilesystemWatcher() {
-        // We've already got the UUIDs, so we need to just see if the file system
-        // watcher has found any more (or removed any).
-        synchronized (updateCache) {
-            updateCache.clear(); // just in case
-            for (WatchEvent event : watchKey.pollEvents()) {
-                @SuppressWarnings("unchecked") WatchEvent<Path> ev = (WatchEvent<Path>) event;
-                Path file = ev.context();
-                String filename = file.getFileName().toString();
-
-                // We don't determine the UUIDs yet, we'll only do that if we need to.
-                updateCache.computeIfAbsent(filename, f -> new MutableWatchEvent()).set(ev.kind());
-            }
-
-            for (Map.Entry<String, MutableWatchEvent> entry : updateCache.entrySet()) {
-                @Nullable WatchEvent.Kind kind = entry.getValue().get();
-                if (kind != null) {
-                    String name = entry.getKey();
-                    UUID uuid;
-                    if (name.endsWith(".dat")) {
-                        try {
-                            uuid = UUID.fromString(name.substring(0, name.length() - 4));
-
-                            // It will only be create or delete here.
-                            if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
-                                detectedStoredUUIDs.add(uuid);
-                            } else {
-                                detectedStoredUUIDs.remove(uuid);
-                            }
-                        } catch (IllegalArgumentException ex) {
-                            // ignored, file isn't of use to us.
-                        }
-                    }
-                }
-            }
-
-            updateCache.clear();
-        }
-    }
-
     @SuppressWarnings("unchecked")
     private static void addToProfiles(
             final Collection<? extends UserListEntry<GameProfile>> gameProfiles,
@@ -470,7 +671,7 @@ private static User getOnlinePlayer(final UUID uniqueId) {
     @Nullable
     private static User getFromStoredData(final org.spongepowered.api.profile.GameProfile profile) {
         // if we already saw there was no stored data, then there is no stored data!
-        if (nonExistentUsers.contains(profile.getUniqueId())) {
+        if (nonExistentUsers.getIfPresent(profile.getUniqueId()) != null) {
             return null;
         }
 
@@ -478,7 +679,7 @@ private static User getFromStoredData(final org.spongepowered.api.profile.GamePr
         final File dataFile = getPlayerDataFile(profile.getUniqueId());
         if (dataFile == null) {
             // Tell the discoverer that we found nothing so we don't need to make this check in the future
-            nonExistentUsers.add(profile.getUniqueId());
+            nonExistentUsers.put(profile.getUniqueId(), Boolean.TRUE);
             return null;
         }
 
@@ -572,7 +773,8 @@ private static void createCacheEntry(User user) {
             userByNameCache.put(user.getName(), user);
             caseInsensitiveUserByNameCache.put(user.getName().toLowerCase(), user);
         }
-        nonExistentUsers.remove(user.getUniqueId());
+        nonExistentUsers.invalidate(user.getUniqueId());
+        nonExistentProfileIds.invalidate(user.getUniqueId());
     }
 
     private static void invalidateEntry(org.spongepowered.api.profile.GameProfile profile) {
@@ -588,33 +790,4 @@ private static void invalidateEntry(org.spongepowered.api.profile.GameProfile pr
         });
     }
 
-    // Used to reduce the number of calls to maps.
-    static class MutableWatchEvent {
-
-        @Nullable private WatchEvent.Kind<?> kind = null;
-
-        @Nullable
-        public WatchEvent.Kind get() {
-            return this.kind;
-        }
-
-        public void set(WatchEvent.Kind<?> kind) {
-            if (kind == StandardWatchEventKinds.ENTRY_MODIFY) {
-                // This should never happen, we don't listen to this.
-                // However, if it does, treat it as a create, because it
-                // infers the existence of the file.
-                kind = StandardWatchEventKinds.ENTRY_CREATE;
-            }
-
-            if (kind == StandardWatchEventKinds.ENTRY_CREATE || kind == StandardWatchEventKinds.ENTRY_DELETE) {
-                if (this.kind != null && this.kind != kind) {
-                    this.kind = null;
-                } else {
-                    this.kind = kind;
-                }
-            }
-        }
-
-    }
-
 }
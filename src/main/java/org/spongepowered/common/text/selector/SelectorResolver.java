@@ -29,6 +29,7 @@
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.collect.ImmutableSet;
+import net.minecraft.util.math.AxisAlignedBB;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.data.manipulator.mutable.DisplayNameData;
@@ -58,6 +59,7 @@
 import org.spongepowered.api.world.Locatable;
 import org.spongepowered.api.world.extent.Extent;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.bridge.world.WorldServerBridge;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -333,7 +335,7 @@ public ImmutableSet<Entity> resolve() {
         maxToSelect = Math.abs(maxToSelect);
         Set<? extends Extent> extents = getExtentSet();
         Stream<Entity> entityStream = extents.stream()
-                .flatMap(ext -> ext.getEntities().stream())
+                .flatMap(this::getCandidates)
                 .filter(this.selectorFilter);
 
         if (maxToSelect == 0) {
@@ -354,6 +356,23 @@ public ImmutableSet<Entity> resolve() {
                 .collect(ImmutableSet.toImmutableSet());
     }
 
+    private Stream<Entity> getCandidates(Extent extent) {
+        Optional<Integer> radiusMax = this.selector.get(ArgumentTypes.RADIUS.maximum());
+        if (!radiusMax.isPresent() || !(extent instanceof WorldServerBridge)) {
+            return extent.getEntities().stream();
+        }
+        // Only entities within the cube around the maximum radius can pass the radius filter,
+        // grown by a block as an entity positioned on its edge has a box just outside of it
+        Vector3d position = getPositionOrDefault(this.position, ArgumentTypes.POSITION);
+        double radMax = Math.max(radiusMax.get(), 1.0E-4D) + 1.0D;
+        AxisAlignedBB box = new AxisAlignedBB(position.getX() - radMax, position.getY() - radMax, position.getZ() - radMax,
+                position.getX() + radMax, position.getY() + radMax, position.getZ() + radMax);
+        List<Entity> candidates = new ArrayList<>();
+        ((WorldServerBridge) extent).bridge$forEachEntityWithinAABB(net.minecraft.entity.Entity.class, box,
+                entity -> candidates.add((Entity) entity));
+        return candidates.stream();
+    }
+
     private Comparator<? super Entity> distanceSort(boolean isReversed) {
         Vector3d position = getPositionOrDefault(this.position, ArgumentTypes.POSITION);
         int multiplier = isReversed ? -1 : 1;
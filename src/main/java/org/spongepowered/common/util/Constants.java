@@ -147,7 +147,14 @@ public static final class Sponge {
         public static final DataQuery SPONGE_ROOT = of(SPONGE_DATA);
         public static final String SPONGE_ENTITY_CREATOR = "Creator";
         public static final String SPONGE_ENTITY_NOTIFIER = "Notifier";
-        public static final String SPONGE_BLOCK_POS_TABLE = "BlockPosTable";
+        @Deprecated public static final String SPONGE_BLOCK_POS_TABLE = "BlockPosTable"; // Only read to migrate old chunks
+        // Parallel arrays of the tracked block positions of a chunk
+        public static final String SPONGE_TRACKED_SHORT_POSITIONS = "TrackedShortPositions";
+        public static final String SPONGE_TRACKED_SHORT_OWNERS = "TrackedShortOwners";
+        public static final String SPONGE_TRACKED_SHORT_NOTIFIERS = "TrackedShortNotifiers";
+        public static final String SPONGE_TRACKED_INT_POSITIONS = "TrackedIntPositions";
+        public static final String SPONGE_TRACKED_INT_OWNERS = "TrackedIntOwners";
+        public static final String SPONGE_TRACKED_INT_NOTIFIERS = "TrackedIntNotifiers";
         public static final String SPONGE_PLAYER_UUID_TABLE = "PlayerIdTable";
         public static final String CUSTOM_MANIPULATOR_TAG_LIST = "CustomManipulators";
         public static final DataQuery CUSTOM_MANIPULATOR_LIST = of(CUSTOM_MANIPULATOR_TAG_LIST);
@@ -26,10 +26,14 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
-import java.lang.reflect.Type;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -38,13 +42,11 @@
 
 import org.spongepowered.common.SpongeImpl;
 import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
-import com.google.common.io.Files;
-import com.google.common.reflect.TypeToken;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
 /**
  * Caches player's last known usernames
@@ -64,14 +66,15 @@ public final class SpongeUsernameCache {
 
     // Thread-safe map
     private static Map<UUID, String> map = new ConcurrentHashMap<>();
+    // Lower cased username -> uuids that have it, most recently set last, kept in sync with the map above
+    private static Map<String, ImmutableList<UUID>> nameIndex = new ConcurrentHashMap<>();
 
     private static final Charset charset = Charsets.UTF_8;
 
     private static File saveFile = new File(".", "usernamecache.json");
-    private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
 
-    private static boolean loaded = false;
-    private static boolean dirty = false;
+    private static volatile boolean loaded = false;
+    private static volatile boolean dirty = false;
 
     /**
      * Internal method used to set the proper server directory when it's available
@@ -105,11 +108,15 @@ public static void setUsername(UUID uuid, String username) {
             load();
         }
 
-        if (username.equals(map.get(uuid))) {
+        final String previous = map.put(uuid, username);
+        if (username.equals(previous)) {
             return;
         }
 
-        map.put(uuid, username);
+        if (previous != null) {
+            unindex(nameIndex, uuid, previous);
+        }
+        index(nameIndex, uuid, username);
         dirty = true;
     }
 
@@ -126,7 +133,9 @@ public static boolean removeUsername(UUID uuid) {
             load();
         }
 
-        if (map.remove(uuid) != null) {
+        final String previous = map.remove(uuid);
+        if (previous != null) {
+            unindex(nameIndex, uuid, previous);
             dirty = true;
             return true;
         }
@@ -171,13 +180,8 @@ public static UUID getLastKnownUUID(String username) {
             load();
         }
 
-        for (Map.Entry<UUID, String> mapEntry : map.entrySet()) {
-            if (mapEntry.getValue().equalsIgnoreCase(username)) {
-                return mapEntry.getKey();
-            }
-        }
-
-        return null;
+        final ImmutableList<UUID> uuids = nameIndex.get(toIndexKey(username));
+        return uuids == null ? null : uuids.get(uuids.size() - 1);
     }
 
     /**
@@ -221,11 +225,24 @@ public static void save() {
             return;
         }
 
+        // Entries changed while writing will mark the cache dirty again
+        dirty = false;
+        // The entries are streamed to a temporary file which then replaces the
+        // old one, the map is never serialized into a string as a whole
+        final File tempFile = new File(saveFile.getParentFile(), saveFile.getName() + ".tmp");
         try {
-            // Make sure we don't save when another thread is still saving
-            Files.write(gson.toJson(map), saveFile, charset);
-            dirty = false;
+            try (BufferedWriter out = Files.newBufferedWriter(tempFile.toPath(), charset);
+                 JsonWriter writer = new JsonWriter(out)) {
+                writer.setIndent("  ");
+                writer.beginObject();
+                for (Map.Entry<UUID, String> entry : map.entrySet()) {
+                    writer.name(entry.getKey().toString()).value(entry.getValue());
+                }
+                writer.endObject();
+            }
+            Files.move(tempFile.toPath(), saveFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
         } catch (IOException e) {
+            dirty = true;
             SpongeImpl.getLogger().error("Failed to save username cache to file!", e);
         }
     }
@@ -237,23 +254,64 @@ public static void load() {
         loaded = true;
         if (!saveFile.exists()) return;
 
-        try {
-
-            String json = Files.toString(saveFile, charset);
-            Type type = new TypeToken<Map<UUID, String>>() { private static final long serialVersionUID = 1L; }.getType();
-
-            map = gson.fromJson(json, type);
-        } catch (JsonSyntaxException e) {
+        final Map<UUID, String> loadedMap = new ConcurrentHashMap<>();
+        final Map<String, ImmutableList<UUID>> loadedIndex = new ConcurrentHashMap<>();
+        try (BufferedReader in = Files.newBufferedReader(saveFile.toPath(), charset);
+             JsonReader reader = new JsonReader(in)) {
+            // An empty file is treated as an empty cache
+            if (reader.peek() != JsonToken.END_DOCUMENT) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    final UUID uuid = UUID.fromString(reader.nextName());
+                    final String username = reader.nextString();
+                    final String previous = loadedMap.put(uuid, username);
+                    if (previous != null) {
+                        unindex(loadedIndex, uuid, previous);
+                    }
+                    index(loadedIndex, uuid, username);
+                }
+                reader.endObject();
+            }
+        } catch (IllegalArgumentException | IllegalStateException e) {
             SpongeImpl.getLogger().error("Could not parse username cache file as valid json, deleting file", e);
             saveFile.delete();
+            return;
         } catch (IOException e) {
             SpongeImpl.getLogger().error("Failed to read username cache file from disk, deleting file", e);
             saveFile.delete();
-        } finally {
-            // Can sometimes occur when the json file is malformed
-            if (map == null) {
-                map = Maps.newHashMap();
+            return;
+        }
+        map = loadedMap;
+        nameIndex = loadedIndex;
+    }
+
+    private static String toIndexKey(String username) {
+        return username.toLowerCase(Locale.ENGLISH);
+    }
+
+    private static void index(Map<String, ImmutableList<UUID>> index, UUID uuid, String username) {
+        // Usernames can be reused by other players, the most recent one is looked up
+        index.compute(toIndexKey(username), (key, uuids) -> uuids == null ? ImmutableList.of(uuid)
+                : ImmutableList.<UUID>builder().addAll(without(uuids, uuid)).add(uuid).build());
+    }
+
+    private static void unindex(Map<String, ImmutableList<UUID>> index, UUID uuid, String username) {
+        index.computeIfPresent(toIndexKey(username), (key, uuids) -> {
+            final ImmutableList<UUID> remaining = without(uuids, uuid);
+            return remaining.isEmpty() ? null : remaining;
+        });
+    }
+
+    private static ImmutableList<UUID> without(ImmutableList<UUID> uuids, UUID uuid) {
+        if (!uuids.contains(uuid)) {
+            return uuids;
+        }
+        final ImmutableList.Builder<UUID> builder = ImmutableList.builder();
+        for (UUID existing : uuids) {
+            if (!existing.equals(uuid)) {
+                builder.add(existing);
             }
         }
+        return builder.build();
     }
 }
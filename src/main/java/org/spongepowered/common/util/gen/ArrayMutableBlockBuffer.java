@@ -142,6 +142,46 @@ public boolean setBlock(int x, int y, int z, BlockState block) {
         return true;
     }
 
+    /**
+     * Sets all blocks of the given box, the blocks are ordered by z, y and
+     * then x. They are written in the order of the backing data, which is
+     * by x, z and then y, and runs of the same block state skip the palette
+     * lookup.
+     *
+     * @param xMin The lowest x coordinate
+     * @param yMin The lowest y coordinate
+     * @param zMin The lowest z coordinate
+     * @param xMax The highest x coordinate
+     * @param yMax The highest y coordinate
+     * @param zMax The highest z coordinate
+     * @param blocks The blocks
+     */
+    public void setBlocks(int xMin, int yMin, int zMin, int xMax, int yMax, int zMax, BlockState[] blocks) {
+        checkRange(xMin, yMin, zMin);
+        checkRange(xMax, yMax, zMax);
+        final int xSize = xMax - xMin + 1;
+        final int zyStride = (yMax - yMin + 1) * xSize;
+        BlockState last = null;
+        int lastId = 0;
+        for (int x = xMin; x <= xMax; x++) {
+            for (int z = zMin; z <= zMax; z++) {
+                int i = (z - zMin) * zyStride + (x - xMin);
+                int index = getIndex(x, yMin, z);
+                for (int y = yMin; y <= yMax; y++, i += xSize, index++) {
+                    final BlockState block = blocks[i];
+                    if (block == last) {
+                        this.data.set(index, lastId);
+                        continue;
+                    }
+                    // Setting a new state may grow or replace the palette, so the id is read back afterwards
+                    setBlock(x, y, z, block);
+                    last = block;
+                    lastId = this.data.get(index);
+                }
+            }
+        }
+    }
+
     @Override
     public BlockState getBlock(int x, int y, int z) {
         checkRange(x, y, z);
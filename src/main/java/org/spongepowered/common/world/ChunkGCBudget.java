@@ -0,0 +1,172 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import net.minecraft.server.MinecraftServer;
+import org.spongepowered.common.SpongeImpl;
+
+/**
+ * The time budget shared by the chunk GC scan and chunk unloading of a
+ * single world, along with the metrics of both.
+ *
+ * <p>The budget of a tick shrinks as the mean tick time of the server
+ * approaches the target tick time, down to a tenth of the configured
+ * maximum, so leaked chunks are still collected on a busy server. Only
+ * accessed from the main thread.</p>
+ */
+public final class ChunkGCBudget {
+
+    private static final double MIN_BUDGET_FRACTION = 0.1;
+
+    private long maxNanos;
+    private long targetTickNanos;
+
+    private int currentTick = -1;
+    private long tickBudgetNanos;
+    private long tickUsedNanos;
+
+    private long chunksScanned;
+    private long chunksQueued;
+    private long chunksUnloaded;
+    private long deferrals;
+    private long nanosSpent;
+
+    public void configure(double maxMillis, double targetTickMillis) {
+        this.maxNanos = (long) (maxMillis * 1.0e6d);
+        this.targetTickNanos = (long) (targetTickMillis * 1.0e6d);
+        this.currentTick = -1;
+    }
+
+    /**
+     * Gets whether the chunk GC is limited in time at all. If not, every
+     * scan and unload runs to completion, as it did without a budget.
+     *
+     * @return Whether the budget is enabled
+     */
+    public boolean isEnabled() {
+        return this.maxNanos > 0;
+    }
+
+    /**
+     * Gets whether there is time left in the budget of the current tick.
+     *
+     * @return Whether work can be done
+     */
+    public boolean hasTimeLeft() {
+        if (!isEnabled()) {
+            return true;
+        }
+        updateTick();
+        return this.tickUsedNanos < this.tickBudgetNanos;
+    }
+
+    /**
+     * Gets whether there is time left, taking the work done since the given
+     * time into account without consuming it yet.
+     *
+     * @param startNanos The {@link System#nanoTime()} the work started at
+     * @return Whether work can be done
+     */
+    public boolean hasTimeLeft(long startNanos) {
+        if (!isEnabled()) {
+            return true;
+        }
+        updateTick();
+        return this.tickUsedNanos + (System.nanoTime() - startNanos) < this.tickBudgetNanos;
+    }
+
+    public void consume(long startNanos) {
+        final long spent = System.nanoTime() - startNanos;
+        this.nanosSpent += spent;
+        if (isEnabled()) {
+            updateTick();
+            this.tickUsedNanos += spent;
+        }
+    }
+
+    private void updateTick() {
+        final MinecraftServer server = SpongeImpl.getServer();
+        final int tick = server.getTickCounter();
+        if (tick == this.currentTick) {
+            return;
+        }
+        this.currentTick = tick;
+        this.tickUsedNanos = 0;
+        long total = 0;
+        for (long tickTime : server.tickTimeArray) {
+            total += tickTime;
+        }
+        final long headroom = this.targetTickNanos - total / server.tickTimeArray.length;
+        final long minBudget = (long) (this.maxNanos * MIN_BUDGET_FRACTION);
+        this.tickBudgetNanos = Math.max(minBudget, Math.min(this.maxNanos, headroom));
+    }
+
+    public void recordScanned(int chunks) {
+        this.chunksScanned += chunks;
+    }
+
+    public void recordQueued() {
+        this.chunksQueued++;
+    }
+
+    public void recordUnloaded(int chunks) {
+        this.chunksUnloaded += chunks;
+    }
+
+    public void recordDeferral() {
+        this.deferrals++;
+    }
+
+    public long getChunksScanned() {
+        return this.chunksScanned;
+    }
+
+    public long getChunksQueued() {
+        return this.chunksQueued;
+    }
+
+    public long getChunksUnloaded() {
+        return this.chunksUnloaded;
+    }
+
+    /**
+     * Gets the number of times a scan or unload pass was cut short because
+     * the budget of its tick ran out, the remaining work continuing in a
+     * later tick.
+     *
+     * @return The number of deferrals
+     */
+    public long getDeferrals() {
+        return this.deferrals;
+    }
+
+    public long getNanosSpent() {
+        return this.nanosSpent;
+    }
+
+    public long getTickBudgetNanos() {
+        return this.isEnabled() ? this.tickBudgetNanos : 0;
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import com.google.common.base.Predicate;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * A grid of the entities of a world in cells of 8 blocks. Used to answer
+ * bounding box queries while testing far fewer entities than the 16 block
+ * chunk sections would. A cell only holds a handful of entities, so unlike
+ * the chunk sections they are kept in a plain list and filtered by class
+ * while querying.
+ *
+ * <p>Like the chunk entity lists, an entity is placed by the position it had
+ * when it was last updated by the world. Only accessed from the main
+ * thread.</p>
+ */
+public final class EntitySpatialIndex {
+
+    private static final int CELL_SHIFT = 3;
+    private static final double CELL_SIZE = 1 << CELL_SHIFT;
+    // Entities below or above these cells are kept in the outermost ones
+    private static final int MIN_CELL_Y = -64 >> CELL_SHIFT;
+    private static final int MAX_CELL_Y = (320 >> CELL_SHIFT) - 1;
+    // Larger queries are cheaper to answer from the chunk sections
+    private static final int MAX_QUERY_CELLS = 512;
+    private static final long NO_CELL = Long.MIN_VALUE;
+    // Emptied cells are kept for reuse, as entities keep moving between cells
+    private static final int MAX_SPARE_CELLS = 1024;
+
+    private final Long2ObjectOpenHashMap<ArrayList<Entity>> cells = new Long2ObjectOpenHashMap<>();
+    private final ArrayDeque<ArrayList<Entity>> spareCells = new ArrayDeque<>();
+    private final Reference2LongOpenHashMap<Entity> entityCells = new Reference2LongOpenHashMap<>();
+
+    public EntitySpatialIndex() {
+        this.entityCells.defaultReturnValue(NO_CELL);
+    }
+
+    private static long cellKey(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    private static int cellY(double y) {
+        return MathHelper.clamp(MathHelper.floor(y / CELL_SIZE), MIN_CELL_Y, MAX_CELL_Y);
+    }
+
+    private static long cellKey(Entity entity) {
+        return cellKey(MathHelper.floor(entity.posX / CELL_SIZE), cellY(entity.posY), MathHelper.floor(entity.posZ / CELL_SIZE));
+    }
+
+    public void add(Entity entity) {
+        final long key = cellKey(entity);
+        final long previous = this.entityCells.put(entity, key);
+        if (previous == key) {
+            return;
+        }
+        if (previous != NO_CELL) {
+            removeFromCell(entity, previous);
+        }
+        ArrayList<Entity> cell = this.cells.get(key);
+        if (cell == null) {
+            cell = this.spareCells.poll();
+            if (cell == null) {
+                cell = new ArrayList<>(4);
+            }
+            this.cells.put(key, cell);
+        }
+        cell.add(entity);
+    }
+
+    /**
+     * Moves the given entity to the cell of its current position, if it is
+     * indexed at all.
+     *
+     * @param entity The entity
+     */
+    public void update(Entity entity) {
+        final long previous = this.entityCells.getLong(entity);
+        if (previous != NO_CELL && previous != cellKey(entity)) {
+            add(entity);
+        }
+    }
+
+    public void remove(Entity entity) {
+        final long previous = this.entityCells.removeLong(entity);
+        if (previous != NO_CELL) {
+            removeFromCell(entity, previous);
+        }
+    }
+
+    private void removeFromCell(Entity entity, long key) {
+        final ArrayList<Entity> cell = this.cells.get(key);
+        if (cell == null) {
+            return;
+        }
+        for (int i = cell.size() - 1; i >= 0; i--) {
+            if (cell.get(i) == entity) {
+                // Order within a cell doesn't matter, move the last entity into the gap
+                final Entity last = cell.remove(cell.size() - 1);
+                if (i < cell.size()) {
+                    cell.set(i, last);
+                }
+                break;
+            }
+        }
+        if (cell.isEmpty()) {
+            this.cells.remove(key);
+            if (this.spareCells.size() < MAX_SPARE_CELLS) {
+                this.spareCells.add(cell);
+            }
+        }
+    }
+
+    public void clear() {
+        this.cells.clear();
+        this.spareCells.clear();
+        this.entityCells.clear();
+    }
+
+    public int size() {
+        return this.entityCells.size();
+    }
+
+    /**
+     * Adds the entities of the given class whose bounding box intersects the
+     * given one to the list, the same way
+     * {@link net.minecraft.world.chunk.Chunk#getEntitiesOfTypeWithinAABB} does.
+     *
+     * @param clazz The entity class
+     * @param aabb The bounding box
+     * @param list The list to add the entities to
+     * @param filter The filter, if any
+     * @param maxEntityRadius The distance by which a bounding box may exceed
+     *     the position of its entity
+     * @param <T> The entity type
+     * @return False if the query is too large for the index, in which case
+     *     nothing was added and the chunk sections should be used instead
+     */
+    public <T extends Entity> boolean getEntitiesWithinAABB(Class<? extends T> clazz, AxisAlignedBB aabb, List<T> list,
+            @Nullable Predicate<? super T> filter, double maxEntityRadius) {
+        return visitEntitiesWithinAABB(clazz, aabb, filter, list::add, maxEntityRadius) >= 0;
+    }
+
+    /**
+     * Passes the entities of the given class whose bounding box intersects
+     * the given one to the consumer.
+     *
+     * @param clazz The entity class
+     * @param aabb The bounding box
+     * @param filter The filter, if any
+     * @param consumer The consumer, if any
+     * @param maxEntityRadius The distance by which a bounding box may exceed
+     *     the position of its entity
+     * @param <T> The entity type
+     * @return The number of matching entities, or -1 if the query is too
+     *     large for the index, in which case the chunk sections should be
+     *     used instead
+     */
+    public <T extends Entity> int visitEntitiesWithinAABB(Class<? extends T> clazz, AxisAlignedBB aabb,
+            @Nullable java.util.function.Predicate<? super T> filter, @Nullable Consumer<? super T> consumer,
+            double maxEntityRadius) {
+        final int minX = MathHelper.floor((aabb.minX - maxEntityRadius) / CELL_SIZE);
+        final int maxX = MathHelper.floor((aabb.maxX + maxEntityRadius) / CELL_SIZE);
+        final int minY = cellY(aabb.minY - maxEntityRadius);
+        final int maxY = cellY(aabb.maxY + maxEntityRadius);
+        final int minZ = MathHelper.floor((aabb.minZ - maxEntityRadius) / CELL_SIZE);
+        final int maxZ = MathHelper.floor((aabb.maxZ + maxEntityRadius) / CELL_SIZE);
+        final long cellCount = (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+        if (cellCount > MAX_QUERY_CELLS) {
+            return -1;
+        }
+        int found = 0;
+        if (this.cells.isEmpty()) {
+            return found;
+        }
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int y = minY; y <= maxY; y++) {
+                    final ArrayList<Entity> cell = this.cells.get(cellKey(x, y, z));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (int i = 0; i < cell.size(); i++) {
+                        final Entity next = cell.get(i);
+                        if (!clazz.isInstance(next)) {
+                            continue;
+                        }
+                        final T entity = clazz.cast(next);
+                        // Entities outside of loaded chunks are not in any chunk section either
+                        if (entity.addedToChunk && entity.getEntityBoundingBox().intersects(aabb)
+                                && (filter == null || filter.test(entity))) {
+                            found++;
+                            if (consumer != null) {
+                                consumer.accept(entity);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent.worker;
+
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeReducer;
+
+/**
+ * A {@link BlockVolumeReducer} which may be split across several threads.
+ * Only reducers implementing this are reduced in parallel, everything else
+ * runs on the calling thread.
+ *
+ * <p>Plugins build against the API and can't implement this, and nothing
+ * in the implementation reduces block volumes yet. Until the API offers a
+ * way to opt in, the parallel path only runs in tests.</p>
+ *
+ * <p>The contract is the same as for a parallel
+ * {@link java.util.stream.Stream#reduce} and is up to the implementation:
+ * the reducer must be thread safe and must not touch anything which is
+ * restricted to the main thread, the identity is shared between all parts
+ * and must never be mutated, and the merge function must be associative
+ * and return the other argument unchanged when given the identity.</p>
+ *
+ * @param <T> The type of the reduction
+ */
+@FunctionalInterface
+public interface ParallelBlockVolumeReducer<T> extends BlockVolumeReducer<T> {
+
+}
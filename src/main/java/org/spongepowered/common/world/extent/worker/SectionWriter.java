@@ -0,0 +1,81 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent.worker;
+
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.extent.Extent;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.common.util.gen.ArrayMutableBlockBuffer;
+
+/**
+ * Writes the results of a worker into its destination one chunk section at
+ * a time. The blocks of a section are ordered by z, y and then x.
+ */
+final class SectionWriter {
+
+    static final int SECTION_MASK = 15;
+    static final int SECTION_VOLUME = (SECTION_MASK + 1) * (SECTION_MASK + 1) * (SECTION_MASK + 1);
+
+    private final MutableBlockVolume destination;
+    final BlockState[] blocks = new BlockState[SECTION_VOLUME];
+
+    SectionWriter(MutableBlockVolume destination) {
+        this.destination = destination;
+    }
+
+    /**
+     * Gets the last coordinate of the section which contains the given
+     * coordinate, but no further than the end of the range.
+     *
+     * @param min The coordinate in the worker volume
+     * @param offset The offset from the worker volume to the destination
+     * @param max The last coordinate of the range
+     * @return The last coordinate of the section within the range
+     */
+    static int getSectionEnd(int min, int offset, int max) {
+        return Math.min(max, ((min + offset) | SECTION_MASK) - offset);
+    }
+
+    void write(int xMin, int yMin, int zMin, int xMax, int yMax, int zMax) {
+        if (this.destination instanceof ArrayMutableBlockBuffer) {
+            ((ArrayMutableBlockBuffer) this.destination).setBlocks(xMin, yMin, zMin, xMax, yMax, zMax, this.blocks);
+            return;
+        }
+        // Every change to an extent goes through block tracking, which is
+        // expensive enough to be worth skipping blocks which stay the same
+        final boolean skipUnchanged = this.destination instanceof Extent;
+        int index = 0;
+        for (int z = zMin; z <= zMax; z++) {
+            for (int y = yMin; y <= yMax; y++) {
+                for (int x = xMin; x <= xMax; x++) {
+                    final BlockState block = this.blocks[index++];
+                    if (!skipUnchanged || this.destination.getBlock(x, y, z) != block) {
+                        this.destination.setBlock(x, y, z, block);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -31,6 +31,7 @@
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.ImmutableBlockVolume;
 import org.spongepowered.api.world.extent.MutableBlockVolume;
 import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
 import org.spongepowered.api.world.extent.worker.BlockVolumeWorker;
@@ -40,7 +41,10 @@
 import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeVisitor;
 import org.spongepowered.common.event.tracking.phase.plugin.BasicPluginContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.util.gen.AbstractBlockBuffer;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.BiFunction;
 
 /**
@@ -48,6 +52,10 @@
  */
 public class SpongeBlockVolumeWorker<V extends BlockVolume> implements BlockVolumeWorker<V> {
 
+    // Volumes of at least two chunk sections are reduced on the common fork join pool,
+    // if the reducer is a ParallelBlockVolumeReducer
+    private static final int PARALLEL_REDUCE_THRESHOLD = 2 * SectionWriter.SECTION_VOLUME;
+
     protected final V volume;
 
     public SpongeBlockVolumeWorker(V volume) {
@@ -77,12 +85,23 @@ public void map(BlockVolumeMapper mapper, MutableBlockVolume destination) {
         try (BasicPluginContext phaseState = PluginPhase.State.BLOCK_WORKER.createPhaseContext()
             .source(this)) {
             phaseState.buildAndSwitch();
-            for (int z = zMin; z <= zMax; z++) {
-                for (int y = yMin; y <= yMax; y++) {
-                    for (int x = xMin; x <= xMax; x++) {
-                        final BlockState block = mapper.map(unmodifiableVolume, x, y, z);
-
-                        destination.setBlock(x + xOffset, y + yOffset, z + zOffset, block);
+            final SectionWriter writer = new SectionWriter(destination);
+            final BlockState[] blocks = writer.blocks;
+            for (int zStart = zMin, zEnd; zStart <= zMax; zStart = zEnd + 1) {
+                zEnd = SectionWriter.getSectionEnd(zStart, zOffset, zMax);
+                for (int yStart = yMin, yEnd; yStart <= yMax; yStart = yEnd + 1) {
+                    yEnd = SectionWriter.getSectionEnd(yStart, yOffset, yMax);
+                    for (int xStart = xMin, xEnd; xStart <= xMax; xStart = xEnd + 1) {
+                        xEnd = SectionWriter.getSectionEnd(xStart, xOffset, xMax);
+                        int index = 0;
+                        for (int z = zStart; z <= zEnd; z++) {
+                            for (int y = yStart; y <= yEnd; y++) {
+                                for (int x = xStart; x <= xEnd; x++) {
+                                    blocks[index++] = mapper.map(unmodifiableVolume, x, y, z);
+                                }
+                            }
+                        }
+                        writer.write(xStart + xOffset, yStart + yOffset, zStart + zOffset, xEnd + xOffset, yEnd + yOffset, zEnd + zOffset);
                     }
                 }
             }
@@ -110,12 +129,25 @@ public void merge(BlockVolume second, BlockVolumeMerger merger, MutableBlockVolu
         try (BasicPluginContext context = PluginPhase.State.BLOCK_WORKER.createPhaseContext()
             .source(this)) {
             context.buildAndSwitch();
-            for (int z = zMin; z <= zMax; z++) {
-                for (int y = yMin; y <= yMax; y++) {
-                    for (int x = xMin; x <= xMax; x++) {
-                        final BlockState block = merger.merge(firstUnmodifiableVolume, x, y, z,
-                            secondUnmodifiableVolume, x + xOffsetSecond, y + yOffsetSecond, z + zOffsetSecond);
-                        destination.setBlock(x + xOffsetDestination, y + yOffsetDestination, z + zOffsetDestination, block);
+            final SectionWriter writer = new SectionWriter(destination);
+            final BlockState[] blocks = writer.blocks;
+            for (int zStart = zMin, zEnd; zStart <= zMax; zStart = zEnd + 1) {
+                zEnd = SectionWriter.getSectionEnd(zStart, zOffsetDestination, zMax);
+                for (int yStart = yMin, yEnd; yStart <= yMax; yStart = yEnd + 1) {
+                    yEnd = SectionWriter.getSectionEnd(yStart, yOffsetDestination, yMax);
+                    for (int xStart = xMin, xEnd; xStart <= xMax; xStart = xEnd + 1) {
+                        xEnd = SectionWriter.getSectionEnd(xStart, xOffsetDestination, xMax);
+                        int index = 0;
+                        for (int z = zStart; z <= zEnd; z++) {
+                            for (int y = yStart; y <= yEnd; y++) {
+                                for (int x = xStart; x <= xEnd; x++) {
+                                    blocks[index++] = merger.merge(firstUnmodifiableVolume, x, y, z,
+                                        secondUnmodifiableVolume, x + xOffsetSecond, y + yOffsetSecond, z + zOffsetSecond);
+                                }
+                            }
+                        }
+                        writer.write(xStart + xOffsetDestination, yStart + yOffsetDestination, zStart + zOffsetDestination,
+                            xEnd + xOffsetDestination, yEnd + yOffsetDestination, zEnd + zOffsetDestination);
                     }
                 }
             }
@@ -153,17 +185,117 @@ public <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T
         final int xMax = unmodifiableVolume.getBlockMax().getX();
         final int yMax = unmodifiableVolume.getBlockMax().getY();
         final int zMax = unmodifiableVolume.getBlockMax().getZ();
+        if (reducer instanceof ParallelBlockVolumeReducer && canReduceInParallel()) {
+            return ForkJoinPool.commonPool().invoke(new ReduceTask<>(unmodifiableVolume, reducer, merge, identity,
+                xMin, yMin, zMin, xMax, yMax, zMax));
+        }
+        return reduce(unmodifiableVolume, reducer, identity, xMin, yMin, zMin, xMax, yMax, zMax);
+    }
+
+    /**
+     * Gets whether the volume can be read from several threads at once,
+     * which is the case for immutable volumes and in-memory buffers but not
+     * for worlds or chunks. Small volumes aren't worth splitting up.
+     */
+    private boolean canReduceInParallel() {
+        if (!(this.volume instanceof ImmutableBlockVolume) && !(this.volume instanceof AbstractBlockBuffer)) {
+            return false;
+        }
+        final Vector3i size = this.volume.getBlockSize();
+        return (long) size.getX() * size.getY() * size.getZ() >= PARALLEL_REDUCE_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    private static <T> T reduce(UnmodifiableBlockVolume volume, BlockVolumeReducer<T> reducer, T identity,
+        int xMin, int yMin, int zMin, int xMax, int yMax, int zMax) {
         T reduction = identity;
         for (int z = zMin; z <= zMax; z++) {
             for (int y = yMin; y <= yMax; y++) {
                 for (int x = xMin; x <= xMax; x++) {
-                    reduction = reducer.reduce(unmodifiableVolume, x, y, z, reduction);
+                    reduction = reducer.reduce(volume, x, y, z, reduction);
                 }
             }
         }
         return reduction;
     }
 
+    /**
+     * Reduces a box of the volume, splitting it along chunk section
+     * boundaries where possible. Only the outermost axis of the iteration
+     * which spans more than one block is split, so the partial results are
+     * merged in the same order the sequential reduction visits them.
+     */
+    static final class ReduceTask<T> extends RecursiveTask<T> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final UnmodifiableBlockVolume volume;
+        private final BlockVolumeReducer<T> reducer;
+        private final BiFunction<T, T, T> merge;
+        private final T identity;
+        private final int xMin;
+        private final int yMin;
+        private final int zMin;
+        private final int xMax;
+        private final int yMax;
+        private final int zMax;
+
+        ReduceTask(UnmodifiableBlockVolume volume, BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T identity,
+            int xMin, int yMin, int zMin, int xMax, int yMax, int zMax) {
+            this.volume = volume;
+            this.reducer = reducer;
+            this.merge = merge;
+            this.identity = identity;
+            this.xMin = xMin;
+            this.yMin = yMin;
+            this.zMin = zMin;
+            this.xMax = xMax;
+            this.yMax = yMax;
+            this.zMax = zMax;
+        }
+
+        @Override
+        protected T compute() {
+            final long size = (long) (this.xMax - this.xMin + 1) * (this.yMax - this.yMin + 1) * (this.zMax - this.zMin + 1);
+            if (size <= SectionWriter.SECTION_VOLUME) {
+                return reduce(this.volume, this.reducer, this.identity, this.xMin, this.yMin, this.zMin, this.xMax, this.yMax, this.zMax);
+            }
+            final ReduceTask<T> first;
+            final ReduceTask<T> second;
+            if (this.zMin != this.zMax) {
+                final int split = getSplit(this.zMin, this.zMax);
+                first = split(this.xMin, this.yMin, this.zMin, this.xMax, this.yMax, split);
+                second = split(this.xMin, this.yMin, split + 1, this.xMax, this.yMax, this.zMax);
+            } else if (this.yMin != this.yMax) {
+                final int split = getSplit(this.yMin, this.yMax);
+                first = split(this.xMin, this.yMin, this.zMin, this.xMax, split, this.zMax);
+                second = split(this.xMin, split + 1, this.zMin, this.xMax, this.yMax, this.zMax);
+            } else {
+                final int split = getSplit(this.xMin, this.xMax);
+                first = split(this.xMin, this.yMin, this.zMin, split, this.yMax, this.zMax);
+                second = split(split + 1, this.yMin, this.zMin, this.xMax, this.yMax, this.zMax);
+            }
+            second.fork();
+            final T firstResult = first.compute();
+            return this.merge.apply(firstResult, second.join());
+        }
+
+        private ReduceTask<T> split(int xMin, int yMin, int zMin, int xMax, int yMax, int zMax) {
+            return new ReduceTask<>(this.volume, this.reducer, this.merge, this.identity, xMin, yMin, zMin, xMax, yMax, zMax);
+        }
+
+        /**
+         * Gets the last coordinate of the first half, at a section boundary
+         * if the range spans more than one section.
+         */
+        static int getSplit(int min, int max) {
+            final int middle = min + (max - min) / 2;
+            if (max - min <= SectionWriter.SECTION_MASK) {
+                return middle;
+            }
+            return Math.min(max - 1, middle | SectionWriter.SECTION_MASK);
+        }
+    }
+
     private Vector3i align(BlockVolume other) {
         final Vector3i thisSize = this.volume.getBlockSize();
         final Vector3i otherSize = other.getBlockSize();
@@ -32,6 +32,8 @@
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.block.BlockFalling;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
@@ -96,7 +98,11 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -124,6 +130,10 @@ public class SpongeChunkGenerator implements WorldGenerator, IChunkGenerator {
     protected Map<String, Timing> populatorTimings = Maps.newHashMap();
     protected Timing chunkGeneratorTiming;
 
+    // Base terrain computed off the main thread, waiting to be picked up by generateChunk
+    private final Long2ObjectMap<ChunkPrimer> preparedTerrain = new Long2ObjectOpenHashMap<>();
+    private final Queue<ChunkGeneratorOverworld> terrainWorkers = new ConcurrentLinkedQueue<>();
+
     public SpongeChunkGenerator(World world, GenerationPopulator base, BiomeGenerator biomegen) {
         this.world = checkNotNull(world, "world");
         this.baseGenerator = checkNotNull(base, "baseGenerator");
@@ -165,6 +175,8 @@ public GenerationPopulator getBaseGenerationPopulator() {
     @Override
     public void setBaseGenerationPopulator(GenerationPopulator baseGenerationPopulator) {
         this.baseGenerator = baseGenerationPopulator;
+        this.terrainWorkers.clear();
+        this.preparedTerrain.clear();
         if (this.baseGenerator instanceof ChunkGeneratorOverworldBridge) {
             ((ChunkGeneratorOverworldBridge) this.baseGenerator).bridge$setBiomeGenerator(this.biomeGenerator);
         }
@@ -237,6 +249,80 @@ public List<Populator> getPopulators(Class<? extends Populator> type) {
         return this.pop.stream().filter((p) -> type.isAssignableFrom(p.getClass())).collect(Collectors.toList());
     }
 
+    /**
+     * Gets whether the base terrain of this generator can be computed off the
+     * main thread through {@link #prepareTerrain(int, int, Executor)}.
+     *
+     * @return True if terrain can be prepared
+     */
+    public boolean canPrepareTerrain() {
+        // Only the plain vanilla generator is known to keep all of its terrain state to itself
+        return this.getClass() == SpongeChunkGenerator.class && this.baseGenerator.getClass() == ChunkGeneratorOverworld.class;
+    }
+
+    /**
+     * Computes the base terrain of the given chunk on the given executor, so
+     * that the next {@link #generateChunk(int, int)} for it only has to run the
+     * generation populators. Biomes are still generated on the calling
+     * thread, which has to be the main thread.
+     *
+     * <p>The returned future completes on the main thread, and never
+     * exceptionally: if the terrain could not be prepared it is generated
+     * the usual way.</p>
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @param executor The executor to compute the terrain on
+     * @return The future completed once the terrain is prepared
+     */
+    public CompletableFuture<Void> prepareTerrain(int chunkX, int chunkZ, Executor executor) {
+        if (!canPrepareTerrain()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final ChunkGeneratorOverworldBridge base = (ChunkGeneratorOverworldBridge) this.baseGenerator;
+        ChunkGeneratorOverworld worker = this.terrainWorkers.poll();
+        if (worker == null) {
+            worker = base.bridge$createTerrainWorker();
+        }
+        final ChunkGeneratorOverworld terrainWorker = worker;
+        final Biome[] biomesForGeneration = base.bridge$getBiomesForGeneration(chunkX, chunkZ).clone();
+        this.cachedBiomes.reuse(new Vector3i(chunkX * 16, 0, chunkZ * 16));
+        this.biomeGenerator.generateBiomes(this.cachedBiomes);
+        final ImmutableBiomeVolume biomeBuffer = this.cachedBiomes.getImmutableBiomeCopy();
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                ((ChunkGeneratorOverworldBridge) terrainWorker).bridge$setPresetBiomesForGeneration(biomesForGeneration);
+                final ChunkPrimer chunkprimer = new ChunkPrimer();
+                ((GenerationPopulator) terrainWorker).populate((org.spongepowered.api.world.World) this.world,
+                    new ChunkPrimerBuffer(chunkprimer, chunkX, chunkZ), biomeBuffer);
+                return chunkprimer;
+            } finally {
+                ((ChunkGeneratorOverworldBridge) terrainWorker).bridge$setPresetBiomesForGeneration(null);
+                this.terrainWorkers.add(terrainWorker);
+            }
+        }, executor).handleAsync((chunkprimer, error) -> {
+            if (error != null) {
+                SpongeImpl.getLogger().error("Could not prepare the terrain of chunk {}, {} in world {}.", chunkX, chunkZ,
+                    this.world.getWorldInfo().getWorldName(), error);
+            } else {
+                this.preparedTerrain.put(key, chunkprimer);
+            }
+            return null;
+        }, SpongeImpl.getScheduler()::callSync);
+    }
+
+    /**
+     * Drops the terrain prepared for the given chunk, if it hasn't been used.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     */
+    public void discardPreparedTerrain(int chunkX, int chunkZ) {
+        this.preparedTerrain.remove(ChunkPos.asLong(chunkX, chunkZ));
+    }
+
     @Override
     public Chunk generateChunk(int chunkX, int chunkZ) {
         this.rand.setSeed(chunkX * 341873128712L + chunkZ * 132897987541L);
@@ -244,10 +330,16 @@ public Chunk generateChunk(int chunkX, int chunkZ) {
         this.biomeGenerator.generateBiomes(this.cachedBiomes);
         ImmutableBiomeVolume biomeBuffer = this.cachedBiomes.getImmutableBiomeCopy();
 
-        // Generate base terrain
-        ChunkPrimer chunkprimer = new ChunkPrimer();
+        // Generate base terrain, unless it was already prepared
+        ChunkPrimer chunkprimer = this.preparedTerrain.remove(ChunkPos.asLong(chunkX, chunkZ));
+        final boolean prepared = chunkprimer != null;
+        if (!prepared) {
+            chunkprimer = new ChunkPrimer();
+        }
         MutableBlockVolume blockBuffer = new ChunkPrimerBuffer(chunkprimer, chunkX, chunkZ);
-        this.baseGenerator.populate((org.spongepowered.api.world.World) this.world, blockBuffer, biomeBuffer);
+        if (!prepared) {
+            this.baseGenerator.populate((org.spongepowered.api.world.World) this.world, blockBuffer, biomeBuffer);
+        }
 
         if (!(this.baseGenerator instanceof SpongeGenerationPopulator)) {
             this.replaceBiomeBlocks(this.world, this.rand, chunkX, chunkZ, chunkprimer, biomeBuffer);
@@ -0,0 +1,86 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.gen;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.PreGenerationCategory;
+import org.spongepowered.common.config.type.GlobalConfig;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.Nullable;
+
+/**
+ * The worker threads which compute the base terrain of chunks during
+ * pre-generation, see {@link SpongeChunkGenerator#prepareTerrain}.
+ */
+public final class TerrainGenerationExecutor implements Executor {
+
+    private static boolean initialized;
+    @Nullable private static TerrainGenerationExecutor instance;
+
+    private final ExecutorService service;
+    private final int threads;
+
+    /**
+     * Gets the executor, if parallel terrain generation is enabled in the
+     * global config.
+     *
+     * @return The executor, or null if terrain is generated on the main thread
+     */
+    @Nullable
+    public static synchronized TerrainGenerationExecutor getInstance() {
+        if (!initialized) {
+            final GlobalConfig config = SpongeImpl.getGlobalConfigAdapter().getConfig();
+            final PreGenerationCategory category = config.getOptimizations().getPreGenerationCategory();
+            if (config.getModules().useOptimizations() && category.isParallelTerrain()) {
+                final int threads = category.getNumThreads() > 0 ? category.getNumThreads() : Runtime.getRuntime().availableProcessors() - 1;
+                instance = new TerrainGenerationExecutor(Math.max(1, threads));
+            }
+            initialized = true;
+        }
+        return instance;
+    }
+
+    private TerrainGenerationExecutor(int threads) {
+        this.threads = threads;
+        this.service = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+            .setNameFormat("Sponge - Terrain Generation Thread #%d")
+            .setDaemon(true)
+            .build());
+    }
+
+    public int getThreads() {
+        return this.threads;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        this.service.execute(command);
+    }
+}
@@ -30,6 +30,7 @@
 import com.flowpowered.math.GenericMath;
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.world.WorldServer;
 import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.slf4j.Logger;
 import org.spongepowered.api.Sponge;
@@ -44,12 +45,18 @@
 import org.spongepowered.api.world.WorldBorder;
 import org.spongepowered.api.world.storage.WorldProperties;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.bridge.world.WorldServerBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkProviderServerBridge;
+import org.spongepowered.common.world.gen.SpongeChunkGenerator;
+import org.spongepowered.common.world.gen.TerrainGenerationExecutor;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -63,6 +70,10 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
 
     private static final int DEFAULT_TICK_INTERVAL = 4;
     private static final float DEFAULT_TICK_PERCENT = 0.8f;
+    // Limits how far ahead of generation chunks are read from disk
+    private static final int MAX_PENDING_GROUPS = 64;
+    // Limits how many groups have their terrain prepared at once, per terrain generation thread
+    private static final int PENDING_GROUPS_PER_THREAD = 2;
 
     private static final Vector3i[] OFFSETS = {
             Vector3i.UNIT_Z.negate().mul(2),
@@ -75,6 +86,10 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
 
     private final World world;
     private final Predicate<Vector3i> doesChunkExistCheck;
+    private final boolean loadChunksAsync;
+    @Nullable private final SpongeChunkGenerator terrainGenerator;
+    @Nullable private final TerrainGenerationExecutor terrainExecutor;
+    private final int maxPendingGroups;
     private final int chunkRadius;
     private final int chunkCount;
     private final float tickPercent;
@@ -88,6 +103,9 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
     // If null, no listeners have been assigned, so they don't need to be registered or unregistered.
     @Nullable private final EventListener<ChunkPreGenerationEvent> eventListener;
 
+    // Groups waiting for their existing chunks to be read off the main thread.
+    private final Deque<PendingGroup> pendingGroups = new ArrayDeque<>();
+
     private Vector3i currentPosition;
     private int currentGenCount;
     private int currentLayer;
@@ -96,6 +114,8 @@ public class SpongeChunkPreGenerateTask implements ChunkPreGenerate, Consumer<Ta
 
     private int chunksSkipped = 0;
     private int chunksGenerated = 0;
+    private long mainThreadTime = 0;
+    private int steps = 0;
 
     // Used for wall clock times.
     private long generationStartTime = 0;
@@ -122,6 +142,21 @@ private SpongeChunkPreGenerateTask(Object plugin,
         } else {
             this.doesChunkExistCheck = v -> false;
         }
+        this.loadChunksAsync = world instanceof WorldServerBridge && world.getWorldStorage() instanceof ChunkProviderServerBridge;
+
+        // The terrain of missing chunks can be computed on worker threads, leaving only the generation
+        // populators, population and attaching the chunks to the world on the main thread.
+        final TerrainGenerationExecutor terrainExecutor = TerrainGenerationExecutor.getInstance();
+        if (terrainExecutor != null && world instanceof WorldServer
+                && ((WorldServer) world).getChunkProvider().chunkGenerator instanceof SpongeChunkGenerator) {
+            this.terrainGenerator = (SpongeChunkGenerator) ((WorldServer) world).getChunkProvider().chunkGenerator;
+            this.terrainExecutor = terrainExecutor;
+            this.maxPendingGroups = terrainExecutor.getThreads() * PENDING_GROUPS_PER_THREAD;
+        } else {
+            this.terrainGenerator = null;
+            this.terrainExecutor = null;
+            this.maxPendingGroups = MAX_PENDING_GROUPS;
+        }
 
         this.chunkRadius = GenericMath.floor(diameter / 32);
         this.chunkCount = chunkCount;
@@ -185,6 +220,27 @@ public Duration getTotalTime() {
         return Duration.of((isCancelled() ? this.generationEndTime : System.currentTimeMillis()) - this.generationStartTime, ChronoUnit.MILLIS);
     }
 
+    /**
+     * Gets the average amount of chunks generated per second, since the
+     * generation started.
+     *
+     * @return The chunks generated per second
+     */
+    public double getChunksPerSecond() {
+        final long time = getTotalTime().toMillis();
+        return time <= 0 ? 0 : this.chunksGenerated * 1000.0 / time;
+    }
+
+    /**
+     * Gets the average time the main thread spent on a generation step, in
+     * milliseconds.
+     *
+     * @return The average main thread time per step
+     */
+    public double getAverageStepTime() {
+        return this.steps == 0 ? 0 : (double) this.mainThreadTime / this.steps;
+    }
+
     @Override
     public boolean isCancelled() {
         if (this.isCancelled) {
@@ -208,6 +264,7 @@ public void cancel() {
             }
             this.spongeTask.cancel();
             this.isCancelled = true;
+            discardPendingGroups();
         }
     }
 
@@ -240,33 +297,52 @@ public void accept(Task task) {
         // Count how many chunks are generated during the tick
         int count = 0;
         int skipped = 0;
-        do {
+
+        // First finish the groups whose chunks have been read since the last step.
+        final Iterator<PendingGroup> pendingIterator = this.pendingGroups.iterator();
+        while (pendingIterator.hasNext() && checkChunkCount(count) && checkTickTime(System.currentTimeMillis() - stepStartTime)) {
+            final PendingGroup group = pendingIterator.next();
+            if (group.ready.isDone()) {
+                pendingIterator.remove();
+                generateChunks(group.positions);
+                count += group.genCount;
+            }
+        }
+
+        while (hasNextChunkPosition() && this.pendingGroups.size() < this.maxPendingGroups && checkChunkCount(count)
+                && checkTickTime(System.currentTimeMillis() - stepStartTime)) {
             final Vector3i position = nextChunkPosition();
             final Vector3i pos1 = position.sub(Vector3i.UNIT_X);
             final Vector3i pos2 = position.sub(Vector3i.UNIT_Z);
             final Vector3i pos3 = pos2.sub(Vector3i.UNIT_X);
 
             // We can only skip generation if all chunks are loaded.
-            if (!areAllChunksLoaded(position, pos1, pos2, pos3)) {
-
-                // At least one chunk isn't generated, so to populate, we need to load them all.
-                this.world.loadChunk(position, true);
-                this.world.loadChunk(pos1, true);
-                this.world.loadChunk(pos2, true);
-                this.world.loadChunk(pos3, true);
-
-                count += this.currentGenCount;
+            final Vector3i[] positions = {position, pos1, pos2, pos3};
+            final CompletableFuture<Void> ready = prepareChunks(positions);
+            if (ready != null) {
+
+                // At least one chunk isn't generated, so to populate, we need to load them all. The ones
+                // that already exist are read and the terrain of the missing ones is computed off the
+                // main thread, the group is generated once everything is in.
+                if (ready.isDone()) {
+                    generateChunks(positions);
+                    count += this.currentGenCount;
+                } else {
+                    this.pendingGroups.add(new PendingGroup(positions, this.currentGenCount, ready));
+                }
             } else {
 
                 // Skipped them, log this.
                 skipped += this.currentGenCount;
             }
-        } while (hasNextChunkPosition() && checkChunkCount(count) && checkTickTime(System.currentTimeMillis() - stepStartTime));
+        }
 
         this.chunksGenerated += count;
         this.chunksSkipped += skipped;
 
         final long deltaTime = System.currentTimeMillis() - stepStartTime;
+        this.mainThreadTime += deltaTime;
+        this.steps++;
         this.generationEndTime = System.currentTimeMillis();
 
         // Create and fire event.
@@ -282,7 +358,7 @@ public void accept(Task task) {
             return;
         }
 
-        if (!hasNextChunkPosition()) {
+        if (!hasNextChunkPosition() && this.pendingGroups.isEmpty()) {
             // Generation has completed.
             Sponge.getEventManager().post(SpongeEventFactory.createChunkPreGenerationEventComplete(
                     this.cause,
@@ -296,9 +372,47 @@ public void accept(Task task) {
         }
     }
 
-    private boolean areAllChunksLoaded(Vector3i chunk1, Vector3i chunk2, Vector3i chunk3, Vector3i chunk4) {
-        return this.doesChunkExistCheck.test(chunk1) && this.doesChunkExistCheck.test(chunk2) &&
-                this.doesChunkExistCheck.test(chunk3) && this.doesChunkExistCheck.test(chunk4);
+    /**
+     * Starts loading the existing chunks of a group and preparing the terrain
+     * of the missing ones.
+     *
+     * @param positions The chunk positions of the group
+     * @return The future completed once the group can be generated, or null
+     *     if all chunks already exist
+     */
+    @Nullable
+    private CompletableFuture<Void> prepareChunks(Vector3i[] positions) {
+        final boolean[] exists = new boolean[positions.length];
+        boolean allExist = true;
+        for (int i = 0; i < positions.length; i++) {
+            exists[i] = this.doesChunkExistCheck.test(positions[i]);
+            allExist &= exists[i];
+        }
+        if (allExist) {
+            return null;
+        }
+        final List<CompletableFuture<?>> futures = new ArrayList<>(positions.length);
+        for (int i = 0; i < positions.length; i++) {
+            final Vector3i position = positions[i];
+            if (exists[i]) {
+                if (this.loadChunksAsync) {
+                    futures.add(((WorldServerBridge) this.world).bridge$loadChunkAsync(position.getX(), position.getZ()));
+                }
+            } else if (this.terrainGenerator != null) {
+                futures.add(this.terrainGenerator.prepareTerrain(position.getX(), position.getZ(), this.terrainExecutor));
+            }
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
+    private void generateChunks(Vector3i[] positions) {
+        for (Vector3i position : positions) {
+            this.world.loadChunk(position, true);
+            if (this.terrainGenerator != null) {
+                // Chunk might have been loaded from disk meanwhile
+                this.terrainGenerator.discardPreparedTerrain(position.getX(), position.getZ());
+            }
+        }
     }
 
     private void unregisterListener() {
@@ -316,6 +430,28 @@ private void cancelTask(Task task) {
 
         this.isCancelled = true;
         unregisterListener();
+        discardPendingGroups();
+    }
+
+    /**
+     * Drops the terrain prepared for the groups that will never be generated
+     * now that the task is cancelled. Terrain still being computed is dropped
+     * once it's done.
+     */
+    private void discardPendingGroups() {
+        if (this.terrainGenerator == null) {
+            this.pendingGroups.clear();
+            return;
+        }
+        final SpongeChunkGenerator terrainGenerator = this.terrainGenerator;
+        for (PendingGroup group : this.pendingGroups) {
+            group.ready.whenCompleteAsync((result, error) -> {
+                for (Vector3i position : group.positions) {
+                    terrainGenerator.discardPreparedTerrain(position.getX(), position.getZ());
+                }
+            }, SpongeImpl.getScheduler()::callSync);
+        }
+        this.pendingGroups.clear();
     }
 
     private boolean hasNextChunkPosition() {
@@ -364,6 +500,19 @@ private boolean checkChunkExistsAnvil(Vector3i v) {
         }
     }
 
+    private static final class PendingGroup {
+
+        final Vector3i[] positions;
+        final int genCount;
+        final CompletableFuture<Void> ready;
+
+        PendingGroup(Vector3i[] positions, int genCount, CompletableFuture<Void> ready) {
+            this.positions = positions;
+            this.genCount = genCount;
+            this.ready = ready;
+        }
+    }
+
     public static class Builder implements ChunkPreGenerate.Builder {
 
         private static final String TIME_FORMAT = "s's 'S'ms'";
@@ -401,15 +550,21 @@ public ChunkPreGenerate.Builder logger(@Nullable Logger logger) {
                 this.addListener(event -> {
                     if (event instanceof ChunkPreGenerationEvent.Post) {
                         ChunkPreGenerationEvent.Post post = (ChunkPreGenerationEvent.Post) event;
-                        logger.info("Generated {} chunks in {}, {}% complete", post.getChunksGeneratedThisStep(),
+                        SpongeChunkPreGenerateTask task = (SpongeChunkPreGenerateTask) post.getChunkPreGenerate();
+                        logger.info("Generated {} chunks in {} ({} chunks/s, {} ms per step on the main thread), {}% complete",
+                            post.getChunksGeneratedThisStep(),
                             DurationFormatUtils.formatDuration(post.getTimeTakenForStep().toMillis(), TIME_FORMAT, false),
+                            String.format("%.1f", task.getChunksPerSecond()),
+                            String.format("%.1f", task.getAverageStepTime()),
                             GenericMath.floor(
                                 100 * (post.getChunkPreGenerate().getTotalGeneratedChunks() + post.getChunkPreGenerate().getTotalSkippedChunks())
                                     / post.getChunkPreGenerate().getTargetTotalChunks())
                         );
                     } else if (event instanceof ChunkPreGenerationEvent.Complete) {
-                        logger.info("Done! Generated a total of {} chunks in {}", event.getChunkPreGenerate().getTargetTotalChunks(),
-                            DurationFormatUtils.formatDuration(event.getChunkPreGenerate().getTotalTime().toMillis(), TIME_FORMAT, false));
+                        SpongeChunkPreGenerateTask task = (SpongeChunkPreGenerateTask) event.getChunkPreGenerate();
+                        logger.info("Done! Generated a total of {} chunks in {} ({} chunks/s)", task.getTargetTotalChunks(),
+                            DurationFormatUtils.formatDuration(task.getTotalTime().toMillis(), TIME_FORMAT, false),
+                            String.format("%.1f", task.getChunksPerSecond()));
                     }
                 });
             }
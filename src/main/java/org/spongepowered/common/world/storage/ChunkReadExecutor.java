@@ -0,0 +1,71 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.nbt.NBTTagCompound;
+import org.spongepowered.common.bridge.world.chunk.storage.AnvilChunkLoaderBridge;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Reads chunk data for asynchronous chunk loads on dedicated threads, so that
+ * chunk IO never waits behind other asynchronous work such as profile
+ * lookups, and never delays it either.
+ */
+public final class ChunkReadExecutor {
+
+    private static final int THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(THREADS, new ThreadFactoryBuilder()
+        .setNameFormat("Sponge - Chunk Read Thread #%d")
+        .setDaemon(true)
+        .build());
+
+    /**
+     * Reads the data of the chunk at the given position.
+     *
+     * @param loader The chunk loader to read from
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The future chunk data, completing with null if the chunk has
+     *     not been saved yet
+     */
+    public static CompletableFuture<NBTTagCompound> read(AnvilChunkLoaderBridge loader, int x, int z) {
+        final CompletableFuture<NBTTagCompound> future = new CompletableFuture<>();
+        EXECUTOR.execute(() -> {
+            try {
+                future.complete(loader.bridge$readChunkData(x, z));
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    private ChunkReadExecutor() {
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.util.math.ChunkPos;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.bridge.world.chunk.storage.AnvilChunkLoaderBridge;
+import org.spongepowered.common.config.category.ChunkSaveCategory;
+import org.spongepowered.common.config.type.GlobalConfig;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+/**
+ * Writes queued chunks of all worlds on a fixed set of save threads. Every
+ * region file is owned by exactly one thread, so that writers never contend
+ * on the same {@link net.minecraft.world.chunk.storage.RegionFile} and the
+ * writes of a single chunk stay in order.
+ */
+public final class ChunkSavePipeline {
+
+    private static boolean initialized;
+    @Nullable private static ChunkSavePipeline instance;
+
+    private final ExecutorService[] shards;
+    private final int maxPendingChunks;
+    private final AtomicInteger pendingChunks = new AtomicInteger();
+    private final LongAdder chunksWritten = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder coalescedSaves = new LongAdder();
+    private final LongAdder writeTime = new LongAdder();
+    private final LongAccumulator maxWriteTime = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * Gets the pipeline, if enabled in the global config.
+     *
+     * @return The pipeline, or null if chunks are written by the vanilla
+     *     file IO thread
+     */
+    @Nullable
+    public static synchronized ChunkSavePipeline getInstance() {
+        if (!initialized) {
+            final GlobalConfig config = SpongeImpl.getGlobalConfigAdapter().getConfig();
+            final ChunkSaveCategory category = config.getOptimizations().getChunkSaveCategory();
+            if (config.getModules().useOptimizations() && category.isEnabled()) {
+                instance = new ChunkSavePipeline(Math.max(1, category.getNumThreads()), category.getMaxPendingChunks());
+            }
+            initialized = true;
+        }
+        return instance;
+    }
+
+    private ChunkSavePipeline(int threads, int maxPendingChunks) {
+        this.shards = new ExecutorService[threads];
+        for (int i = 0; i < threads; i++) {
+            this.shards[i] = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("Sponge - Chunk Save Thread #" + i)
+                .setDaemon(true)
+                .build());
+        }
+        this.maxPendingChunks = maxPendingChunks;
+    }
+
+    /**
+     * Queues the chunk at the given position to be written by the save
+     * thread owning its region file.
+     *
+     * @param loader The chunk loader the chunk belongs to
+     * @param pos The position of the chunk
+     */
+    public void submit(AnvilChunkLoaderBridge loader, ChunkPos pos) {
+        final int hash = 31 * (31 * loader.bridge$getWorldDir().hashCode() + (pos.x >> 5)) + (pos.z >> 5);
+        this.pendingChunks.incrementAndGet();
+        this.shards[Math.floorMod(hash ^ (hash >>> 16), this.shards.length)].execute(() -> {
+            this.pendingChunks.decrementAndGet();
+            loader.bridge$writeQueuedChunk(pos);
+        });
+    }
+
+    /**
+     * Gets whether so many chunks are waiting to be written that worlds
+     * should hold back unloading further chunks.
+     *
+     * @return True if the save threads are behind
+     */
+    public boolean isBacklogged() {
+        return this.maxPendingChunks > 0 && this.pendingChunks.get() > this.maxPendingChunks;
+    }
+
+    public void recordCoalescedSave() {
+        this.coalescedSaves.increment();
+    }
+
+    /**
+     * Records a written chunk.
+     *
+     * @param nanos The time the write took, in nanoseconds
+     */
+    public void recordWrite(long nanos) {
+        this.chunksWritten.increment();
+        this.writeTime.add(nanos);
+        this.maxWriteTime.accumulate(nanos);
+    }
+
+    /**
+     * Records the uncompressed size of written chunk data.
+     *
+     * @param bytes The amount of bytes
+     */
+    public void recordBytesWritten(int bytes) {
+        this.bytesWritten.add(bytes);
+    }
+
+    public int getPendingChunks() {
+        return this.pendingChunks.get();
+    }
+
+    public long getChunksWritten() {
+        return this.chunksWritten.sum();
+    }
+
+    /**
+     * Gets the total uncompressed size of all written chunk data.
+     *
+     * @return The written bytes
+     */
+    public long getBytesWritten() {
+        return this.bytesWritten.sum();
+    }
+
+    public long getCoalescedSaves() {
+        return this.coalescedSaves.sum();
+    }
+
+    /**
+     * Gets the total time spent writing chunks, in nanoseconds.
+     *
+     * @return The total write time
+     */
+    public long getTotalWriteTime() {
+        return this.writeTime.sum();
+    }
+
+    public long getMaxWriteTime() {
+        return this.maxWriteTime.get();
+    }
+}
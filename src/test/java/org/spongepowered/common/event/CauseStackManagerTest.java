@@ -29,6 +29,7 @@
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
 import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.cause.EventContextKeys;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
@@ -90,4 +91,30 @@ public void testPoppingFrameRemovesFrameContexts() throws Exception {
         Assert.assertFalse(causeStackManager.getContext(EventContextKeys.OWNER).isPresent());
     }
 
+    @Test
+    public void testPoppingFrameRestoresCause() throws Exception {
+        final SpongeCauseStackManager causeStackManager = SpongeImpl.getCauseStackManager();
+
+        User user = Mockito.mock(User.class);
+
+        SpongeCauseStackManager.StackFrame frame1 = causeStackManager.pushCauseFrame();
+        causeStackManager.pushCause(1);
+        causeStackManager.addContext(EventContextKeys.OWNER, user);
+        final Cause cause = causeStackManager.getCurrentCause();
+
+        SpongeCauseStackManager.StackFrame frame = causeStackManager.pushCauseFrame();
+        causeStackManager.pushCause(2);
+        causeStackManager.addContext(EventContextKeys.NOTIFIER, user);
+        Assert.assertEquals(2, causeStackManager.getCurrentCause().root());
+        Assert.assertTrue(causeStackManager.getCurrentContext().containsKey(EventContextKeys.NOTIFIER));
+
+        // Popping the frame gives back the same cause as before it was pushed
+        causeStackManager.popCauseFrame(frame);
+        Assert.assertSame(cause, causeStackManager.getCurrentCause());
+        Assert.assertFalse(causeStackManager.getCurrentContext().containsKey(EventContextKeys.NOTIFIER));
+
+        causeStackManager.popCauseFrame(frame1);
+        Assert.assertNotSame(cause, causeStackManager.getCurrentCause());
+    }
+
 }
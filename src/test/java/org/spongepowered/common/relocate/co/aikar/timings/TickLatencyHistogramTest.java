@@ -0,0 +1,71 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.relocate.co.aikar.timings;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class TickLatencyHistogramTest {
+
+    @Test
+    public void testBucketsCoverTheirValues() {
+        for (long micros = 0; micros < 1000000; micros += 7) {
+            int bucket = TickLatencyHistogram.getBucket(micros);
+            assertTrue(micros <= TickLatencyHistogram.getBucketLimit(bucket));
+            assertTrue(bucket == 0 || micros > TickLatencyHistogram.getBucketLimit(bucket - 1));
+        }
+        assertEquals(TickLatencyHistogram.BUCKETS - 1, TickLatencyHistogram.getBucket(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testPercentiles() {
+        TickLatencyHistogram histogram = new TickLatencyHistogram(5, 1200);
+        for (int tick = 1; tick <= 1000; tick++) {
+            histogram.record(tick, tick * 100000L);
+        }
+        TickLatencyHistogram.Snapshot snapshot = histogram.snapshot(1000);
+        assertEquals(1000, snapshot.getSamples());
+        assertEquals(50050000, snapshot.getMean(), 0.001);
+        assertEquals(100000000, snapshot.getMax());
+        // Bucketing keeps the percentiles within 1/16th above the exact value
+        assertTrue(snapshot.getPercentile(50) >= 50000000 && snapshot.getPercentile(50) <= 50000000 * 17 / 16);
+        assertTrue(snapshot.getPercentile(99) >= 99000000 && snapshot.getPercentile(99) <= 100000000);
+        assertEquals(100000000, snapshot.getPercentile(100));
+    }
+
+    @Test
+    public void testOldSlotsLeaveTheWindow() {
+        TickLatencyHistogram histogram = new TickLatencyHistogram(2, 10);
+        histogram.record(1, 5000000);
+        histogram.record(15, 1000000);
+        assertEquals(2, histogram.snapshot(15).getSamples());
+        histogram.record(25, 1000000);
+        assertEquals(2, histogram.snapshot(25).getSamples());
+        assertEquals(1000000, histogram.snapshot(25).getMax());
+        assertEquals(0, histogram.snapshot(100).getSamples());
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.relocate.co.aikar.timings;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import org.junit.Test;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+
+public class TimingsLocalExportTest {
+
+    // Tick runs two worlds which both tick entities, "All Plugins" is the group handler of the plugin timings
+    private static final String REPORT = "{"
+            + "'idmap': {"
+            + "  'groups': {'1': 'Minecraft', '2': 'Plugins'},"
+            + "  'handlers': {'1': [1, 'Tick'], '2': [1, 'World A'], '3': [1, 'World B'], '4': [1, 'Entity'],"
+            + "    '5': [2, 'All Plugins'], '6': [2, 'MyPlugin']}"
+            + "},"
+            + "'data': [{'tk': 10, 'h': ["
+            + "  [1, 10, 100000000, [[2, 10, 40000000], [3, 10, 40000000]]],"
+            + "  [2, 10, 40000000, [[4, 5, 20000000]]],"
+            + "  [3, 10, 40000000, [[4, 5, 20000000]]],"
+            + "  [4, 10, 40000000],"
+            + "  [5, 1, 10000000, [[6, 1, 10000000]]],"
+            + "  [6, 1, 10000000]"
+            + "]}]"
+            + "}";
+
+    private static JsonObject parse(String json) {
+        return new JsonParser().parse(json).getAsJsonObject();
+    }
+
+    @Test
+    public void testCollapsedStacksSplitSharedChildren() throws IOException {
+        final StringWriter output = new StringWriter();
+        try (BufferedWriter writer = new BufferedWriter(output)) {
+            TimingsLocalExport.writeCollapsedStacks(parse(REPORT), new IntOpenHashSet(new int[] {5}), writer);
+        }
+        // Entity is split evenly between both worlds, the group handler is left out
+        assertEquals(ImmutableSet.of(
+                "Tick 20000",
+                "Tick;World A 20000",
+                "Tick;World A;Entity 20000",
+                "Tick;World B 20000",
+                "Tick;World B;Entity 20000",
+                "Plugins - MyPlugin 10000"),
+                new HashSet<>(Arrays.asList(output.toString().split(System.lineSeparator()))));
+    }
+
+    @Test
+    public void testTickAverages() {
+        final Map<String, double[]> averages = TimingsLocalExport.getTickAverages(parse(REPORT));
+        assertEquals(10, TimingsLocalExport.getMillis(averages, "Tick"), 0.0001);
+        assertEquals(4, TimingsLocalExport.getMillis(averages, "Entity"), 0.0001);
+        assertEquals(1, TimingsLocalExport.getMillis(averages, "Plugins - All Plugins"), 0.0001);
+        assertEquals(0, TimingsLocalExport.getMillis(averages, "Missing"), 0.0001);
+    }
+
+    @Test
+    public void testChangedHandlers() {
+        final Map<String, double[]> before = ImmutableMap.of(
+                "Tick", new double[] {10},
+                "Entity", new double[] {4},
+                "Gone", new double[] {1},
+                "Same", new double[] {2});
+        final Map<String, double[]> after = ImmutableMap.of(
+                "Tick", new double[] {13},
+                "Entity", new double[] {2},
+                "New", new double[] {0.5},
+                "Same", new double[] {2.0001});
+        assertEquals(Arrays.asList("Tick", "Entity", "Gone", "New"), TimingsLocalExport.getChangedHandlers(before, after));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.permission.base;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+import org.spongepowered.api.util.Tristate;
+
+public class CompiledNodeTreeTest {
+
+    @Test
+    public void testMostSpecificNodeWins() {
+        CompiledNodeTree tree = CompiledNodeTree.of(ImmutableMap.of("sponge", true, "sponge.command.ban", false));
+        assertEquals(Tristate.TRUE, tree.get("sponge"));
+        assertEquals(Tristate.TRUE, tree.get("sponge.command"));
+        assertEquals(Tristate.FALSE, tree.get("sponge.command.ban"));
+        assertEquals(Tristate.FALSE, tree.get("sponge.command.ban.ip"));
+        assertEquals(Tristate.UNDEFINED, tree.get("minecraft.command"));
+    }
+
+    @Test
+    public void testPartialSegmentsDoNotMatch() {
+        CompiledNodeTree tree = CompiledNodeTree.of(ImmutableMap.of("sponge.command", true));
+        assertEquals(Tristate.UNDEFINED, tree.get("sponge.comm"));
+        assertEquals(Tristate.UNDEFINED, tree.get("sponge.commands"));
+        assertEquals(Tristate.UNDEFINED, tree.get("spongecommand"));
+    }
+
+    @Test
+    public void testCaseInsensitive() {
+        CompiledNodeTree tree = CompiledNodeTree.of(ImmutableMap.of("Sponge.Command", true));
+        assertEquals(Tristate.TRUE, tree.get("sponge.command.help"));
+        assertEquals(Tristate.TRUE, tree.get("SPONGE.COMMAND"));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.util.UUID;
+
+public class SpongeUsernameCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testLookupAndSaveRoundTrip() throws IOException {
+        SpongeUsernameCache.setServerDir(this.folder.newFolder());
+        SpongeUsernameCache.load();
+
+        final UUID first = UUID.randomUUID();
+        final UUID second = UUID.randomUUID();
+        SpongeUsernameCache.setUsername(first, "Notch");
+        SpongeUsernameCache.setUsername(second, "jeb_");
+        assertEquals(first, SpongeUsernameCache.getLastKnownUUID("notch"));
+
+        // Renames drop the old name from the index
+        SpongeUsernameCache.setUsername(first, "Dinnerbone");
+        assertNull(SpongeUsernameCache.getLastKnownUUID("Notch"));
+        assertEquals(first, SpongeUsernameCache.getLastKnownUUID("DINNERBONE"));
+
+        SpongeUsernameCache.save();
+        SpongeUsernameCache.removeUsername(second);
+        assertNull(SpongeUsernameCache.getLastKnownUUID("jeb_"));
+
+        SpongeUsernameCache.load();
+        assertEquals(second, SpongeUsernameCache.getLastKnownUUID("Jeb_"));
+        assertEquals("Dinnerbone", SpongeUsernameCache.getLastKnownUsername(first));
+    }
+
+    @Test
+    public void testReusedUsernames() throws IOException {
+        SpongeUsernameCache.setServerDir(this.folder.newFolder());
+        SpongeUsernameCache.load();
+
+        final UUID first = UUID.randomUUID();
+        final UUID second = UUID.randomUUID();
+        SpongeUsernameCache.setUsername(first, "Notch");
+        SpongeUsernameCache.setUsername(second, "notch");
+        assertEquals(second, SpongeUsernameCache.getLastKnownUUID("Notch"));
+
+        // The other player which still has the name is found after a rename
+        SpongeUsernameCache.setUsername(second, "jeb_");
+        assertEquals(first, SpongeUsernameCache.getLastKnownUUID("Notch"));
+        SpongeUsernameCache.removeUsername(first);
+        assertNull(SpongeUsernameCache.getLastKnownUUID("Notch"));
+    }
+}
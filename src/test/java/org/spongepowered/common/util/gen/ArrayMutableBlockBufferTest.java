@@ -0,0 +1,98 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util.gen;
+
+import static org.junit.Assert.assertEquals;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
+
+@RunWith(LaunchWrapperTestRunner.class)
+public class ArrayMutableBlockBufferTest {
+
+    @SuppressWarnings("ConstantConditions")
+    private static BlockState[] getStates() {
+        return new BlockState[] {
+            BlockTypes.STONE.getDefaultState(),
+            BlockTypes.DIRT.getDefaultState(),
+            BlockTypes.GRASS.getDefaultState(),
+            BlockTypes.COBBLESTONE.getDefaultState(),
+            BlockTypes.PLANKS.getDefaultState(),
+            BlockTypes.SAND.getDefaultState(),
+            BlockTypes.GRAVEL.getDefaultState(),
+            BlockTypes.GLASS.getDefaultState(),
+            BlockTypes.WOOL.getDefaultState(),
+            BlockTypes.BEDROCK.getDefaultState(),
+        };
+    }
+
+    @Test
+    public void testSetBlocksGrowsPalette() {
+        // Large enough for a local palette, which starts out with only air
+        final ArrayMutableBlockBuffer buffer = new ArrayMutableBlockBuffer(Vector3i.ZERO, new Vector3i(8, 8, 8));
+        final BlockState[] states = getStates();
+        final BlockState[] blocks = new BlockState[8 * 8 * 8];
+        for (int i = 0; i < blocks.length; i++) {
+            // Runs of the same state span palette growth
+            blocks[i] = states[i / 7 % states.length];
+        }
+        buffer.setBlocks(0, 0, 0, 7, 7, 7, blocks);
+
+        int index = 0;
+        for (int z = 0; z <= 7; z++) {
+            for (int y = 0; y <= 7; y++) {
+                for (int x = 0; x <= 7; x++) {
+                    assertEquals(blocks[index++], buffer.getBlock(x, y, z));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSetBlocksPartialBox() {
+        final ArrayMutableBlockBuffer buffer = new ArrayMutableBlockBuffer(new Vector3i(-4, -4, -4), new Vector3i(8, 8, 8));
+        final BlockState[] states = getStates();
+        final BlockState[] blocks = new BlockState[3 * 4 * 5];
+        for (int i = 0; i < blocks.length; i++) {
+            blocks[i] = states[i / 2 % states.length];
+        }
+        buffer.setBlocks(-2, -1, 0, 0, 2, 4, blocks);
+
+        final BlockState air = buffer.getBlock(-4, -4, -4);
+        int index = 0;
+        for (int z = -4; z <= 3; z++) {
+            for (int y = -4; y <= 3; y++) {
+                for (int x = -4; x <= 3; x++) {
+                    final boolean inside = x >= -2 && x <= 0 && y >= -1 && y <= 2 && z >= 0 && z <= 4;
+                    assertEquals(inside ? blocks[index++] : air, buffer.getBlock(x, y, z));
+                }
+            }
+        }
+    }
+}
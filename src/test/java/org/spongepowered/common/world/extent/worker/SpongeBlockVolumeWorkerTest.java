@@ -0,0 +1,88 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.extent.worker;
+
+import static org.junit.Assert.assertEquals;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+public class SpongeBlockVolumeWorkerTest {
+
+    @Test
+    public void testSplitAtSectionBoundary() {
+        assertEquals(15, SpongeBlockVolumeWorker.ReduceTask.getSplit(0, 31));
+        assertEquals(15, SpongeBlockVolumeWorker.ReduceTask.getSplit(3, 20));
+        assertEquals(15, SpongeBlockVolumeWorker.ReduceTask.getSplit(0, 16));
+        assertEquals(-1, SpongeBlockVolumeWorker.ReduceTask.getSplit(-32, 31));
+        assertEquals(-17, SpongeBlockVolumeWorker.ReduceTask.getSplit(-40, -1));
+    }
+
+    @Test
+    public void testSplitWithinSection() {
+        assertEquals(4, SpongeBlockVolumeWorker.ReduceTask.getSplit(0, 9));
+        assertEquals(-8, SpongeBlockVolumeWorker.ReduceTask.getSplit(-15, 0));
+    }
+
+    @Test
+    public void testParallelReduceKeepsOrder() {
+        final ParallelBlockVolumeReducer<List<Vector3i>> reducer = (volume, x, y, z, reduction) ->
+            ImmutableList.<Vector3i>builder().addAll(reduction).add(new Vector3i(x, y, z)).build();
+        final List<Vector3i> result = ForkJoinPool.commonPool().invoke(new SpongeBlockVolumeWorker.ReduceTask<>(null, reducer,
+            (first, second) -> ImmutableList.<Vector3i>builder().addAll(first).addAll(second).build(), ImmutableList.of(),
+            -10, -10, -10, 9, 9, 9));
+
+        final ImmutableList.Builder<Vector3i> expected = ImmutableList.builder();
+        for (int z = -10; z <= 9; z++) {
+            for (int y = -10; y <= 9; y++) {
+                for (int x = -10; x <= 9; x++) {
+                    expected.add(new Vector3i(x, y, z));
+                }
+            }
+        }
+        assertEquals(expected.build(), result);
+    }
+
+    @Test
+    public void testSectionEnd() {
+        assertEquals(15, SectionWriter.getSectionEnd(0, 0, 100));
+        assertEquals(31, SectionWriter.getSectionEnd(20, 0, 100));
+        assertEquals(12, SectionWriter.getSectionEnd(0, 3, 100));
+        assertEquals(10, SectionWriter.getSectionEnd(0, 0, 10));
+    }
+
+    @Test
+    public void testSectionEndNegative() {
+        assertEquals(-17, SectionWriter.getSectionEnd(-20, 0, 100));
+        assertEquals(-1, SectionWriter.getSectionEnd(-16, 0, 100));
+        assertEquals(-17, SectionWriter.getSectionEnd(-17, 0, 100));
+        assertEquals(-4, SectionWriter.getSectionEnd(-5, 3, 100));
+        assertEquals(-18, SectionWriter.getSectionEnd(-20, 0, -18));
+    }
+}